@@ -0,0 +1,41 @@
+package com.spring.hotel_management_backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.hotel_management_backend.service.admin.dashboard.DashboardCacheKey;
+import com.spring.hotel_management_backend.service.admin.impl.ReportJobServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+// Cache names, sizes and TTL are in application.properties (spring.cache.*)
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Dashboard methods take the hotel id first; keep it addressable for per-hotel eviction
+    @Bean
+    public KeyGenerator dashboardKeyGenerator() {
+        return (target, method, params) -> new DashboardCacheKey(method.getName(),
+                params.length > 0 ? (Long) params[0] : null,
+                params.length > 1 ? Arrays.copyOfRange(params, 1, params.length) : new Object[0]);
+    }
+
+    // Finished report results live much longer than dashboard widgets, so they get their own spec
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> reportResultCache(
+            @Value("${report.jobs.result-ttl-minutes:10}") long ttlMinutes,
+            @Value("${report.jobs.result-cache-size:200}") long maximumSize) {
+        return cacheManager -> cacheManager.registerCustomCache(ReportJobServiceImpl.RESULT_CACHE, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,10 @@
+package com.spring.hotel_management_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Cron and fixed-delay values live next to each @Scheduled method and in application.properties
+}
@@ -37,6 +37,9 @@ public class SecurityConfig {
 
                         // Your existing public paths
                         .requestMatchers("/api/admin/auth/**").permitAll()
+                        // Mobile writes act as the token's user and are limited to its hotel
+                        .requestMatchers("/api/mobile/sync/push", "/api/mobile/sync/conflicts/**",
+                                "/api/mobile/sync/resolve-conflict").authenticated()
                         .requestMatchers("/api/mobile/**").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()  // preflight requests
 
@@ -1,8 +1,16 @@
 package com.spring.hotel_management_backend.controller.admin;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.spring.hotel_management_backend.model.dto.request.admin.BulkBookingRequest;
 import com.spring.hotel_management_backend.model.dto.request.admin.CreateBookingRequest;
 import com.spring.hotel_management_backend.model.dto.request.admin.UpdateBookingStatusRequest;
+import com.spring.hotel_management_backend.model.dto.response.admin.BookingCalendarResponse;
 import com.spring.hotel_management_backend.model.dto.response.admin.BookingResponse;
+import com.spring.hotel_management_backend.model.dto.response.admin.BulkBookingResponse;
+import com.spring.hotel_management_backend.model.dto.response.admin.CursorPageResponse;
 import com.spring.hotel_management_backend.service.admin.BookingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -10,10 +18,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -24,7 +38,10 @@ import java.util.List;
 @SecurityRequirement(name = "Bearer Authentication")
 public class BookingController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final BookingService bookingService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create new booking")
@@ -34,6 +51,13 @@ public class BookingController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Import a batch of bookings (group / OTA), with a result per item")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkBookingResponse> importBookings(@RequestBody BulkBookingRequest request) {
+        return ResponseEntity.ok(bookingService.importBookings(request));
+    }
+
     @GetMapping
     @Operation(summary = "Get all bookings")
     @PreAuthorize("hasRole('ADMIN')")
@@ -41,6 +65,22 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getAllBookings());
     }
 
+    @GetMapping(produces = NDJSON)
+    @Operation(summary = "Stream all bookings as NDJSON")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllBookings() {
+        return ndjson(null, null);
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get all bookings, one page at a time (newest first)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageResponse<BookingResponse>> getAllBookingsPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(bookingService.getBookingsPage(null, null, cursor, size));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get booking by ID")
     @PreAuthorize("hasRole('ADMIN')")
@@ -76,6 +116,23 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getBookingsByHotel(hotelId));
     }
 
+    @GetMapping(value = "/hotel/{hotelId}", produces = NDJSON)
+    @Operation(summary = "Stream bookings by hotel as NDJSON")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamBookingsByHotel(@PathVariable Long hotelId) {
+        return ndjson(hotelId, null);
+    }
+
+    @GetMapping("/hotel/{hotelId}/page")
+    @Operation(summary = "Get bookings by hotel, one page at a time (newest first)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageResponse<BookingResponse>> getBookingsByHotelPage(
+            @PathVariable Long hotelId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(bookingService.getBookingsPage(hotelId, null, cursor, size));
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "Get bookings by status")
     @PreAuthorize("hasRole('ADMIN')")
@@ -83,6 +140,23 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getBookingsByStatus(status));
     }
 
+    @GetMapping(value = "/status/{status}", produces = NDJSON)
+    @Operation(summary = "Stream bookings by status as NDJSON")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamBookingsByStatus(@PathVariable String status) {
+        return ndjson(null, status);
+    }
+
+    @GetMapping("/status/{status}/page")
+    @Operation(summary = "Get bookings by status, one page at a time (newest first)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageResponse<BookingResponse>> getBookingsByStatusPage(
+            @PathVariable String status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(bookingService.getBookingsPage(null, status, cursor, size));
+    }
+
     @GetMapping("/today/checkins")
     @Operation(summary = "Get today's check-ins")
     @PreAuthorize("hasRole('ADMIN')")
@@ -106,6 +180,16 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getDateRangeBookings(startDate, endDate));
     }
 
+    @GetMapping("/calendar")
+    @Operation(summary = "Get rooms-by-nights booking calendar for a hotel")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BookingCalendarResponse> getBookingCalendar(
+            @RequestParam Long hotelId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(bookingService.getBookingCalendar(hotelId, startDate, endDate));
+    }
+
     @PostMapping("/{id}/check-in")
     @Operation(summary = "Check-in booking")
     @PreAuthorize("hasRole('ADMIN')")
@@ -151,4 +235,32 @@ public class BookingController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
         return ResponseEntity.ok(bookingService.isRoomAvailable(roomId, checkIn, checkOut));
     }
+
+    // ========== Helper Method ==========
+    private ResponseEntity<StreamingResponseBody> ndjson(Long hotelId, String status) {
+        // One JSON document per line; the writer must neither close nor flush the response per row
+        ObjectWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+            try {
+                bookingService.streamBookings(hotelId, status, booking -> {
+                    try {
+                        writer.writeValue(out, booking);
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
 }
\ No newline at end of file
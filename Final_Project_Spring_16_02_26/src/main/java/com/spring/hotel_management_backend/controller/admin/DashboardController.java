@@ -2,14 +2,17 @@ package com.spring.hotel_management_backend.controller.admin;
 
 import com.spring.hotel_management_backend.model.dto.response.admin.*;
 import com.spring.hotel_management_backend.service.admin.DashboardService;
+import com.spring.hotel_management_backend.service.admin.dashboard.DashboardStreamHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,6 +26,7 @@ import java.util.Map;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardStreamHub dashboardStreamHub;
 
     @GetMapping("/summary")
     @Operation(summary = "Get dashboard summary statistics")
@@ -32,6 +36,13 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardService.getDashboardSummary(hotelId));
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Live dashboard deltas (Server-Sent Events); fetch /summary on RESYNC")
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter streamDashboard(@RequestParam(required = false) Long hotelId) {
+        return dashboardStreamHub.subscribe(hotelId);
+    }
+
     @GetMapping("/revenue/chart")
     @Operation(summary = "Get revenue chart data")
     @PreAuthorize("hasRole('ADMIN')")
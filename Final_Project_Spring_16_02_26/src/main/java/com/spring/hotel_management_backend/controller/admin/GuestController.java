@@ -2,6 +2,7 @@ package com.spring.hotel_management_backend.controller.admin;
 
 import com.spring.hotel_management_backend.model.entity.Guest;
 import com.spring.hotel_management_backend.repository.GuestRepository;
+import com.spring.hotel_management_backend.service.admin.GuestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,6 +23,7 @@ import java.util.List;
 public class GuestController {
 
     private final GuestRepository guestRepository;
+    private final GuestService guestService;
 
     @PostMapping
     @Operation(summary = "Create new guest")
@@ -136,10 +138,7 @@ public class GuestController {
     @Operation(summary = "Delete guest")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteGuest(@PathVariable Long id) {
-        if (!guestRepository.existsById(id)) {
-            throw new RuntimeException("Guest not found with id: " + id);
-        }
-        guestRepository.deleteById(id);
+        guestService.deleteGuest(id);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -1,15 +1,26 @@
 package com.spring.hotel_management_backend.controller.admin;
 
+import com.spring.hotel_management_backend.model.dto.request.admin.reports.ReportJobRequest;
 import com.spring.hotel_management_backend.model.dto.response.admin.reports.*;
+import com.spring.hotel_management_backend.service.admin.ReportExportService;
+import com.spring.hotel_management_backend.service.admin.ReportJobService;
 import com.spring.hotel_management_backend.service.admin.ReportService;
+import com.spring.hotel_management_backend.service.admin.export.ExportDataset;
+import com.spring.hotel_management_backend.service.admin.export.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.Map;
@@ -22,6 +33,8 @@ import java.util.Map;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportJobService reportJobService;
+    private final ReportExportService reportExportService;
 
     // ==================== OCCUPANCY REPORTS ====================
 
@@ -189,33 +202,75 @@ public class ReportController {
         return ResponseEntity.ok(reportService.getTopGuestsReport(hotelId, limit));
     }
 
-    // ==================== EXPORT FUNCTIONS ====================
+    // ==================== CHAIN-WIDE REPORTS ====================
 
-    @PostMapping("/export/pdf")
-    @Operation(summary = "Export report to PDF")
+    @GetMapping("/chain/occupancy")
+    @Operation(summary = "Get occupancy across all hotels, with per-hotel subtotals")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ReportExportResponse> exportToPdf(
-            @RequestBody Object reportData,
-            @RequestParam String reportType) {
-        return ResponseEntity.ok(reportService.exportToPdf(reportData, reportType));
+    public ResponseEntity<ChainReportResponse<OccupancyReportResponse>> getChainOccupancyReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(reportService.getChainOccupancyReport(startDate, endDate));
     }
 
-    @PostMapping("/export/excel")
-    @Operation(summary = "Export report to Excel")
+    @GetMapping("/chain/revenue")
+    @Operation(summary = "Get revenue across all hotels, with per-hotel subtotals")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ReportExportResponse> exportToExcel(
-            @RequestBody Object reportData,
-            @RequestParam String reportType) {
-        return ResponseEntity.ok(reportService.exportToExcel(reportData, reportType));
+    public ResponseEntity<ChainReportResponse<RevenueReportResponse>> getChainRevenueReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(reportService.getChainRevenueReport(startDate, endDate));
     }
 
-    @PostMapping("/export/csv")
-    @Operation(summary = "Export report to CSV")
+    // ==================== BACKGROUND REPORT JOBS ====================
+
+    @PostMapping("/jobs")
+    @Operation(summary = "Queue a report to run in the background; returns a job id to poll")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ReportExportResponse> exportToCsv(
-            @RequestBody Object reportData,
-            @RequestParam String reportType) {
-        return ResponseEntity.ok(reportService.exportToCsv(reportData, reportType));
+    public ResponseEntity<ReportJobResponse> submitReportJob(@RequestBody ReportJobRequest request) {
+        return new ResponseEntity<>(reportJobService.submit(request), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "Get report job status, with the result once completed")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReportJobResponse> getReportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(reportJobService.getJob(jobId));
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Report job progress as Server-Sent Events")
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter streamReportJob(@PathVariable String jobId) {
+        return reportJobService.subscribe(jobId);
+    }
+
+    // ==================== EXPORT FUNCTIONS ====================
+
+    @GetMapping("/export/{dataset}")
+    @Operation(summary = "Stream a raw dataset (stock-transactions, payments, attendance) as CSV or XLSX")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportDataset(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Long hotelId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        // Parse up front so bad input is still answered with a JSON error, not a broken download
+        ExportDataset exportDataset = ExportDataset.parse(dataset);
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("End date must not be before start date");
+        }
+
+        String fileName = exportDataset.getFileName() + "_" + startDate + "_" + endDate + "." + exportFormat.getExtension();
+        StreamingResponseBody body = outputStream -> reportExportService.export(
+                exportDataset, exportFormat, hotelId, startDate, endDate, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
     }
 
     @PostMapping("/email")
@@ -2,6 +2,7 @@ package com.spring.hotel_management_backend.controller.admin;
 
 import com.spring.hotel_management_backend.model.dto.request.admin.CreateRoomRequest;
 import com.spring.hotel_management_backend.model.dto.request.admin.UpdateRoomStatusRequest;
+import com.spring.hotel_management_backend.model.dto.response.admin.AvailableRoomResponse;
 import com.spring.hotel_management_backend.model.dto.response.admin.RoomResponse;
 import com.spring.hotel_management_backend.service.admin.RoomService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -25,6 +27,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -174,6 +177,18 @@ RoomController {
         return ResponseEntity.ok(roomService.getAvailableRooms(hotelId));
     }
 
+    @GetMapping("/hotel/{hotelId}/search")
+    @Operation(summary = "Search bookable rooms of a hotel for a date range")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<AvailableRoomResponse>> searchAvailableRooms(
+            @PathVariable Long hotelId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+            @RequestParam(required = false) Long roomTypeId,
+            @RequestParam(required = false) Integer guests) {
+        return ResponseEntity.ok(roomService.searchAvailableRooms(hotelId, checkIn, checkOut, roomTypeId, guests));
+    }
+
     @PatchMapping("/{id}/status")
     @Operation(summary = "Update room status")
     @PreAuthorize("hasRole('ADMIN')")
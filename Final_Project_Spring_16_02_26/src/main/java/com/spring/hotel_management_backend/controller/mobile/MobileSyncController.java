@@ -1,9 +1,14 @@
 package com.spring.hotel_management_backend.controller.mobile;
 
 import com.spring.hotel_management_backend.model.dto.mobile.request.PushUpdateRequest;
+import com.spring.hotel_management_backend.model.dto.mobile.request.ResolveConflictsRequest;
+import com.spring.hotel_management_backend.model.dto.mobile.request.SyncPullRequest;
 import com.spring.hotel_management_backend.model.dto.mobile.request.SyncRequest;
 import com.spring.hotel_management_backend.model.dto.mobile.response.InitialSyncResponse;
 import com.spring.hotel_management_backend.model.dto.mobile.response.PushUpdateResponse;
+import com.spring.hotel_management_backend.model.dto.mobile.response.ResolveConflictsResponse;
+import com.spring.hotel_management_backend.model.dto.mobile.response.SyncConflictResponse;
+import com.spring.hotel_management_backend.model.dto.mobile.response.SyncPullResponse;
 import com.spring.hotel_management_backend.model.dto.mobile.response.SyncStatusResponse;
 import com.spring.hotel_management_backend.service.mobile.MobileSyncService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +18,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/mobile/sync")
 @RequiredArgsConstructor
@@ -28,6 +35,12 @@ public class MobileSyncController {
         return ResponseEntity.ok(mobileSyncService.getInitialData(request));
     }
 
+    @PostMapping("/pull")
+    @Operation(summary = "Pull changes since the last sync token")
+    public ResponseEntity<SyncPullResponse> pull(@RequestBody SyncPullRequest request) {
+        return ResponseEntity.ok(mobileSyncService.pull(request));
+    }
+
     @PostMapping("/push")
     @Operation(summary = "Push updates to server")
     public ResponseEntity<PushUpdateResponse> pushUpdates(@RequestBody PushUpdateRequest request) {
@@ -42,13 +55,15 @@ public class MobileSyncController {
         return ResponseEntity.ok(mobileSyncService.getSyncStatus(userId, deviceId));
     }
 
-    @PostMapping("/resolve-conflict")
-    @Operation(summary = "Resolve data conflict")
-    public ResponseEntity<Boolean> resolveConflict(
-            @RequestParam String entityType,
-            @RequestParam Long entityId,
-            @RequestBody Object clientData,
-            @RequestParam Object serverData) {
-        return ResponseEntity.ok(mobileSyncService.resolveConflict(entityType, entityId, clientData, serverData));
+    @GetMapping("/conflicts")
+    @Operation(summary = "List the caller's sync conflicts (status OPEN by default, ALL for every status)")
+    public ResponseEntity<List<SyncConflictResponse>> getConflicts(@RequestParam(defaultValue = "OPEN") String status) {
+        return ResponseEntity.ok(mobileSyncService.getConflicts(status));
+    }
+
+    @PostMapping({"/conflicts/resolve", "/resolve-conflict"})
+    @Operation(summary = "Resolve sync conflicts in batch")
+    public ResponseEntity<ResolveConflictsResponse> resolveConflicts(@RequestBody ResolveConflictsRequest request) {
+        return ResponseEntity.ok(mobileSyncService.resolveConflicts(request));
     }
 }
\ No newline at end of file
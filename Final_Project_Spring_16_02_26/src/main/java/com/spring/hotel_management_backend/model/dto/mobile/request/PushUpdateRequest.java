@@ -8,7 +8,7 @@ import java.util.Map;
 @Data
 public class PushUpdateRequest {
     private String deviceId;
-    private Long userId;
+    private Long userId; // optional; the push acts as the authenticated user and must match it
     private List<SyncOperation> operations;
 
     @Data
@@ -17,6 +17,8 @@ public class PushUpdateRequest {
         private String operationType; // CREATE, UPDATE, DELETE
         private String entityType; // BOOKING, ATTENDANCE, TASK, etc.
         private Map<String, Object> data;
+        private Long baseVersion; // version of the row the edit was made on; omit to skip conflict checks
+        private Map<String, Object> base; // pushed fields as they were before the edit, enables FIELD_MERGE
         private Long timestamp;
         private String status;
     }
@@ -0,0 +1,19 @@
+package com.spring.hotel_management_backend.model.dto.mobile.request;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class ResolveConflictsRequest {
+    private String deviceId;
+    private List<Resolution> resolutions;
+
+    @Data
+    public static class Resolution {
+        private Long conflictId;
+        private String resolution; // SERVER (keep the server row), CLIENT (apply the pushed fields), MERGED
+        private Map<String, Object> data; // MERGED only: the field values to apply
+    }
+}
@@ -0,0 +1,14 @@
+package com.spring.hotel_management_backend.model.dto.mobile.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SyncPullRequest {
+    private Long userId;
+    private String deviceId;
+    private String syncToken; // as returned by the previous pull; omit for a full sync
+    private List<String> entities; // hotels, rooms, roomTypes, guests; omit for all
+    private String layout; // "columns" for column tables instead of one object per row; omit for rows
+}
@@ -8,4 +8,5 @@ public class SyncRequest {
     private String deviceId;
     private String dataVersion;
     private Long userId;
+    private String layout; // "columns" for column tables instead of one object per row; omit for rows
 }
\ No newline at end of file
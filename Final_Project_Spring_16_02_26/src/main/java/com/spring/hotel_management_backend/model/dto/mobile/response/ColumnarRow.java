@@ -0,0 +1,10 @@
+package com.spring.hotel_management_backend.model.dto.mobile.response;
+
+/**
+ * A sync row that can be written into a ColumnarTable without going through a Map.
+ */
+public interface ColumnarRow {
+
+    // Field values in the order of the implementing class's COLUMNS
+    Object[] values();
+}
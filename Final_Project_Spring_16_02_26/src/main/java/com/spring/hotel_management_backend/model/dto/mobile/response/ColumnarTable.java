@@ -0,0 +1,45 @@
+package com.spring.hotel_management_backend.model.dto.mobile.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.*;
+
+/**
+ * Rows of one entity type with the field names sent once instead of on every row:
+ * {"columns": ["id", "name"], "rows": [[1, "Deluxe"], [2, "Suite"]]}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnarTable {
+    private List<String> columns;
+    private List<List<Object>> rows;
+
+    public static ColumnarTable of(List<String> columns, List<? extends ColumnarRow> records) {
+        List<List<Object>> rows = new ArrayList<>(records.size());
+        for (ColumnarRow record : records) {
+            rows.add(Arrays.asList(record.values()));
+        }
+        return new ColumnarTable(columns, rows);
+    }
+
+    // For lists still built as maps; columns are the union of all keys in first-seen order
+    public static ColumnarTable of(List<Map<String, Object>> records) {
+        Set<String> columns = new LinkedHashSet<>();
+        records.forEach(record -> columns.addAll(record.keySet()));
+
+        List<List<Object>> rows = new ArrayList<>(records.size());
+        for (Map<String, Object> record : records) {
+            List<Object> row = new ArrayList<>(columns.size());
+            for (String column : columns) {
+                row.add(record.get(column));
+            }
+            rows.add(row);
+        }
+        return new ColumnarTable(new ArrayList<>(columns), rows);
+    }
+}
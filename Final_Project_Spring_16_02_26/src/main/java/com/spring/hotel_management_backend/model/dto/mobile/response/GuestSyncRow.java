@@ -0,0 +1,31 @@
+package com.spring.hotel_management_backend.model.dto.mobile.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Selected by GuestRepository.findForSync; constructor argument order is the query's select order
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestSyncRow implements ColumnarRow {
+
+    public static final List<String> COLUMNS = List.of("id", "firstName", "lastName", "email", "phone", "address",
+            "idProofType", "idProofNumber");
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private String address;
+    private String idProofType;
+    private String idProofNumber;
+
+    @Override
+    public Object[] values() {
+        return new Object[]{id, firstName, lastName, email, phone, address, idProofType, idProofNumber};
+    }
+}
@@ -0,0 +1,32 @@
+package com.spring.hotel_management_backend.model.dto.mobile.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Selected by HotelRepository.findForSync; constructor argument order is the query's select order
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelSyncRow implements ColumnarRow {
+
+    public static final List<String> COLUMNS = List.of("id", "name", "address", "city", "phone", "email",
+            "starRating", "checkInTime", "checkOutTime");
+
+    private Long id;
+    private String name;
+    private String address;
+    private String city;
+    private String phone;
+    private String email;
+    private Integer starRating;
+    private String checkInTime;
+    private String checkOutTime;
+
+    @Override
+    public Object[] values() {
+        return new Object[]{id, name, address, city, phone, email, starRating, checkInTime, checkOutTime};
+    }
+}
@@ -19,9 +19,9 @@ public class InitialSyncResponse {
 
     // Master data
     private Map<String, Object> config;
-    private List<Map<String, Object>> hotels;
-    private List<Map<String, Object>> rooms;
-    private List<Map<String, Object>> roomTypes;
+    private List<HotelSyncRow> hotels;
+    private List<RoomSyncRow> rooms;
+    private List<RoomTypeSyncRow> roomTypes;
     private List<Map<String, Object>> rates;
 
     // Role-specific data
@@ -30,11 +30,15 @@ public class InitialSyncResponse {
     private List<Map<String, Object>> teamMembers; // For manager
 
     // Common data
-    private List<Map<String, Object>> guests;
+    private List<GuestSyncRow> guests;
     private List<Map<String, Object>> employees;
     private List<Map<String, Object>> inventory;
 
+    // layout=columns: the lists above keyed by field name ("rooms", "guests", ...) and left null
+    private Map<String, ColumnarTable> tables;
+
     // Sync info
+    private String syncToken; // pass to /api/mobile/sync/pull for incremental updates
     private Boolean fullSyncRequired;
     private Long serverTime;
 }
\ No newline at end of file
@@ -18,6 +18,23 @@ public class PushUpdateResponse {
     private Integer processedCount;
     private Integer failedCount;
     private List<Map<String, Object>> failedOperations;
+    private Integer duplicateCount;
+    private Integer conflictCount;
+    private List<OperationResult> results;
     private Long newSyncTime;
     private String newDataVersion;
-}
\ No newline at end of file
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OperationResult {
+        private String operationId;
+        private String entityType;
+        private String status; // APPLIED, DUPLICATE, CONFLICT, FAILED
+        private Long entityId; // server id of the created or updated row
+        private Long version; // APPLIED: the row's new version, the baseVersion for the next edit
+        private Long conflictId; // CONFLICT: see /api/mobile/sync/conflicts
+        private String error;
+    }
+}
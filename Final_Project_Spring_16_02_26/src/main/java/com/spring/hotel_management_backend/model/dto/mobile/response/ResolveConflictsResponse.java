@@ -0,0 +1,31 @@
+package com.spring.hotel_management_backend.model.dto.mobile.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResolveConflictsResponse {
+    private Integer resolvedCount;
+    private Integer failedCount;
+    private List<Result> results; // in request order
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private Long conflictId;
+        private String status; // RESOLVED, CONFLICT (the row changed again, see newConflictId), FAILED
+        private Long entityId;
+        private Long version;
+        private Long newConflictId;
+        private String error;
+    }
+}
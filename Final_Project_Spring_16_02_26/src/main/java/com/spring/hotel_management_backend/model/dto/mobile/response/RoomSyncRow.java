@@ -0,0 +1,35 @@
+package com.spring.hotel_management_backend.model.dto.mobile.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Selected by RoomRepository.findForSync; constructor argument order is the query's select order
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomSyncRow implements ColumnarRow {
+
+    public static final List<String> COLUMNS = List.of("id", "roomNumber", "roomTypeId", "roomTypeName", "floor",
+            "status", "basePrice", "maxOccupancy", "amenities", "images");
+
+    private Long id;
+    private String roomNumber;
+    private Long roomTypeId;
+    private String roomTypeName;
+    private String floor;
+    private String status;
+    private BigDecimal basePrice;
+    private Integer maxOccupancy;
+    private String amenities;
+    private String images;
+
+    @Override
+    public Object[] values() {
+        return new Object[]{id, roomNumber, roomTypeId, roomTypeName, floor, status, basePrice, maxOccupancy,
+                amenities, images};
+    }
+}
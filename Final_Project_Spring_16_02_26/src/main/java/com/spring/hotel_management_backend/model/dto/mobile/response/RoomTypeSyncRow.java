@@ -0,0 +1,31 @@
+package com.spring.hotel_management_backend.model.dto.mobile.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Selected by RoomTypeRepository.findForSync; constructor argument order is the query's select order
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomTypeSyncRow implements ColumnarRow {
+
+    public static final List<String> COLUMNS = List.of("id", "name", "description", "basePrice", "maxOccupancy",
+            "amenities", "images");
+
+    private Long id;
+    private String name;
+    private String description;
+    private BigDecimal basePrice;
+    private Integer maxOccupancy;
+    private String amenities;
+    private String images;
+
+    @Override
+    public Object[] values() {
+        return new Object[]{id, name, description, basePrice, maxOccupancy, amenities, images};
+    }
+}
@@ -0,0 +1,31 @@
+package com.spring.hotel_management_backend.model.dto.mobile.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncConflictResponse {
+    private Long id;
+    private String operationId;
+    private String entityType;
+    private Long entityId;
+    private Long baseVersion;
+    private Long serverVersion;
+    private String policy;
+    private String status; // OPEN, RESOLVED, SUPERSEDED
+    private String resolution;
+    private List<String> conflictingFields;
+    private Map<String, Object> clientData;
+    private Map<String, Object> serverData;
+    private LocalDateTime createdAt;
+    private LocalDateTime resolvedAt;
+}
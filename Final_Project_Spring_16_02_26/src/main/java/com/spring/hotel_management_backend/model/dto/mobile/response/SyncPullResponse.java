@@ -0,0 +1,33 @@
+package com.spring.hotel_management_backend.model.dto.mobile.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncPullResponse {
+    private String syncToken; // send back on the next pull
+    private Long serverTime;
+    private Integer totalChanges;
+
+    // Keyed by entity: hotels, rooms, roomTypes, guests
+    private Map<String, EntityChanges> changes;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EntityChanges {
+        private Boolean fullSync; // true: replace the local table with "upserted"
+        private List<? extends ColumnarRow> upserted; // HotelSyncRow, RoomSyncRow, ... by entity
+        private ColumnarTable upsertedTable; // layout=columns: "upserted" as a column table
+        private List<Long> deleted;
+    }
+}
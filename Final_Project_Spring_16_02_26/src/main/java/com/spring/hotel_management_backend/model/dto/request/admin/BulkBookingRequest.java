@@ -0,0 +1,11 @@
+package com.spring.hotel_management_backend.model.dto.request.admin;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkBookingRequest {
+    private String source; // GROUP, OTA, CHANNEL_MANAGER; stored on every imported booking
+    private List<CreateBookingRequest> bookings;
+}
@@ -0,0 +1,19 @@
+package com.spring.hotel_management_backend.model.dto.request.admin.reports;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class ReportJobRequest {
+    // OCCUPANCY, MONTHLY_OCCUPANCY, REVENUE, YEARLY_REVENUE, STAFF_ATTENDANCE,
+    // DEPARTMENT_ATTENDANCE, INVENTORY, GUEST_HISTORY, TOP_GUESTS
+    private String reportType;
+    private Long hotelId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer year;
+    private String department;
+    private Integer limit;
+    private Boolean refresh; // true to ignore a cached result
+}
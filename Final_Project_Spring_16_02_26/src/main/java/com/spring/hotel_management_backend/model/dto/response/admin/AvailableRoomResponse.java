@@ -0,0 +1,33 @@
+package com.spring.hotel_management_backend.model.dto.response.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableRoomResponse {
+    private Long roomId;
+    private String roomNumber;
+    private Long roomTypeId;
+    private String roomTypeName;
+    private String floor;
+    private Integer maxOccupancy;
+    private String amenities;
+    private String images;
+
+    // Stay
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private Integer numberOfNights;
+
+    // Pricing
+    private BigDecimal nightlyPrice;
+    private BigDecimal totalPrice;
+}
@@ -0,0 +1,56 @@
+package com.spring.hotel_management_backend.model.dto.response.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingCalendarResponse {
+    private Long hotelId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer days; // columns, one per night from startDate to endDate inclusive
+
+    private List<RoomRow> rooms;
+    private List<Entry> bookings;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoomRow {
+        private Long roomId;
+        private String roomNumber;
+        private String roomTypeName;
+        private String floor;
+        private String status;
+
+        // Base64 bitmap, night d is booked when (bytes[d / 8] >> (d % 8)) & 1
+        private String occupancy;
+        private Integer occupiedNights;
+
+        // Flat triples of [startDay, nights, bookingIndex], clipped to the window;
+        // bookingIndex points into the bookings list
+        private int[] segments;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Long id;
+        private String bookingNumber;
+        private String guestName;
+        private String status;
+        private LocalDate checkInDate;
+        private LocalDate checkOutDate;
+    }
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class BookingResponse {
     private Long id;
+    private Long version;
     private String bookingNumber;
 
     // Guest info
@@ -48,4 +49,5 @@ public class BookingResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String createdBy;
+    private String source;
 }
\ No newline at end of file
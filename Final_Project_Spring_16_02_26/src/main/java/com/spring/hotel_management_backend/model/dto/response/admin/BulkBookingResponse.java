@@ -0,0 +1,33 @@
+package com.spring.hotel_management_backend.model.dto.response.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBookingResponse {
+    private Integer total;
+    private Integer created;
+    private Integer rejected;
+    private List<ItemResult> results; // same order as the request
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Integer index;
+        private String status; // CREATED, REJECTED
+        private Long bookingId;
+        private String bookingNumber;
+        private Long roomId;
+        private Double totalAmount;
+        private String error;
+    }
+}
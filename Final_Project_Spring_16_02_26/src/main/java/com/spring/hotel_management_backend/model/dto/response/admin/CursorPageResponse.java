@@ -0,0 +1,19 @@
+package com.spring.hotel_management_backend.model.dto.response.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private Integer size;
+    private Boolean hasMore;
+    private Long nextCursor; // pass back as "cursor" to get the next page
+}
@@ -0,0 +1,49 @@
+package com.spring.hotel_management_backend.model.dto.response.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One change pushed on the live dashboard stream. {@code counters} holds increments to apply to
+ * the matching DashboardSummaryResponse fields; a RESYNC delta means events were dropped and the
+ * client should refetch the summary.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDelta {
+
+    public static final String BOOKING_CREATED = "BOOKING_CREATED";
+    public static final String BOOKING_CANCELLED = "BOOKING_CANCELLED";
+    public static final String CHECKED_IN = "CHECKED_IN";
+    public static final String CHECKED_OUT = "CHECKED_OUT";
+    public static final String ROOM_STATUS_CHANGED = "ROOM_STATUS_CHANGED";
+    public static final String PAYMENT_POSTED = "PAYMENT_POSTED";
+    public static final String RESYNC = "RESYNC";
+    public static final String HEARTBEAT = "HEARTBEAT";
+
+    private Long sequence; // per stream (one hotel, or the whole chain); gaps mean the client missed events
+    private String type;
+    private Long hotelId;
+
+    private Long bookingId;
+    private String bookingNumber;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+
+    private Long roomId;
+    private String roomNumber;
+    private String previousRoomStatus;
+    private String roomStatus;
+
+    private Double amount;
+    private Map<String, Number> counters;
+    private LocalDateTime occurredAt;
+}
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class TaskResponse {
     private Long id;
+    private Long version;
 
     // Room info
     private Long roomId;
@@ -15,6 +15,7 @@ import java.time.LocalTime;
 @AllArgsConstructor
 public class AttendanceResponse {
     private Long id;
+    private Long version; // send as baseVersion when pushing an edit from the mobile app
 
     // Employee info
     private Long employeeId;
@@ -0,0 +1,38 @@
+package com.spring.hotel_management_backend.model.dto.response.admin.reports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChainReportResponse<T> {
+
+    private String reportType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String generatedAt;
+    private Integer hotelCount;
+    private Long elapsedMillis;
+
+    // Grand total merged from the per-hotel results
+    private T total;
+
+    private List<HotelSubtotal<T>> hotels;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HotelSubtotal<T> {
+        private Long hotelId;
+        private String hotelName;
+        private T report;
+    }
+}
@@ -0,0 +1,26 @@
+package com.spring.hotel_management_backend.model.dto.response.admin.reports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobResponse {
+    private String jobId;
+    private String reportType;
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private Integer progress; // 0-100
+    private Boolean cached; // served from a previous run's result
+    private String requestedBy;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+    private Object result; // only set once COMPLETED
+}
@@ -34,6 +34,9 @@ public class RevenueReportResponse {
     // Daily breakdown
     private List<DailyRevenue> dailyRevenue;
 
+    // Weekly breakdown, keyed by the first day of each 7-day bucket
+    private Map<String, Double> weeklyRevenue;
+
     // Payment method wise
     private Map<String, Double> paymentMethodRevenue;
 
@@ -9,10 +9,27 @@ import java.time.LocalDate;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "bookings")
+@NamedEntityGraph(name = Booking.DETAILS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("guest"),
+        @NamedAttributeNode(value = "room", subgraph = "room")
+}, subgraphs = {
+        @NamedSubgraph(name = "room", attributeNodes = {
+                @NamedAttributeNode("hotel"),
+                @NamedAttributeNode(value = "roomType", subgraph = "roomType")
+        }),
+        @NamedSubgraph(name = "roomType", attributeNodes = @NamedAttributeNode("hotel"))
+})
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_dates", columnList = "check_in_date, check_out_date"),
+        @Index(name = "idx_bookings_room_dates", columnList = "room_id, check_in_date, check_out_date")
+})
 @Data
 public class Booking extends BaseEntity {
 
+    // Everything mapToResponse touches, fetched in the same select as the booking
+    public static final String DETAILS_GRAPH = "Booking.details";
+
+    // The unique constraint's index serves findByBookingNumber
     @Column(unique = true, nullable = false)
     private String bookingNumber;
 
@@ -47,4 +64,7 @@ public class Booking extends BaseEntity {
     private String specialRequests;
 
     private String createdBy;
+
+    @Column(length = 30)
+    private String source; // GROUP, OTA, CHANNEL_MANAGER for bulk imports; null when entered at the desk
 }
\ No newline at end of file
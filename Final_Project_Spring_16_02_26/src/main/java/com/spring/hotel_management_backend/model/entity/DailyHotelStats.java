@@ -0,0 +1,34 @@
+package com.spring.hotel_management_backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDate;
+
+// One row per hotel and day, rebuilt from bookings by DailyHotelStatsRollup; days with no activity have no row
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "daily_hotel_stats", indexes = {
+        @Index(name = "uk_daily_hotel_stats_hotel_date", columnList = "hotel_id, stat_date", unique = true),
+        @Index(name = "idx_daily_hotel_stats_date", columnList = "stat_date")
+})
+@Data
+public class DailyHotelStats extends BaseEntity {
+
+    @Column(nullable = false)
+    private Long hotelId;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    private Double revenue = 0.0; // CHECKED_IN / CHECKED_OUT bookings, totalAmount / nights for each night on statDate
+
+    private Integer occupiedRoomNights = 0; // non-cancelled bookings staying the night of statDate
+
+    private Integer checkIns = 0;
+
+    private Integer checkOuts = 0;
+
+    private Integer cancellations = 0; // cancelled bookings that were due to check in on statDate
+}
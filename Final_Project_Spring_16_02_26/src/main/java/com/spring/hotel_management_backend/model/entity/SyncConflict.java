@@ -0,0 +1,58 @@
+package com.spring.hotel_management_backend.model.entity;
+
+import com.spring.hotel_management_backend.model.enums.ConflictPolicy;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// A pushed edit that met a newer server version; OPEN ones are listed to the user for resolution
+@Entity
+@Table(name = "sync_conflicts", indexes = {
+        @Index(name = "idx_sync_conflicts_user_status", columnList = "user_id, status")
+})
+@Data
+public class SyncConflict {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private String deviceId;
+
+    private String operationId;
+
+    @Column(nullable = false)
+    private String entityType; // BOOKING, ATTENDANCE, TASK
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    private Long baseVersion; // version the device edited
+
+    private Long serverVersion; // version found on the server
+
+    @Enumerated(EnumType.STRING)
+    private ConflictPolicy policy;
+
+    @Column(nullable = false)
+    private String status; // OPEN, RESOLVED, SUPERSEDED
+
+    private String resolution; // CLIENT, SERVER, MERGED
+
+    private String conflictingFields; // comma separated
+
+    @Column(columnDefinition = "TEXT")
+    private String clientData; // JSON of the pushed fields
+
+    @Column(columnDefinition = "TEXT")
+    private String serverData; // JSON of the same fields on the server
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime resolvedAt;
+}
@@ -0,0 +1,35 @@
+package com.spring.hotel_management_backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// One row per applied mobile push operation, so a retried operation is answered without being applied twice
+@Entity
+@Table(name = "sync_operation_receipts", indexes = {
+        @Index(name = "uk_sync_operation_receipts_user_op", columnList = "user_id, operation_id", unique = true),
+        @Index(name = "idx_sync_operation_receipts_processed", columnList = "processed_at")
+})
+@Data
+public class SyncOperationReceipt {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "operation_id", nullable = false)
+    private String operationId;
+
+    private String entityType;
+
+    private Long entityId;
+
+    private Long conflictId; // set when the operation was not applied because of a conflict
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,32 @@
+package com.spring.hotel_management_backend.model.entity;
+
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Remembers a hard delete so delta pulls can tell mobile clients to drop the row; purged after the retention window
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+        @Index(name = "idx_sync_tombstones_type_deleted", columnList = "entity_type, deleted_at")
+})
+@Data
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SyncEntity entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    private Long hotelId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+}
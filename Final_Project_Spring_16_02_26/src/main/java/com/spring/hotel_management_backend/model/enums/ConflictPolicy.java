@@ -0,0 +1,8 @@
+package com.spring.hotel_management_backend.model.enums;
+
+// How a pushed edit is handled when the row changed on the server after the device last saw it
+public enum ConflictPolicy {
+    LAST_WRITER_WINS,   // the later of the device edit time and the server updatedAt wins
+    FIELD_MERGE,        // applied if the fields both sides changed ended up with the same value
+    SERVER_WINS         // the server row is kept and the conflict waits for the user to resolve it
+}
@@ -0,0 +1,28 @@
+package com.spring.hotel_management_backend.model.enums;
+
+// Entities the mobile app can pull incrementally; the key is the field name used in sync payloads
+public enum SyncEntity {
+    HOTELS("hotels"),
+    ROOMS("rooms"),
+    ROOM_TYPES("roomTypes"),
+    GUESTS("guests");
+
+    private final String key;
+
+    SyncEntity(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static SyncEntity fromKey(String key) {
+        for (SyncEntity entity : values()) {
+            if (entity.key.equalsIgnoreCase(key) || entity.name().equalsIgnoreCase(key)) {
+                return entity;
+            }
+        }
+        throw new RuntimeException("Unknown sync entity: " + key);
+    }
+}
@@ -1,14 +1,19 @@
 package com.spring.hotel_management_backend.repository;
 
 import com.spring.hotel_management_backend.model.entity.Attendance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
@@ -19,6 +24,11 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
     List<Attendance> findByDate(LocalDate date);
 
+    // (employeeId, date) pairs already marked, to reject duplicate check-ins pushed from devices
+    @Query("SELECT a.employee.id, a.date FROM Attendance a WHERE a.employee.id IN :employeeIds AND a.date IN :dates")
+    List<Object[]> findMarkedDays(@Param("employeeIds") Collection<Long> employeeIds,
+                                  @Param("dates") Collection<LocalDate> dates);
+
     @Query("SELECT a FROM Attendance a WHERE a.employee.id = :employeeId AND a.date BETWEEN :startDate AND :endDate")
     List<Attendance> findByEmployeeIdAndDateRange(@Param("employeeId") Long employeeId,
                                                   @Param("startDate") LocalDate startDate,
@@ -47,4 +57,32 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
             @Param("hotelId") Long hotelId);
-}
\ No newline at end of file
+
+    // Daily series for the attendance report, filtered like EmployeeRepository.getAttendanceByEmployee
+    @Query("SELECT a.date, a.status, COUNT(a.id) FROM Attendance a JOIN a.employee e LEFT JOIN e.department d " +
+            "WHERE a.date BETWEEN :startDate AND :endDate AND " +
+            "(:hotelId IS NULL OR e.hotel.id = :hotelId) AND " +
+            "(:department IS NULL OR LOWER(d.name) = LOWER(:department)) AND " +
+            "(:employeeId IS NULL OR e.id = :employeeId) " +
+            "GROUP BY a.date, a.status")
+    List<Object[]> countByDateAndStatus(@Param("hotelId") Long hotelId,
+                                        @Param("department") String department,
+                                        @Param("employeeId") Long employeeId,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
+
+    // Flat rows for the CSV/XLSX export; read through a server-side cursor
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.id, a.date, e.employeeId, e.firstName, e.lastName, d.name, a.status, " +
+            "a.checkInTime, a.checkOutTime, a.workingHours, a.overtimeHours, a.markedBy, a.isApproved " +
+            "FROM Attendance a JOIN a.employee e LEFT JOIN e.department d " +
+            "WHERE (:hotelId IS NULL OR e.hotel.id = :hotelId) AND " +
+            "a.date BETWEEN :startDate AND :endDate " +
+            "ORDER BY a.id")
+    Stream<Object[]> streamForExport(@Param("hotelId") Long hotelId,
+                                     @Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+}
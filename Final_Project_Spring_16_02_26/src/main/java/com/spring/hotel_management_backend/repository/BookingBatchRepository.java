@@ -0,0 +1,72 @@
+package com.spring.hotel_management_backend.repository;
+
+import com.spring.hotel_management_backend.model.entity.Booking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC writer for bulk booking imports. Hibernate cannot batch inserts for IDENTITY
+ * ids, so ids are drawn up front from the sequence behind bookings.id and rows are sent
+ * with explicit ids in JDBC batches.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingBatchRepository {
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('bookings', 'id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL = "INSERT INTO bookings (id, created_at, updated_at, " +
+            "booking_number, guest_id, room_id, check_in_date, check_out_date, number_of_guests, " +
+            "status, total_amount, advance_payment, due_amount, payment_method, special_requests, created_by, source, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${booking.import.jdbc-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Assigns ids from the bookings sequence and inserts all rows; ids are set on the
+     * passed bookings so callers can report them.
+     */
+    public void insertAll(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, bookings.size());
+        for (int i = 0; i < bookings.size(); i++) {
+            bookings.get(i).setId(ids.get(i));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, bookings, batchSize, (ps, booking) -> {
+            ps.setLong(1, booking.getId());
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setString(4, booking.getBookingNumber());
+            ps.setLong(5, booking.getGuest().getId());
+            ps.setLong(6, booking.getRoom().getId());
+            ps.setDate(7, Date.valueOf(booking.getCheckInDate()));
+            ps.setDate(8, Date.valueOf(booking.getCheckOutDate()));
+            ps.setObject(9, booking.getNumberOfGuests(), Types.INTEGER);
+            ps.setString(10, booking.getStatus().name());
+            ps.setObject(11, booking.getTotalAmount(), Types.DOUBLE);
+            ps.setObject(12, booking.getAdvancePayment(), Types.DOUBLE);
+            ps.setObject(13, booking.getDueAmount(), Types.DOUBLE);
+            ps.setString(14, booking.getPaymentMethod());
+            ps.setString(15, booking.getSpecialRequests());
+            ps.setString(16, booking.getCreatedBy());
+            ps.setString(17, booking.getSource());
+        });
+    }
+}
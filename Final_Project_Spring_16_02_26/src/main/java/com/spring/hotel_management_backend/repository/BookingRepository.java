@@ -2,37 +2,155 @@ package com.spring.hotel_management_backend.repository;
 
 import com.spring.hotel_management_backend.model.entity.Booking;
 import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    @Override
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    List<Booking> findAll();
+
+    @Override
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Optional<Booking> findById(Long id);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Optional<Booking> findByBookingNumber(String bookingNumber);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
     List<Booking> findByGuestId(Long guestId);
 
+    @EntityGraph(Booking.DETAILS_GRAPH)
     List<Booking> findByRoomId(Long roomId);
 
+    @EntityGraph(Booking.DETAILS_GRAPH)
     List<Booking> findByStatus(BookingStatus status);
 
+    @EntityGraph(Booking.DETAILS_GRAPH)
     @Query("SELECT b FROM Booking b WHERE b.room.hotel.id = :hotelId")
     List<Booking> findByHotelId(@Param("hotelId") Long hotelId);
 
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @Query("SELECT b FROM Booking b WHERE " +
+            "(:hotelId IS NULL OR b.room.hotel.id = :hotelId) AND " +
+            "(:status IS NULL OR b.status = :status) AND " +
+            "(:cursor IS NULL OR b.id < :cursor) " +
+            "ORDER BY b.id DESC")
+    List<Booking> findPage(@Param("hotelId") Long hotelId,
+                           @Param("status") BookingStatus status,
+                           @Param("cursor") Long cursor,
+                           Limit limit);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT b FROM Booking b WHERE " +
+            "(:hotelId IS NULL OR b.room.hotel.id = :hotelId) AND " +
+            "(:status IS NULL OR b.status = :status) " +
+            "ORDER BY b.id DESC")
+    Stream<Booking> streamAll(@Param("hotelId") Long hotelId,
+                              @Param("status") BookingStatus status);
+
     @Query("SELECT b FROM Booking b WHERE b.room.id = :roomId AND " +
-            "(b.checkInDate <= :endDate AND b.checkOutDate >= :startDate) AND " +
+            "(b.checkInDate < :endDate AND b.checkOutDate > :startDate) AND " +
             "b.status NOT IN ('CANCELLED', 'CHECKED_OUT')")
     List<Booking> findConflictingBookings(
             @Param("roomId") Long roomId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    @Query("SELECT b.id FROM Booking b WHERE b.room.id = :roomId AND " +
+            "(b.checkInDate < :endDate AND b.checkOutDate > :startDate) AND " +
+            "b.status NOT IN ('CANCELLED', 'CHECKED_OUT')")
+    List<Long> findConflictingBookingIds(
+            @Param("roomId") Long roomId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT b.id, b.room.id, b.checkInDate, b.checkOutDate FROM Booking b " +
+            "WHERE b.status NOT IN ('CANCELLED', 'CHECKED_OUT')")
+    List<Object[]> findActiveBookingIntervals();
+
+    @Query("SELECT b.room.id, b.checkInDate, b.checkOutDate FROM Booking b " +
+            "WHERE b.room.id IN :roomIds AND b.checkInDate < :endDate AND b.checkOutDate > :startDate " +
+            "AND b.status NOT IN ('CANCELLED', 'CHECKED_OUT')")
+    List<Object[]> findActiveIntervalsForRooms(@Param("roomIds") Collection<Long> roomIds,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT b.id, b.room.id, b.checkInDate, b.checkOutDate, b.status, b.bookingNumber, " +
+            "g.firstName, g.lastName FROM Booking b LEFT JOIN b.guest g " +
+            "WHERE b.room.hotel.id = :hotelId AND b.checkInDate <= :endDate AND b.checkOutDate > :startDate " +
+            "AND b.status <> 'CANCELLED' ORDER BY b.room.id, b.checkInDate")
+    List<Object[]> findCalendarEntries(@Param("hotelId") Long hotelId,
+                                       @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate);
+
+    // Inputs for the daily stats rollup: every booking of the hotel touching [startDate, endDate]
+    @Query("SELECT b.checkInDate, b.checkOutDate, b.status, b.totalAmount FROM Booking b " +
+            "WHERE b.room.hotel.id = :hotelId AND b.checkInDate <= :endDate AND b.checkOutDate >= :startDate")
+    List<Object[]> findStatsInputs(@Param("hotelId") Long hotelId,
+                                   @Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT b.room.hotel.id, MIN(b.checkInDate), MAX(b.checkOutDate) FROM Booking b GROUP BY b.room.hotel.id")
+    List<Object[]> findBookedDateBoundsByHotel();
+
+    // One row per guest with bookings checking in within the range:
+    // id, first name, last name, email, phone, nationality, created at, visits, nights, spending (checked out), last visit
+    @Query("SELECT g.id, g.firstName, g.lastName, g.email, g.phone, g.nationality, g.createdAt, " +
+            "COUNT(b), COALESCE(SUM((b.checkOutDate - b.checkInDate) BY DAY), 0), " +
+            "COALESCE(SUM(b.totalAmount) FILTER (WHERE b.status = 'CHECKED_OUT'), 0), MAX(b.checkInDate) " +
+            "FROM Booking b JOIN b.guest g " +
+            "WHERE (:hotelId IS NULL OR b.room.hotel.id = :hotelId) AND b.checkInDate BETWEEN :startDate AND :endDate " +
+            "AND (:nationality IS NULL OR g.nationality = :nationality) " +
+            "GROUP BY g.id, g.firstName, g.lastName, g.email, g.phone, g.nationality, g.createdAt")
+    List<Object[]> getGuestHistory(@Param("hotelId") Long hotelId,
+                                   @Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate,
+                                   @Param("nationality") String nationality);
+
+    @Query("SELECT COALESCE(g.nationality, 'Unknown'), COUNT(DISTINCT g.id) FROM Booking b JOIN b.guest g " +
+            "WHERE (:hotelId IS NULL OR b.room.hotel.id = :hotelId) AND b.checkInDate BETWEEN :startDate AND :endDate " +
+            "AND (:nationality IS NULL OR g.nationality = :nationality) " +
+            "GROUP BY COALESCE(g.nationality, 'Unknown')")
+    List<Object[]> countGuestsByNationality(@Param("hotelId") Long hotelId,
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate,
+                                            @Param("nationality") String nationality);
+
+    // Inputs for RevenueAggregation: check-in, check-out, status, amount, payment method, room type name
+    @Query("SELECT b.checkInDate, b.checkOutDate, b.status, b.totalAmount, b.paymentMethod, rt.name " +
+            "FROM Booking b JOIN b.room r LEFT JOIN r.roomType rt " +
+            "WHERE (:hotelId IS NULL OR r.hotel.id = :hotelId) AND b.checkInDate <= :endDate AND b.checkOutDate >= :startDate")
+    List<Object[]> findRevenueInputs(@Param("hotelId") Long hotelId,
+                                     @Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @Query("SELECT b FROM Booking b WHERE b.checkInDate <= :endDate AND b.checkOutDate >= :startDate")
+    List<Booking> findByDateRange(@Param("startDate") LocalDate startDate,
+                                  @Param("endDate") LocalDate endDate);
+
+    @EntityGraph(Booking.DETAILS_GRAPH)
     @Query("SELECT b FROM Booking b WHERE b.checkInDate = :date")
     List<Booking> findTodaysCheckIns(@Param("date") LocalDate date);
 
+    @EntityGraph(Booking.DETAILS_GRAPH)
     @Query("SELECT b FROM Booking b WHERE b.checkOutDate = :date")
     List<Booking> findTodaysCheckOuts(@Param("date") LocalDate date);
 
@@ -41,4 +159,46 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     @Query("SELECT COALESCE(SUM(b.totalAmount), 0) FROM Booking b WHERE b.room.hotel.id = :hotelId AND b.status IN ('CHECKED_IN', 'CHECKED_OUT')")
     Double getTotalRevenue(@Param("hotelId") Long hotelId);
+
+    // Dashboard booking figures in one pass. Revenue is recognised per night (totalAmount / nights for
+    // each night inside the window) for CHECKED_IN / CHECKED_OUT stays, as in the revenue report and the
+    // daily rollup; every window but the previous week ends before :tomorrow.
+    // Columns: today, week, month, year and previous-week revenue; today's check-ins and
+    // check-outs; total, pending and cancelled bookings; room-nights sold in the previous week
+    @Query("SELECT " +
+            "COALESCE(SUM(b.totalAmount * ((LEAST(b.checkOutDate, :tomorrow) - GREATEST(b.checkInDate, :today)) BY DAY) " +
+            "/ GREATEST((b.checkOutDate - b.checkInDate) BY DAY, 1)) FILTER (WHERE b.status IN ('CHECKED_IN', 'CHECKED_OUT') AND b.checkInDate < :tomorrow AND b.checkOutDate > :today), 0), " +
+            "COALESCE(SUM(b.totalAmount * ((LEAST(b.checkOutDate, :tomorrow) - GREATEST(b.checkInDate, :weekStart)) BY DAY) " +
+            "/ GREATEST((b.checkOutDate - b.checkInDate) BY DAY, 1)) FILTER (WHERE b.status IN ('CHECKED_IN', 'CHECKED_OUT') AND b.checkInDate < :tomorrow AND b.checkOutDate > :weekStart), 0), " +
+            "COALESCE(SUM(b.totalAmount * ((LEAST(b.checkOutDate, :tomorrow) - GREATEST(b.checkInDate, :monthStart)) BY DAY) " +
+            "/ GREATEST((b.checkOutDate - b.checkInDate) BY DAY, 1)) FILTER (WHERE b.status IN ('CHECKED_IN', 'CHECKED_OUT') AND b.checkInDate < :tomorrow AND b.checkOutDate > :monthStart), 0), " +
+            "COALESCE(SUM(b.totalAmount * ((LEAST(b.checkOutDate, :tomorrow) - GREATEST(b.checkInDate, :yearStart)) BY DAY) " +
+            "/ GREATEST((b.checkOutDate - b.checkInDate) BY DAY, 1)) FILTER (WHERE b.status IN ('CHECKED_IN', 'CHECKED_OUT') AND b.checkInDate < :tomorrow AND b.checkOutDate > :yearStart), 0), " +
+            "COALESCE(SUM(b.totalAmount * ((LEAST(b.checkOutDate, :weekStart) - GREATEST(b.checkInDate, :prevWeekStart)) BY DAY) " +
+            "/ GREATEST((b.checkOutDate - b.checkInDate) BY DAY, 1)) FILTER (WHERE b.status IN ('CHECKED_IN', 'CHECKED_OUT') AND b.checkInDate < :weekStart AND b.checkOutDate > :prevWeekStart), 0), " +
+            "COUNT(b) FILTER (WHERE b.status <> 'CANCELLED' AND b.checkInDate = :today), " +
+            "COUNT(b) FILTER (WHERE b.status <> 'CANCELLED' AND b.checkOutDate = :today), " +
+            "COUNT(b), " +
+            "COUNT(b) FILTER (WHERE b.status = 'PENDING'), " +
+            "COUNT(b) FILTER (WHERE b.status = 'CANCELLED'), " +
+            "COALESCE(SUM((LEAST(b.checkOutDate, :weekStart) - GREATEST(b.checkInDate, :prevWeekStart)) BY DAY) " +
+            "FILTER (WHERE b.status <> 'CANCELLED' AND b.checkInDate < :weekStart AND b.checkOutDate > :prevWeekStart), 0) " +
+            "FROM Booking b WHERE (:hotelId IS NULL OR b.room.hotel.id = :hotelId)")
+    List<Object[]> getDashboardBookingStats(@Param("hotelId") Long hotelId,
+                                            @Param("today") LocalDate today,
+                                            @Param("tomorrow") LocalDate tomorrow,
+                                            @Param("weekStart") LocalDate weekStart,
+                                            @Param("prevWeekStart") LocalDate prevWeekStart,
+                                            @Param("monthStart") LocalDate monthStart,
+                                            @Param("yearStart") LocalDate yearStart);
+
+    // Columns: guests who have stayed, guests whose first stay starts today, guests with more than one stay
+    @Query("SELECT COUNT(g.guestId), " +
+            "COUNT(g.guestId) FILTER (WHERE g.firstStay = :today), " +
+            "COUNT(g.guestId) FILTER (WHERE g.stays > 1) " +
+            "FROM (SELECT b.guest.id AS guestId, MIN(b.checkInDate) AS firstStay, COUNT(b) AS stays " +
+            "FROM Booking b WHERE b.status <> 'CANCELLED' AND (:hotelId IS NULL OR b.room.hotel.id = :hotelId) " +
+            "GROUP BY b.guest.id) g")
+    List<Object[]> getDashboardGuestStats(@Param("hotelId") Long hotelId,
+                                          @Param("today") LocalDate today);
 }
\ No newline at end of file
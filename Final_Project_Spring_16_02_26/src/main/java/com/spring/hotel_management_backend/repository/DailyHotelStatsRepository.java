@@ -0,0 +1,29 @@
+package com.spring.hotel_management_backend.repository;
+
+import com.spring.hotel_management_backend.model.entity.DailyHotelStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyHotelStatsRepository extends JpaRepository<DailyHotelStats, Long> {
+
+    // Columns: date, revenue, occupied room-nights, check-ins, check-outs, cancellations (summed over hotels when hotelId is null)
+    @Query("SELECT s.statDate, SUM(s.revenue), SUM(s.occupiedRoomNights), SUM(s.checkIns), SUM(s.checkOuts), SUM(s.cancellations) " +
+            "FROM DailyHotelStats s WHERE (:hotelId IS NULL OR s.hotelId = :hotelId) AND " +
+            "s.statDate BETWEEN :startDate AND :endDate GROUP BY s.statDate ORDER BY s.statDate")
+    List<Object[]> sumByDate(@Param("hotelId") Long hotelId,
+                             @Param("startDate") LocalDate startDate,
+                             @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query("DELETE FROM DailyHotelStats s WHERE s.hotelId = :hotelId AND s.statDate BETWEEN :startDate AND :endDate")
+    int deleteRange(@Param("hotelId") Long hotelId,
+                    @Param("startDate") LocalDate startDate,
+                    @Param("endDate") LocalDate endDate);
+}
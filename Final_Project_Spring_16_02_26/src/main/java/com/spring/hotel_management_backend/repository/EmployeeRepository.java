@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,9 +34,33 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     boolean existsByEmail(String email);
 
+    // Columns: active staff, staff with a non-absent attendance today, staff on approved leave today
+    @Query("SELECT COUNT(e), " +
+            "COUNT(e) FILTER (WHERE EXISTS (SELECT a.id FROM Attendance a WHERE a.employee = e AND a.date = :today AND a.status <> 'ABSENT')), " +
+            "COUNT(e) FILTER (WHERE EXISTS (SELECT l.id FROM Leave l WHERE l.employee = e AND l.status = 'APPROVED' " +
+            "AND l.startDate <= :today AND l.endDate >= :today)) " +
+            "FROM Employee e WHERE e.isActive = true AND (:hotelId IS NULL OR e.hotel.id = :hotelId)")
+    List<Object[]> getDashboardStaffStats(@Param("hotelId") Long hotelId,
+                                          @Param("today") LocalDate today);
+
     @Query("SELECT COUNT(e) FROM Employee e WHERE e.department.id = :departmentId AND e.isActive = true")
     Long countActiveByDepartment(@Param("departmentId") Long departmentId);
 
     @Query("SELECT e FROM Employee e WHERE e.shiftId = :shiftId")
     List<Employee> findByShiftId(@Param("shiftId") Long shiftId);
-}
\ No newline at end of file
+
+    // Attendance report: one row per (employee, status); employees without records get a single row with a NULL status
+    @Query("SELECT e.id, e.firstName, e.lastName, d.name, e.position, a.status, COUNT(a.id) " +
+            "FROM Employee e LEFT JOIN e.department d " +
+            "LEFT JOIN Attendance a ON a.employee = e AND a.date BETWEEN :startDate AND :endDate " +
+            "WHERE (:hotelId IS NULL OR e.hotel.id = :hotelId) AND " +
+            "(:department IS NULL OR LOWER(d.name) = LOWER(:department)) AND " +
+            "(:employeeId IS NULL OR e.id = :employeeId) " +
+            "GROUP BY e.id, e.firstName, e.lastName, d.name, e.position, a.status " +
+            "ORDER BY e.id")
+    List<Object[]> getAttendanceByEmployee(@Param("hotelId") Long hotelId,
+                                           @Param("department") String department,
+                                           @Param("employeeId") Long employeeId,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+}
@@ -1,5 +1,6 @@
 package com.spring.hotel_management_backend.repository;
 
+import com.spring.hotel_management_backend.model.dto.mobile.response.GuestSyncRow;
 import com.spring.hotel_management_backend.model.entity.Guest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,4 +65,15 @@ public interface GuestRepository extends JpaRepository<Guest, Long> {
     // FIXED: Find guests who will check out today
     @Query("SELECT DISTINCT g FROM Guest g JOIN Booking b ON g.id = b.guest.id WHERE b.status = 'CHECKED_IN' AND b.checkOutDate = :today")
     List<Guest> findTodayCheckOuts(@Param("today") LocalDate today);
-}
\ No newline at end of file
+
+    // Mobile pull sync: guests who have booked at the hotel. A delta also includes guests whose row is
+    // unchanged but who made a new booking here since the watermark, so they enter the hotel's scope
+    @Query("SELECT new com.spring.hotel_management_backend.model.dto.mobile.response.GuestSyncRow(g.id, g.firstName, g.lastName, g.email, " +
+            "g.phone, g.address, g.idProofType, g.idProofNumber) FROM Guest g WHERE " +
+            "(:hotelId IS NULL OR EXISTS (SELECT b.id FROM Booking b WHERE b.guest = g AND b.room.hotel.id = :hotelId)) AND " +
+            "(:full = true OR g.updatedAt > :since OR EXISTS (SELECT b.id FROM Booking b WHERE b.guest = g " +
+            "AND b.createdAt > :since AND (:hotelId IS NULL OR b.room.hotel.id = :hotelId)))")
+    List<GuestSyncRow> findForSync(@Param("hotelId") Long hotelId,
+                                   @Param("full") boolean full,
+                                   @Param("since") LocalDateTime since);
+}
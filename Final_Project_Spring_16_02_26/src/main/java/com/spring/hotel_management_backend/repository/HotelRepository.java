@@ -1,11 +1,13 @@
 package com.spring.hotel_management_backend.repository;
 
+import com.spring.hotel_management_backend.model.dto.mobile.response.HotelSyncRow;
 import com.spring.hotel_management_backend.model.entity.Hotel;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,4 +73,12 @@ public interface HotelRepository extends JpaRepository<Hotel, Long> {
     // Find hotels by name pattern (for autocomplete)
     @Query("SELECT h.name FROM Hotel h WHERE LOWER(h.name) LIKE LOWER(CONCAT(:prefix, '%'))")
     List<String> findHotelNamesByPrefix(@Param("prefix") String prefix);
-}
\ No newline at end of file
+
+    // Mobile pull sync: everything in scope when full, otherwise rows touched after the watermark
+    @Query("SELECT new com.spring.hotel_management_backend.model.dto.mobile.response.HotelSyncRow(h.id, h.name, h.address, h.city, h.phone, " +
+            "h.email, h.starRating, h.checkInTime, h.checkOutTime) FROM Hotel h " +
+            "WHERE (:hotelId IS NULL OR h.id = :hotelId) AND (:full = true OR h.updatedAt > :since)")
+    List<HotelSyncRow> findForSync(@Param("hotelId") Long hotelId,
+                                   @Param("full") boolean full,
+                                   @Param("since") LocalDateTime since);
+}
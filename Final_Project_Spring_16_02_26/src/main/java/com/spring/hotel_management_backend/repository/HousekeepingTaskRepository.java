@@ -29,6 +29,10 @@ public interface HousekeepingTaskRepository extends JpaRepository<HousekeepingTa
     @Query("SELECT COUNT(t) FROM HousekeepingTask t WHERE t.status = 'PENDING'")
     Long countPendingTasks();
 
+    @Query("SELECT COUNT(t) FROM HousekeepingTask t WHERE t.status IN ('PENDING', 'ASSIGNED', 'IN_PROGRESS') AND " +
+            "(:hotelId IS NULL OR t.room.hotel.id = :hotelId)")
+    Long countOpenTasks(@Param("hotelId") Long hotelId);
+
     @Query("SELECT t FROM HousekeepingTask t WHERE t.scheduledDate = :date AND t.status NOT IN ('COMPLETED', 'CANCELLED')")
     List<HousekeepingTask> findTodaysPendingTasks(@Param("date") LocalDate date);
 }
\ No newline at end of file
@@ -21,6 +21,10 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     @Query("SELECT i FROM Inventory i WHERE i.quantity <= i.reorderLevel")
     List<Inventory> findLowStockItems();
 
+    @Query("SELECT COUNT(i) FROM Inventory i WHERE i.quantity <= i.reorderLevel AND " +
+            "(i.isActive IS NULL OR i.isActive = true) AND (:hotelId IS NULL OR i.hotelId = :hotelId)")
+    Long countLowStockItems(@Param("hotelId") Long hotelId);
+
     // Find inventory by name (search)
     List<Inventory> findByItemNameContainingIgnoreCase(String itemName);
 
@@ -27,4 +27,8 @@ public interface MaintenanceRequestRepository extends JpaRepository<MaintenanceR
 
     @Query("SELECT COUNT(r) FROM MaintenanceRequest r WHERE r.status = 'REPORTED'")
     Long countPendingRequests();
+
+    @Query("SELECT COUNT(r) FROM MaintenanceRequest r WHERE r.status IN ('REPORTED', 'ASSIGNED', 'IN_PROGRESS') AND " +
+            "(:hotelId IS NULL OR r.hotelId = :hotelId)")
+    Long countOpenRequests(@Param("hotelId") Long hotelId);
 }
\ No newline at end of file
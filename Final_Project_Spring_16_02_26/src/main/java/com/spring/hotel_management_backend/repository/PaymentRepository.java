@@ -1,13 +1,17 @@
 package com.spring.hotel_management_backend.repository;
 
 import com.spring.hotel_management_backend.model.entity.Payment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -28,4 +32,19 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Object[]> getRevenueByPaymentMethod();
 
     List<Payment> findByHotelId(Long hotelId);
-}
\ No newline at end of file
+
+    // Flat rows for the CSV/XLSX export; read through a server-side cursor
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id, p.paymentNumber, p.paymentDate, b.bookingNumber, p.amount, p.paymentMethod, " +
+            "p.paymentStatus, p.transactionId, p.reference, p.receivedBy " +
+            "FROM Payment p LEFT JOIN p.booking b " +
+            "WHERE (:hotelId IS NULL OR p.hotelId = :hotelId) AND " +
+            "p.paymentDate >= :from AND p.paymentDate < :to " +
+            "ORDER BY p.id")
+    Stream<Object[]> streamForExport(@Param("hotelId") Long hotelId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+}
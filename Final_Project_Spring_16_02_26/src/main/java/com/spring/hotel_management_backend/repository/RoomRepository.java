@@ -1,15 +1,76 @@
 package com.spring.hotel_management_backend.repository;
 
+import com.spring.hotel_management_backend.model.dto.mobile.response.RoomSyncRow;
 import com.spring.hotel_management_backend.model.entity.Hotel;
 import com.spring.hotel_management_backend.model.entity.Room;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
     List<Room> findByHotel(Hotel hotel);
     List<Room> findByStatus(String status);
     List<Room> findByHotelAndStatus(Hotel hotel, String status);
-}
\ No newline at end of file
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id = :id")
+    Optional<Room> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id IN :ids ORDER BY r.id")
+    List<Room> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Columns: total, occupied, available, maintenance
+    @Query("SELECT COUNT(r), " +
+            "COUNT(r) FILTER (WHERE r.status = 'OCCUPIED'), " +
+            "COUNT(r) FILTER (WHERE r.status = 'AVAILABLE'), " +
+            "COUNT(r) FILTER (WHERE r.status = 'MAINTENANCE') " +
+            "FROM Room r WHERE (:hotelId IS NULL OR r.hotel.id = :hotelId)")
+    List<Object[]> getRoomStatusCounts(@Param("hotelId") Long hotelId);
+
+    @Query("SELECT r.id, r.hotel.id FROM Room r")
+    List<Object[]> findRoomHotelIds();
+
+    @Query("SELECT r.id, r.roomNumber, rt.name, r.floor, r.status FROM Room r LEFT JOIN r.roomType rt " +
+            "WHERE r.hotel.id = :hotelId ORDER BY r.roomNumber, r.id")
+    List<Object[]> findCalendarRows(@Param("hotelId") Long hotelId);
+
+    @Query("SELECT r FROM Room r JOIN FETCH r.hotel h LEFT JOIN FETCH r.roomType rt " +
+            "WHERE h.id = :hotelId AND (r.status IS NULL OR r.status <> 'MAINTENANCE') AND " +
+            "(:roomTypeId IS NULL OR rt.id = :roomTypeId) AND " +
+            "(:guests IS NULL OR r.maxOccupancy IS NULL OR r.maxOccupancy >= :guests)")
+    List<Room> findBookableRooms(@Param("hotelId") Long hotelId,
+                                 @Param("roomTypeId") Long roomTypeId,
+                                 @Param("guests") Integer guests);
+
+    @Query("SELECT r FROM Room r JOIN FETCH r.hotel h LEFT JOIN FETCH r.roomType rt " +
+            "WHERE h.id = :hotelId AND (r.status IS NULL OR r.status <> 'MAINTENANCE') AND " +
+            "(:roomTypeId IS NULL OR rt.id = :roomTypeId) AND " +
+            "(:guests IS NULL OR r.maxOccupancy IS NULL OR r.maxOccupancy >= :guests) AND " +
+            "NOT EXISTS (SELECT b.id FROM Booking b WHERE b.room = r AND " +
+            "b.checkInDate < :checkOut AND b.checkOutDate > :checkIn AND " +
+            "b.status NOT IN ('CANCELLED', 'CHECKED_OUT'))")
+    List<Room> findAvailableRooms(@Param("hotelId") Long hotelId,
+                                  @Param("checkIn") LocalDate checkIn,
+                                  @Param("checkOut") LocalDate checkOut,
+                                  @Param("roomTypeId") Long roomTypeId,
+                                  @Param("guests") Integer guests);
+
+    // Mobile pull sync: everything in scope when full, otherwise rows touched after the watermark
+    @Query("SELECT new com.spring.hotel_management_backend.model.dto.mobile.response.RoomSyncRow(r.id, r.roomNumber, rt.id, rt.name, r.floor, " +
+            "r.status, r.basePrice, r.maxOccupancy, r.amenities, r.images) FROM Room r LEFT JOIN r.roomType rt " +
+            "WHERE (:hotelId IS NULL OR r.hotel.id = :hotelId) AND (:full = true OR r.updatedAt > :since)")
+    List<RoomSyncRow> findForSync(@Param("hotelId") Long hotelId,
+                                  @Param("full") boolean full,
+                                  @Param("since") LocalDateTime since);
+}
@@ -1,13 +1,25 @@
 package com.spring.hotel_management_backend.repository;
 
+import com.spring.hotel_management_backend.model.dto.mobile.response.RoomTypeSyncRow;
 import com.spring.hotel_management_backend.model.entity.RoomType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
     List<RoomType> findByHotelId(Long hotelId);
     boolean existsByNameAndHotelId(String name, Long hotelId);
-}
\ No newline at end of file
+
+    // Mobile pull sync: everything in scope when full, otherwise rows touched after the watermark
+    @Query("SELECT new com.spring.hotel_management_backend.model.dto.mobile.response.RoomTypeSyncRow(rt.id, rt.name, rt.description, " +
+            "rt.basePrice, rt.maxOccupancy, rt.amenities, rt.images) FROM RoomType rt " +
+            "WHERE (:hotelId IS NULL OR rt.hotel.id = :hotelId) AND (:full = true OR rt.updatedAt > :since)")
+    List<RoomTypeSyncRow> findForSync(@Param("hotelId") Long hotelId,
+                                      @Param("full") boolean full,
+                                      @Param("since") LocalDateTime since);
+}
@@ -1,13 +1,17 @@
 package com.spring.hotel_management_backend.repository;
 
 import com.spring.hotel_management_backend.model.entity.StockTransaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface StockTransactionRepository extends JpaRepository<StockTransaction, Long> {
@@ -26,4 +30,19 @@ public interface StockTransactionRepository extends JpaRepository<StockTransacti
 
     @Query("SELECT SUM(st.quantity) FROM StockTransaction st WHERE st.inventoryItem.id = :itemId AND st.transactionType = 'CONSUMPTION' AND st.transactionDate BETWEEN :startDate AND :endDate")
     Integer getTotalConsumption(@Param("itemId") Long itemId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    // Flat rows for the CSV/XLSX export; read through a server-side cursor
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT st.id, st.transactionDate, i.itemCode, i.itemName, st.transactionType, st.quantity, " +
+            "st.unitPrice, st.totalPrice, st.previousQuantity, st.newQuantity, st.reference, st.reason, st.performedBy " +
+            "FROM StockTransaction st LEFT JOIN st.inventoryItem i " +
+            "WHERE (:hotelId IS NULL OR st.hotelId = :hotelId) AND " +
+            "st.transactionDate >= :from AND st.transactionDate < :to " +
+            "ORDER BY st.id")
+    Stream<Object[]> streamForExport(@Param("hotelId") Long hotelId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+}
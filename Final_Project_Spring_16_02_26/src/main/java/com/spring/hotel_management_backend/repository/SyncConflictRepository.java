@@ -0,0 +1,15 @@
+package com.spring.hotel_management_backend.repository;
+
+import com.spring.hotel_management_backend.model.entity.SyncConflict;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SyncConflictRepository extends JpaRepository<SyncConflict, Long> {
+
+    List<SyncConflict> findByUserIdAndStatusOrderByCreatedAtAsc(Long userId, String status);
+
+    List<SyncConflict> findByUserIdOrderByCreatedAtDesc(Long userId);
+}
@@ -0,0 +1,22 @@
+package com.spring.hotel_management_backend.repository;
+
+import com.spring.hotel_management_backend.model.entity.SyncOperationReceipt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SyncOperationReceiptRepository extends JpaRepository<SyncOperationReceipt, Long> {
+
+    List<SyncOperationReceipt> findByUserIdAndOperationIdIn(Long userId, Collection<String> operationIds);
+
+    @Modifying
+    @Query("DELETE FROM SyncOperationReceipt r WHERE r.processedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,89 @@
+package com.spring.hotel_management_backend.repository;
+
+import com.spring.hotel_management_backend.model.entity.Attendance;
+import com.spring.hotel_management_backend.model.entity.SyncOperationReceipt;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC inserts for mobile push batches, for the same reason as BookingBatchRepository:
+ * Hibernate cannot batch IDENTITY inserts. Updates stay with Hibernate, which batches them at flush.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncPushBatchRepository {
+
+    private static final String ALLOCATE_ATTENDANCE_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('attendances', 'id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_ATTENDANCE_SQL = "INSERT INTO attendances (id, created_at, updated_at, " +
+            "employee_id, date, check_in_time, check_out_time, status, working_hours, overtime_hours, remarks, " +
+            "marked_by, marked_at, is_approved, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_RECEIPT_SQL = "INSERT INTO sync_operation_receipts " +
+            "(user_id, operation_id, entity_type, entity_id, conflict_id, processed_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${sync.push.jdbc-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Assigns ids from the attendances sequence and inserts all rows; ids are set on the
+     * passed attendances so they can be returned to the device.
+     */
+    public void insertAttendances(List<Attendance> attendances) {
+        if (attendances.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_ATTENDANCE_IDS_SQL, Long.class, attendances.size());
+        for (int i = 0; i < attendances.size(); i++) {
+            attendances.get(i).setId(ids.get(i));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ATTENDANCE_SQL, attendances, batchSize, (ps, attendance) -> {
+            ps.setLong(1, attendance.getId());
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, attendance.getEmployee().getId());
+            ps.setDate(5, Date.valueOf(attendance.getDate()));
+            ps.setTime(6, attendance.getCheckInTime() != null ? Time.valueOf(attendance.getCheckInTime()) : null);
+            ps.setTime(7, attendance.getCheckOutTime() != null ? Time.valueOf(attendance.getCheckOutTime()) : null);
+            ps.setString(8, attendance.getStatus());
+            ps.setObject(9, attendance.getWorkingHours(), Types.DOUBLE);
+            ps.setObject(10, attendance.getOvertimeHours(), Types.DOUBLE);
+            ps.setString(11, attendance.getRemarks());
+            ps.setString(12, attendance.getMarkedBy());
+            ps.setTimestamp(13, Timestamp.valueOf(attendance.getMarkedAt()));
+            ps.setBoolean(14, Boolean.TRUE.equals(attendance.getIsApproved()));
+        });
+    }
+
+    /**
+     * Fails with a DuplicateKeyException if another request recorded one of the operations first.
+     */
+    public void insertReceipts(List<SyncOperationReceipt> receipts) {
+        if (receipts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_RECEIPT_SQL, receipts, batchSize, (ps, receipt) -> {
+            ps.setLong(1, receipt.getUserId());
+            ps.setString(2, receipt.getOperationId());
+            ps.setString(3, receipt.getEntityType());
+            ps.setObject(4, receipt.getEntityId(), Types.BIGINT);
+            ps.setObject(5, receipt.getConflictId(), Types.BIGINT);
+            ps.setTimestamp(6, Timestamp.valueOf(receipt.getProcessedAt()));
+        });
+    }
+}
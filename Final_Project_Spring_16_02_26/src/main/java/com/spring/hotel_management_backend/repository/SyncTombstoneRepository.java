@@ -0,0 +1,27 @@
+package com.spring.hotel_management_backend.repository;
+
+import com.spring.hotel_management_backend.model.entity.SyncTombstone;
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    // Tombstones without a hotel (e.g. guests) are chain-wide and reach every scope
+    @Query("SELECT DISTINCT t.entityId FROM SyncTombstone t WHERE t.entityType = :entityType AND t.deletedAt > :since " +
+            "AND (:hotelId IS NULL OR t.hotelId IS NULL OR t.hotelId = :hotelId)")
+    List<Long> findDeletedIdsSince(@Param("entityType") SyncEntity entityType,
+                                   @Param("hotelId") Long hotelId,
+                                   @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
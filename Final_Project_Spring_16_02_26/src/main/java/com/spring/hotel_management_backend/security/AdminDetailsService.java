@@ -1,6 +1,6 @@
 package com.spring.hotel_management_backend.security;
-import org.springframework.security.core.userdetails.User;
 
+import com.spring.hotel_management_backend.model.entity.User;
 import com.spring.hotel_management_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -8,8 +8,6 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-
 @Service
 @RequiredArgsConstructor
 public class AdminDetailsService implements UserDetailsService {
@@ -18,14 +16,10 @@ public class AdminDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        com.spring.hotel_management_backend.model.entity.User user = userRepository.findByUsername(username)
+        User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                new ArrayList<>()
-        );
+        return new AuthenticatedUser(user);
     }
 
 }
\ No newline at end of file
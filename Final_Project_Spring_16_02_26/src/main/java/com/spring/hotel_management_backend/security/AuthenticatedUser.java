@@ -0,0 +1,59 @@
+package com.spring.hotel_management_backend.security;
+
+import com.spring.hotel_management_backend.model.entity.User;
+import com.spring.hotel_management_backend.model.enums.RoleType;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal put in the security context by JwtAuthenticationFilter. It carries what services
+ * need about the caller, so they don't have to look the user up again during the request.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final RoleType role;
+    private final Long hotelId;
+
+    public AuthenticatedUser(User user) {
+        this.id = user.getId();
+        this.username = user.getUsername();
+        this.password = user.getPassword();
+        this.role = user.getRole();
+        this.hotelId = user.getHotel() != null ? user.getHotel().getId() : null;
+    }
+
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new RuntimeException("User not found");
+        }
+        return user;
+    }
+
+    /**
+     * Staff, managers and hotel-bound admins only reach rows of their own hotel; an admin with
+     * no hotel assigned manages the whole chain.
+     */
+    public boolean canAccessHotel(Long hotelId) {
+        if (this.hotelId == null) {
+            return role == RoleType.ADMIN;
+        }
+        return this.hotelId.equals(hotelId);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role != null ? List.of(new SimpleGrantedAuthority("ROLE_" + role.name())) : List.of();
+    }
+}
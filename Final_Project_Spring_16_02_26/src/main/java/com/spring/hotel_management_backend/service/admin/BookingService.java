@@ -1,14 +1,20 @@
 package com.spring.hotel_management_backend.service.admin;
 
+import com.spring.hotel_management_backend.model.dto.request.admin.BulkBookingRequest;
 import com.spring.hotel_management_backend.model.dto.request.admin.CreateBookingRequest;
 import com.spring.hotel_management_backend.model.dto.request.admin.UpdateBookingStatusRequest;
+import com.spring.hotel_management_backend.model.dto.response.admin.BookingCalendarResponse;
 import com.spring.hotel_management_backend.model.dto.response.admin.BookingResponse;
+import com.spring.hotel_management_backend.model.dto.response.admin.BulkBookingResponse;
+import com.spring.hotel_management_backend.model.dto.response.admin.CursorPageResponse;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BookingService {
     BookingResponse createBooking(CreateBookingRequest request);
+    BulkBookingResponse importBookings(BulkBookingRequest request);
     List<BookingResponse> getAllBookings();
     BookingResponse getBookingById(Long id);
     BookingResponse getBookingByNumber(String bookingNumber);
@@ -16,9 +22,12 @@ public interface BookingService {
     List<BookingResponse> getBookingsByRoom(Long roomId);
     List<BookingResponse> getBookingsByHotel(Long hotelId);
     List<BookingResponse> getBookingsByStatus(String status);
+    CursorPageResponse<BookingResponse> getBookingsPage(Long hotelId, String status, Long cursor, Integer size);
+    void streamBookings(Long hotelId, String status, Consumer<BookingResponse> consumer);
     List<BookingResponse> getTodaysCheckIns();
     List<BookingResponse> getTodaysCheckOuts();
     List<BookingResponse> getDateRangeBookings(LocalDate startDate, LocalDate endDate);
+    BookingCalendarResponse getBookingCalendar(Long hotelId, LocalDate startDate, LocalDate endDate);
     BookingResponse checkIn(Long id);
     BookingResponse checkOut(Long id, UpdateBookingStatusRequest request);
     BookingResponse cancelBooking(Long id);
@@ -0,0 +1,5 @@
+package com.spring.hotel_management_backend.service.admin;
+
+public interface GuestService {
+    void deleteGuest(Long id);
+}
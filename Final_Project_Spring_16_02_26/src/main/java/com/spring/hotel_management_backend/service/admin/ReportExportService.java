@@ -0,0 +1,18 @@
+package com.spring.hotel_management_backend.service.admin;
+
+import com.spring.hotel_management_backend.service.admin.export.ExportDataset;
+import com.spring.hotel_management_backend.service.admin.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface ReportExportService {
+
+    /**
+     * Writes every row of the dataset in [startDate, endDate] to {@code out} and returns the
+     * number of data rows written. The stream is flushed but not closed.
+     */
+    long export(ExportDataset dataset, ExportFormat format, Long hotelId,
+                LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.spring.hotel_management_backend.service.admin;
+
+import com.spring.hotel_management_backend.model.dto.request.admin.reports.ReportJobRequest;
+import com.spring.hotel_management_backend.model.dto.response.admin.reports.ReportJobResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ReportJobService {
+
+    ReportJobResponse submit(ReportJobRequest request);
+
+    ReportJobResponse getJob(String jobId);
+
+    SseEmitter subscribe(String jobId);
+}
@@ -32,10 +32,9 @@ public interface ReportService {
     GuestHistoryReportResponse getGuestReportByNationality(Long hotelId, String nationality);
     GuestHistoryReportResponse getTopGuestsReport(Long hotelId, Integer limit);
 
-    // Export Functions
-    ReportExportResponse exportToPdf(Object reportData, String reportType);
-    ReportExportResponse exportToExcel(Object reportData, String reportType);
-    ReportExportResponse exportToCsv(Object reportData, String reportType);
+    // Chain-wide Reports (every hotel, with per-hotel subtotals)
+    ChainReportResponse<RevenueReportResponse> getChainRevenueReport(LocalDate startDate, LocalDate endDate);
+    ChainReportResponse<OccupancyReportResponse> getChainOccupancyReport(LocalDate startDate, LocalDate endDate);
 
     // Email Reports
     Boolean emailReport(String email, Object reportData, String reportType, String format);
@@ -2,10 +2,12 @@ package com.spring.hotel_management_backend.service.admin;
 
 import com.spring.hotel_management_backend.model.dto.request.admin.CreateRoomRequest;
 import com.spring.hotel_management_backend.model.dto.request.admin.UpdateRoomStatusRequest;
+import com.spring.hotel_management_backend.model.dto.response.admin.AvailableRoomResponse;
 import com.spring.hotel_management_backend.model.dto.response.admin.RoomResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface RoomService {
@@ -15,6 +17,7 @@ public interface RoomService {
     List<RoomResponse> getRoomsByHotel(Long hotelId);
     List<RoomResponse> getRoomsByStatus(String status);
     List<RoomResponse> getAvailableRooms(Long hotelId);
+    List<AvailableRoomResponse> searchAvailableRooms(Long hotelId, LocalDate checkIn, LocalDate checkOut, Long roomTypeId, Integer guests);
     RoomResponse updateRoomStatus(Long id, UpdateRoomStatusRequest request);
     RoomResponse updateRoomRate(Long id, BigDecimal newRate);
     RoomResponse updateRoom(Long id, CreateRoomRequest request);
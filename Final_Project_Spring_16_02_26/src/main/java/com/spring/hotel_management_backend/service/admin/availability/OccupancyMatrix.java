@@ -0,0 +1,91 @@
+package com.spring.hotel_management_backend.service.admin.availability;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Rooms x nights occupancy packed into a single long[]. Each room owns a fixed stride of
+ * 64-bit words; bit d of a room's row is set when night (start + d) is booked.
+ * A 300 x 60 grid fits in 300 words, so building and encoding it is a handful of
+ * shifts per booking rather than one object per cell.
+ */
+public final class OccupancyMatrix {
+
+    private final int rooms;
+    private final int days;
+    private final int stride;
+    private final long[] words;
+
+    public OccupancyMatrix(int rooms, int days) {
+        if (rooms < 0 || days < 0) {
+            throw new IllegalArgumentException("rooms and days must not be negative");
+        }
+        this.rooms = rooms;
+        this.days = days;
+        this.stride = (days + 63) >>> 6;
+        this.words = new long[rooms * stride];
+    }
+
+    public int rooms() {
+        return rooms;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    /**
+     * Marks nights [fromDay, toDay) of a room as booked; the range is clipped to the grid.
+     */
+    public void mark(int room, int fromDay, int toDay) {
+        int from = Math.max(fromDay, 0);
+        int to = Math.min(toDay, days);
+        if (from >= to) {
+            return;
+        }
+        int base = room * stride;
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            words[base + firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[base + firstWord] |= firstMask;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            words[base + w] = -1L;
+        }
+        words[base + lastWord] |= lastMask;
+    }
+
+    public boolean isOccupied(int room, int day) {
+        return (words[room * stride + (day >>> 6)] & (1L << day)) != 0;
+    }
+
+    public int occupiedNights(int room) {
+        int count = 0;
+        int base = room * stride;
+        for (int w = 0; w < stride; w++) {
+            count += Long.bitCount(words[base + w]);
+        }
+        return count;
+    }
+
+    public long[] row(int room) {
+        return Arrays.copyOfRange(words, room * stride, (room + 1) * stride);
+    }
+
+    /**
+     * Base64 of the room's row as ceil(days / 8) little-endian bytes:
+     * night d is booked when (bytes[d / 8] >> (d % 8)) & 1 is set.
+     */
+    public String encodeRow(int room) {
+        byte[] bytes = new byte[(days + 7) >>> 3];
+        int base = room * stride;
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[base + (i >>> 3)] >>> ((i & 7) << 3));
+        }
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,249 @@
+package com.spring.hotel_management_backend.service.admin.availability;
+
+import com.spring.hotel_management_backend.model.entity.Booking;
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import com.spring.hotel_management_backend.repository.BookingRepository;
+import com.spring.hotel_management_backend.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-room calendar of active bookings (anything not CANCELLED or CHECKED_OUT).
+ * Answers "is room R free for [checkIn, checkOut)" without going to the database.
+ * The index is local to this node; it is rebuilt from the database on startup and kept
+ * in sync by BookingServiceImpl / RoomServiceImpl after each transaction commits.
+ * Mutations committed while a rebuild is reading the database are held back and replayed on top
+ * of its snapshot, so a booking cancelled during startup does not come back from an older read.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomAvailabilityIndex {
+
+    private final BookingRepository bookingRepository;
+    private final RoomRepository roomRepository;
+
+    @Value("${booking.availability-index.enabled:true}")
+    private boolean enabled;
+
+    private final Map<Long, RoomCalendar> calendars = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> roomsByHotel = new ConcurrentHashMap<>();
+    private final Map<Long, Long> roomByBooking = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    // Committed mutations waiting for the running rebuild; null when none runs. Guarded by rebuildLock
+    private final Object rebuildLock = new Object();
+    private List<Runnable> heldDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            log.info("Room availability index disabled, falling back to database queries");
+            return;
+        }
+        synchronized (rebuildLock) {
+            heldDuringRebuild = new ArrayList<>();
+        }
+        ready = false;
+        try {
+            calendars.clear();
+            roomsByHotel.clear();
+            roomByBooking.clear();
+
+            for (Object[] row : roomRepository.findRoomHotelIds()) {
+                registerRoom((Long) row[0], (Long) row[1]);
+            }
+
+            int bookings = 0;
+            for (Object[] row : bookingRepository.findActiveBookingIntervals()) {
+                put((Long) row[0], (Long) row[1], (LocalDate) row[2], (LocalDate) row[3]);
+                bookings++;
+            }
+
+            // Mutations carry the committed state of a booking or room, so replaying one the
+            // snapshot already saw is harmless
+            int replayed;
+            synchronized (rebuildLock) {
+                replayed = heldDuringRebuild.size();
+                heldDuringRebuild.forEach(Runnable::run);
+                heldDuringRebuild = null;
+                ready = true;
+            }
+            log.info("Room availability index built: {} rooms, {} active bookings, {} changes replayed",
+                    calendars.size(), bookings, replayed);
+        } finally {
+            synchronized (rebuildLock) {
+                heldDuringRebuild = null;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public boolean isAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        return isAvailable(roomId, checkIn, checkOut, null);
+    }
+
+    /**
+     * @param excludeBookingId booking to ignore, e.g. the one being rescheduled; may be null
+     */
+    public boolean isAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut, Long excludeBookingId) {
+        RoomCalendar calendar = calendars.get(roomId);
+        return calendar == null || !calendar.overlaps(checkIn.toEpochDay(), checkOut.toEpochDay(), excludeBookingId);
+    }
+
+    public List<Long> findAvailableRooms(Long hotelId, LocalDate checkIn, LocalDate checkOut) {
+        Set<Long> roomIds = roomsByHotel.getOrDefault(hotelId, Collections.emptySet());
+        long from = checkIn.toEpochDay();
+        long to = checkOut.toEpochDay();
+
+        List<Long> available = new ArrayList<>();
+        for (Long roomId : roomIds) {
+            RoomCalendar calendar = calendars.get(roomId);
+            if (calendar == null || !calendar.overlaps(from, to, null)) {
+                available.add(roomId);
+            }
+        }
+        Collections.sort(available);
+        return available;
+    }
+
+    public void registerRoom(Long roomId, Long hotelId) {
+        calendars.computeIfAbsent(roomId, id -> new RoomCalendar());
+        if (hotelId != null) {
+            roomsByHotel.computeIfAbsent(hotelId, id -> ConcurrentHashMap.newKeySet()).add(roomId);
+        }
+    }
+
+    public void removeRoom(Long roomId) {
+        RoomCalendar calendar = calendars.remove(roomId);
+        if (calendar != null) {
+            calendar.bookingIds().forEach(roomByBooking::remove);
+        }
+        roomsByHotel.values().forEach(rooms -> rooms.remove(roomId));
+    }
+
+    /**
+     * Reflects the current state of a booking: active bookings are (re)inserted,
+     * cancelled and checked-out ones are dropped from the calendar.
+     */
+    public void update(Booking booking) {
+        if (isActive(booking.getStatus())) {
+            put(booking.getId(), booking.getRoom().getId(), booking.getCheckInDate(), booking.getCheckOutDate());
+        } else {
+            remove(booking.getId());
+        }
+    }
+
+    public void remove(Long bookingId) {
+        Long roomId = roomByBooking.remove(bookingId);
+        if (roomId != null) {
+            RoomCalendar calendar = calendars.get(roomId);
+            if (calendar != null) {
+                calendar.remove(bookingId);
+            }
+        }
+    }
+
+    /**
+     * Runs the index mutation once the surrounding transaction commits, so a rollback
+     * never leaves a phantom booking in the calendar.
+     */
+    public void afterCommit(Runnable mutation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(mutation);
+                }
+            });
+        } else {
+            apply(mutation);
+        }
+    }
+
+    private void apply(Runnable mutation) {
+        synchronized (rebuildLock) {
+            if (heldDuringRebuild != null) {
+                heldDuringRebuild.add(mutation);
+                return;
+            }
+        }
+        mutation.run();
+    }
+
+    public static boolean isActive(BookingStatus status) {
+        return status != BookingStatus.CANCELLED && status != BookingStatus.CHECKED_OUT;
+    }
+
+    private void put(Long bookingId, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        Long previousRoomId = roomByBooking.put(bookingId, roomId);
+        if (previousRoomId != null && !previousRoomId.equals(roomId)) {
+            RoomCalendar previous = calendars.get(previousRoomId);
+            if (previous != null) {
+                previous.remove(bookingId);
+            }
+        }
+        calendars.computeIfAbsent(roomId, id -> new RoomCalendar())
+                .put(bookingId, checkIn.toEpochDay(), checkOut.toEpochDay());
+    }
+
+    /**
+     * Half-open [start, end) intervals in epoch days, ordered by start. Because legacy data
+     * may contain overlapping bookings, lookups scan starts in (from - longestStay, to),
+     * which is exactly the set of intervals that can intersect [from, to).
+     */
+    static final class RoomCalendar {
+
+        private final NavigableSet<long[]> intervals = new TreeSet<>(
+                Comparator.<long[]>comparingLong(i -> i[0]).thenComparingLong(i -> i[2]));
+        private final Map<Long, long[]> byBooking = new HashMap<>();
+        private long longestStay = 0;
+
+        synchronized boolean overlaps(long from, long to, Long excludeBookingId) {
+            if (intervals.isEmpty() || from >= to) {
+                return false;
+            }
+            long[] lower = {from - longestStay, 0, Long.MIN_VALUE};
+            long[] upper = {to, 0, Long.MIN_VALUE};
+            for (long[] interval : intervals.subSet(lower, false, upper, false)) {
+                if (interval[1] > from && (excludeBookingId == null || interval[2] != excludeBookingId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized void put(long bookingId, long start, long end) {
+            remove(bookingId);
+            long[] interval = {start, end, bookingId};
+            intervals.add(interval);
+            byBooking.put(bookingId, interval);
+            longestStay = Math.max(longestStay, end - start);
+        }
+
+        synchronized void remove(long bookingId) {
+            long[] interval = byBooking.remove(bookingId);
+            if (interval != null) {
+                intervals.remove(interval);
+            }
+        }
+
+        synchronized List<Long> bookingIds() {
+            return new ArrayList<>(byBooking.keySet());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.spring.hotel_management_backend.service.admin.availability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped per-room locks for the booking write path. A lock is held from the availability
+ * check until the surrounding transaction completes, so the check, the insert and the
+ * after-commit update of {@link RoomAvailabilityIndex} happen atomically per room while
+ * bookings for rooms on other stripes proceed in parallel.
+ */
+@Component
+public class RoomBookingLocks {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutMillis;
+
+    public RoomBookingLocks(@Value("${booking.room-locks.stripes:256}") int stripeCount,
+                            @Value("${booking.room-locks.timeout-ms:5000}") long timeoutMillis) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public void lockUntilCompletion(Long roomId) {
+        requireTransaction();
+        acquireUntilCompletion(stripeIndex(roomId), "Room " + roomId);
+    }
+
+    /**
+     * Locks every stripe covering the given rooms until the transaction completes. Stripes
+     * are taken once each and in ascending order, so two batches never deadlock each other.
+     */
+    public void lockAllUntilCompletion(Collection<Long> roomIds) {
+        requireTransaction();
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Long roomId : roomIds) {
+            indexes.add(stripeIndex(roomId));
+        }
+        for (int index : indexes) {
+            acquireUntilCompletion(index, "One of the requested rooms");
+        }
+    }
+
+    private void requireTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Room lock requires an active transaction");
+        }
+    }
+
+    private void acquireUntilCompletion(int index, String subject) {
+        ReentrantLock lock = stripes[index];
+        try {
+            if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException(subject + " is busy, please retry");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for " + subject.toLowerCase());
+        }
+
+        // afterCompletion runs after every afterCommit callback, so the index is
+        // already up to date when the next booking for this room gets the lock
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private int stripeIndex(Long roomId) {
+        int hash = Long.hashCode(roomId);
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, stripes.length);
+    }
+}
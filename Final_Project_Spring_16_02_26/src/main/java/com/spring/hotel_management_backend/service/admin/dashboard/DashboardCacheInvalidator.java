@@ -0,0 +1,34 @@
+package com.spring.hotel_management_backend.service.admin.dashboard;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts only the cached widgets of the hotel that changed (plus chain-wide entries).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardCacheInvalidator {
+
+    public static final String SUMMARY_CACHE = "dashboardSummary";
+    public static final String CHARTS_CACHE = "dashboardCharts";
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        String cacheName = event.getWidget() == DashboardChangedEvent.Widget.SUMMARY ? SUMMARY_CACHE : CHARTS_CACHE;
+        org.springframework.cache.Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || !(cache.getNativeCache() instanceof Cache<?, ?> nativeCache)) {
+            return;
+        }
+        nativeCache.asMap().keySet().removeIf(key ->
+                key instanceof DashboardCacheKey dashboardKey && dashboardKey.covers(event.getHotelId()));
+        log.debug("Evicted {} entries for hotel {}", cacheName, event.getHotelId());
+    }
+}
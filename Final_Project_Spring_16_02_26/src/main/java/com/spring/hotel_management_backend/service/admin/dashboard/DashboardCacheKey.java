@@ -0,0 +1,35 @@
+package com.spring.hotel_management_backend.service.admin.dashboard;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cache key for dashboard widgets. The hotel id is kept apart from the other arguments so
+ * a hotel's entries can be evicted without touching other hotels.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class DashboardCacheKey {
+
+    private final String method;
+    private final Long hotelId;
+    private final List<Object> arguments;
+
+    public DashboardCacheKey(String method, Long hotelId, Object... arguments) {
+        this.method = method;
+        this.hotelId = hotelId;
+        this.arguments = Arrays.asList(arguments);
+    }
+
+    /**
+     * Entries for the whole chain (no hotel filter) include every hotel's data.
+     */
+    public boolean covers(Long changedHotelId) {
+        return hotelId == null || changedHotelId == null || hotelId.equals(changedHotelId);
+    }
+}
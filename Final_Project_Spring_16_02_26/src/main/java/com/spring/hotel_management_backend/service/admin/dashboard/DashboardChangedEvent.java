@@ -0,0 +1,21 @@
+package com.spring.hotel_management_backend.service.admin.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when data behind a hotel's dashboard widgets changes. Listeners run after the
+ * publishing transaction commits, so evicted entries are never recomputed from stale rows.
+ */
+@Getter
+@AllArgsConstructor
+public class DashboardChangedEvent {
+
+    public enum Widget {
+        SUMMARY,    // DashboardSummaryResponse: live counters read straight from the tables
+        CHARTS      // revenue/occupancy charts and trends, read from daily_hotel_stats
+    }
+
+    private final Long hotelId;
+    private final Widget widget;
+}
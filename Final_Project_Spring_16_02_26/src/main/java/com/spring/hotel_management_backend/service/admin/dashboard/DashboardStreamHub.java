@@ -0,0 +1,283 @@
+package com.spring.hotel_management_backend.service.admin.dashboard;
+
+import com.spring.hotel_management_backend.model.dto.response.admin.DashboardDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed dashboard deltas out to SSE subscribers. Each connection has its own bounded
+ * queue drained by one task at a time on the stream executor, so a slow client never blocks the
+ * publishing thread or other clients. When a queue overflows its backlog is replaced by a single
+ * RESYNC; a client that overflows again before that RESYNC went out is disconnected.
+ */
+@Component
+@Slf4j
+public class DashboardStreamHub {
+
+    private final Executor streamExecutor;
+
+    @Value("${dashboard.stream.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${dashboard.stream.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${dashboard.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private static final Optional<Long> CHAIN = Optional.empty();
+
+    // hotelId -> subscribers; CHAIN holds the chain-wide subscribers
+    private final Map<Optional<Long>, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // One sequence per stream: each hotel's counts its own deltas, CHAIN counts every delta
+    private final Map<Optional<Long>, AtomicLong> sequences = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public DashboardStreamHub(@Qualifier("dashboardStreamExecutor") Executor streamExecutor) {
+        this.streamExecutor = streamExecutor;
+    }
+
+    public SseEmitter subscribe(Long hotelId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new RuntimeException("Too many live dashboard connections");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(Optional.ofNullable(hotelId), emitter, bufferSize);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        AtomicLong sequence = sequence(subscriber.key);
+        synchronized (sequence) {
+            subscribers.computeIfAbsent(subscriber.key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            // Tell the client where the stream starts so it can fetch a baseline summary
+            enqueue(subscriber, DashboardDelta.builder()
+                    .type(DashboardDelta.RESYNC)
+                    .hotelId(hotelId)
+                    .sequence(sequence.get())
+                    .occurredAt(LocalDateTime.now())
+                    .build());
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDelta(DashboardDelta delta) {
+        if (delta.getCounters() == null) {
+            delta.setCounters(counters(delta, LocalDate.now()));
+        }
+        if (delta.getOccurredAt() == null) {
+            delta.setOccurredAt(LocalDateTime.now());
+        }
+
+        if (delta.getHotelId() != null) {
+            publish(Optional.of(delta.getHotelId()), delta);
+            // Chain subscribers get a copy numbered in the chain sequence, so they see no false gaps
+            publish(CHAIN, delta.toBuilder().build());
+        } else {
+            publish(CHAIN, delta);
+        }
+    }
+
+    // Keeps idle connections open through proxies; skipped for clients that still have a backlog
+    @Scheduled(fixedDelayString = "${dashboard.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        DashboardDelta heartbeat = DashboardDelta.builder()
+                .type(DashboardDelta.HEARTBEAT)
+                .occurredAt(LocalDateTime.now())
+                .build();
+        subscribers.values().forEach(set -> set.forEach(s -> {
+            if (s.queue.isEmpty()) {
+                enqueue(s, heartbeat);
+            }
+        }));
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Increments to DashboardSummaryResponse fields implied by the delta. Only changes that can be
+     * derived from the event alone are included; anything else is left to the next summary fetch.
+     */
+    static Map<String, Number> counters(DashboardDelta delta, LocalDate today) {
+        Map<String, Number> counters = new LinkedHashMap<>();
+        roomCounter(delta.getPreviousRoomStatus(), -1, counters);
+        roomCounter(delta.getRoomStatus(), 1, counters);
+
+        switch (delta.getType()) {
+            case DashboardDelta.BOOKING_CREATED -> {
+                counters.put("totalBookings", 1);
+                todayCounters(delta, today, 1, counters);
+            }
+            case DashboardDelta.BOOKING_CANCELLED -> {
+                counters.put("cancelledBookings", 1);
+                todayCounters(delta, today, -1, counters);
+            }
+            case DashboardDelta.CHECKED_IN -> {
+                // Revenue is earned per night; checking in today earns tonight's share in every summary
+                // window, later nights fall after the windows' end
+                if (today.equals(delta.getCheckInDate()) && delta.getAmount() != null) {
+                    long nights = delta.getCheckOutDate() != null
+                            ? Math.max(ChronoUnit.DAYS.between(delta.getCheckInDate(), delta.getCheckOutDate()), 1) : 1;
+                    for (String field : List.of("todayRevenue", "weekRevenue", "monthRevenue", "yearRevenue")) {
+                        counters.put(field, delta.getAmount() / nights);
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+        return counters;
+    }
+
+    private static void roomCounter(String status, int change, Map<String, Number> counters) {
+        String field = status == null ? null : switch (status) {
+            case "OCCUPIED" -> "occupiedRooms";
+            case "AVAILABLE" -> "availableRooms";
+            case "MAINTENANCE" -> "maintenanceRooms";
+            default -> null;
+        };
+        if (field != null) {
+            counters.merge(field, change, (a, b) -> a.intValue() + b.intValue());
+            if (counters.get(field).intValue() == 0) {
+                counters.remove(field);
+            }
+        }
+    }
+
+    private static void todayCounters(DashboardDelta delta, LocalDate today, int change, Map<String, Number> counters) {
+        if (today.equals(delta.getCheckInDate())) {
+            counters.put("todayCheckIns", change);
+        }
+        if (today.equals(delta.getCheckOutDate())) {
+            counters.put("todayCheckOuts", change);
+        }
+    }
+
+    // Numbers the delta in the stream's sequence and queues it in that order for the stream's subscribers
+    private void publish(Optional<Long> key, DashboardDelta delta) {
+        AtomicLong sequence = sequence(key);
+        synchronized (sequence) {
+            delta.setSequence(sequence.incrementAndGet());
+            subscribers.getOrDefault(key, Collections.emptySet()).forEach(s -> enqueue(s, delta));
+        }
+    }
+
+    private AtomicLong sequence(Optional<Long> key) {
+        return sequences.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    private void enqueue(Subscriber subscriber, DashboardDelta delta) {
+        if (!subscriber.queue.offer(delta)) {
+            if (subscriber.resyncPending.get()) {
+                log.debug("Dropping slow dashboard subscriber for hotel {}", subscriber.key.orElse(null));
+                subscriber.emitter.complete();
+                unsubscribe(subscriber);
+                return;
+            }
+            // Replace the backlog with a single RESYNC; the client refetches instead of replaying
+            subscriber.queue.clear();
+            subscriber.resyncPending.set(true);
+            subscriber.queue.offer(DashboardDelta.builder()
+                    .type(DashboardDelta.RESYNC)
+                    .hotelId(subscriber.key.orElse(null))
+                    .sequence(delta.getSequence())
+                    .occurredAt(LocalDateTime.now())
+                    .build());
+        }
+        drain(subscriber);
+    }
+
+    private void drain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            streamExecutor.execute(() -> {
+                try {
+                    DashboardDelta next;
+                    while ((next = subscriber.queue.poll()) != null) {
+                        send(subscriber, next);
+                    }
+                } finally {
+                    subscriber.draining.set(false);
+                }
+                // Anything offered between the last poll and clearing the flag
+                if (!subscriber.queue.isEmpty() && !subscriber.closed.get()) {
+                    drain(subscriber);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void send(Subscriber subscriber, DashboardDelta delta) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        try {
+            if (DashboardDelta.HEARTBEAT.equals(delta.getType())) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(delta.getType()).data(delta);
+            if (delta.getSequence() != null) {
+                event.id(String.valueOf(delta.getSequence()));
+            }
+            subscriber.emitter.send(event);
+            if (DashboardDelta.RESYNC.equals(delta.getType())) {
+                subscriber.resyncPending.set(false);
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscriber.emitter.completeWithError(e);
+            unsubscribe(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriber.queue.clear();
+        Set<Subscriber> set = subscribers.get(subscriber.key);
+        if (set != null) {
+            set.remove(subscriber);
+        }
+        connections.decrementAndGet();
+    }
+
+    private static final class Subscriber {
+        private final Optional<Long> key;
+        private final SseEmitter emitter;
+        private final BlockingQueue<DashboardDelta> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean resyncPending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Optional<Long> key, SseEmitter emitter, int bufferSize) {
+            this.key = key;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.spring.hotel_management_backend.service.admin.export;
+
+/**
+ * Raw datasets that can be exported row by row. The column order matches the projection
+ * of the corresponding {@code streamForExport} repository query.
+ */
+public enum ExportDataset {
+
+    STOCK_TRANSACTIONS("stock_transactions",
+            "ID", "Date", "Item Code", "Item Name", "Type", "Quantity", "Unit Price", "Total Price",
+            "Previous Quantity", "New Quantity", "Reference", "Reason", "Performed By"),
+    PAYMENTS("payments",
+            "ID", "Payment Number", "Date", "Booking Number", "Amount", "Method", "Status",
+            "Transaction ID", "Reference", "Received By"),
+    ATTENDANCE("attendance",
+            "ID", "Date", "Employee ID", "First Name", "Last Name", "Department", "Status",
+            "Check In", "Check Out", "Working Hours", "Overtime Hours", "Marked By", "Approved");
+
+    private final String fileName;
+    private final String[] columns;
+
+    ExportDataset(String fileName, String... columns) {
+        this.fileName = fileName;
+        this.columns = columns;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String[] getColumns() {
+        return columns.clone();
+    }
+
+    public static ExportDataset parse(String dataset) {
+        try {
+            return valueOf(dataset.trim().replace('-', '_').toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new RuntimeException("Unknown export dataset: " + dataset);
+        }
+    }
+}
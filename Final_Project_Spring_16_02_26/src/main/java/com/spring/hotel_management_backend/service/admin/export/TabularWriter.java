@@ -0,0 +1,34 @@
+package com.spring.hotel_management_backend.service.admin.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Row-at-a-time sink for report exports. Implementations must not hold on to rows after
+ * {@link #row} returns, so an export costs the same memory for ten rows or ten million.
+ */
+public interface TabularWriter extends Closeable {
+
+    void header(String... columns) throws IOException;
+
+    void row(Object... values) throws IOException;
+
+    /**
+     * Completes the document and flushes it to the underlying stream, which is left open.
+     */
+    void finish() throws IOException;
+
+    /**
+     * Releases buffers and temp files, whether or not {@link #finish} ran.
+     */
+    @Override
+    void close() throws IOException;
+
+    static TabularWriter of(ExportFormat format, OutputStream out) {
+        return switch (format) {
+            case CSV -> new CsvTabularWriter(out);
+            case XLSX -> new XlsxTabularWriter(out);
+        };
+    }
+}
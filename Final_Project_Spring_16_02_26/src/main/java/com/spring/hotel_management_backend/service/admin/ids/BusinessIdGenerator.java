@@ -0,0 +1,16 @@
+package com.spring.hotel_management_backend.service.admin.ids;
+
+/**
+ * Issues the human-facing numbers printed on bookings, payments, invoices, purchase orders
+ * and employee records. Numbers are unique across nodes and sort by creation time.
+ */
+public interface BusinessIdGenerator {
+
+    String BOOKING = "BK";
+    String PAYMENT = "PAY";
+    String INVOICE = "INV";
+    String PURCHASE_ORDER = "PO";
+    String EMPLOYEE = "EMP";
+
+    String next(String prefix);
+}
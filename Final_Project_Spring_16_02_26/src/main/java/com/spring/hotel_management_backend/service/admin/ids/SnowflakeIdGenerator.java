@@ -0,0 +1,82 @@
+package com.spring.hotel_management_backend.service.admin.ids;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake-style ids: 41 bits of milliseconds since 2024-01-01, 10 bits of node id and
+ * 12 bits of per-millisecond sequence, rendered as 13 fixed-width base-36 characters after
+ * the prefix (e.g. BK02T77RX73S3KH), so string order is creation order.
+ *
+ * The millisecond and sequence live in one AtomicLong and advance with a CAS. When a
+ * millisecond's 4096 numbers run out, the sequence carries into the next millisecond
+ * instead of waiting. The same carry keeps numbers increasing if the wall clock steps back.
+ */
+@Component
+@Slf4j
+public class SnowflakeIdGenerator implements BusinessIdGenerator {
+
+    static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final int WIDTH = 13; // Long.MAX_VALUE in base 36
+
+    private final long node;
+    private final LongSupplier clock;
+
+    // (millis since EPOCH << SEQUENCE_BITS) | sequence of the last issued id
+    private final AtomicLong state = new AtomicLong();
+
+    // Required: two instances sharing a node id would issue the same numbers
+    @Autowired
+    public SnowflakeIdGenerator(@Value("${business-id.node-id:-1}") long configuredNode) {
+        this(requireConfigured(configuredNode), System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE);
+        }
+        this.node = node;
+        this.clock = clock;
+        log.info("Business id generator using node id {}", node);
+    }
+
+    @Override
+    public String next(String prefix) {
+        String encoded = Long.toString(nextId(), Character.MAX_RADIX).toUpperCase();
+        StringBuilder sb = new StringBuilder(prefix.length() + WIDTH).append(prefix);
+        for (int i = encoded.length(); i < WIDTH; i++) {
+            sb.append('0');
+        }
+        return sb.append(encoded).toString();
+    }
+
+    long nextId() {
+        long now = (clock.getAsLong() - EPOCH) << SEQUENCE_BITS;
+        long prev;
+        long next;
+        do {
+            prev = state.get();
+            next = now > prev ? now : prev + 1;
+        } while (!state.compareAndSet(prev, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    private static long requireConfigured(long node) {
+        if (node < 0) {
+            throw new IllegalStateException("business-id.node-id is not set; give each instance a distinct id 0-" + MAX_NODE);
+        }
+        return node;
+    }
+}
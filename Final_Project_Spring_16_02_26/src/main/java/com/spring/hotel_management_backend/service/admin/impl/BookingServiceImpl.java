@@ -1,47 +1,102 @@
 package com.spring.hotel_management_backend.service.admin.impl;
 
+import com.spring.hotel_management_backend.model.dto.request.admin.BulkBookingRequest;
 import com.spring.hotel_management_backend.model.dto.request.admin.CreateBookingRequest;
 import com.spring.hotel_management_backend.model.dto.request.admin.UpdateBookingStatusRequest;
+import com.spring.hotel_management_backend.model.dto.response.admin.BookingCalendarResponse;
 import com.spring.hotel_management_backend.model.dto.response.admin.BookingResponse;
+import com.spring.hotel_management_backend.model.dto.response.admin.BulkBookingResponse;
+import com.spring.hotel_management_backend.model.dto.response.admin.CursorPageResponse;
+import com.spring.hotel_management_backend.model.dto.response.admin.DashboardDelta;
 import com.spring.hotel_management_backend.model.entity.Booking;
 import com.spring.hotel_management_backend.model.entity.Guest;
 import com.spring.hotel_management_backend.model.entity.Room;
-import com.spring.hotel_management_backend.model.entity.User;
 import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import com.spring.hotel_management_backend.repository.BookingBatchRepository;
 import com.spring.hotel_management_backend.repository.BookingRepository;
 import com.spring.hotel_management_backend.repository.GuestRepository;
 import com.spring.hotel_management_backend.repository.RoomRepository;
-import com.spring.hotel_management_backend.repository.UserRepository;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
 import com.spring.hotel_management_backend.service.admin.BookingService;
+import com.spring.hotel_management_backend.service.admin.availability.OccupancyMatrix;
+import com.spring.hotel_management_backend.service.admin.availability.RoomAvailabilityIndex;
+import com.spring.hotel_management_backend.service.admin.availability.RoomBookingLocks;
+import com.spring.hotel_management_backend.service.admin.dashboard.DashboardChangedEvent;
+import com.spring.hotel_management_backend.service.admin.ids.BusinessIdGenerator;
+import com.spring.hotel_management_backend.service.admin.stats.DailyHotelStatsRollup;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
     private final BookingRepository bookingRepository;
+    private final BookingBatchRepository bookingBatchRepository;
     private final GuestRepository guestRepository;
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final RoomBookingLocks roomBookingLocks;
+    private final EntityManager entityManager;
+    private final BusinessIdGenerator businessIdGenerator;
+    private final DailyHotelStatsRollup statsRollup;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${booking.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${booking.page.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${booking.calendar.max-days:366}")
+    private int maxCalendarDays;
+
+    @Value("${booking.import.max-items:5000}")
+    private int maxImportItems;
 
     private String generateBookingNumber() {
-        return "BK" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 4).toUpperCase();
+        return businessIdGenerator.next(BusinessIdGenerator.BOOKING);
     }
 
-    private User getCurrentUser() {
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    private AuthenticatedUser getCurrentUser() {
+        return AuthenticatedUser.current();
+    }
+
+    // Charts follow once the rollup flushes; the summary reads live tables and is evicted at commit
+    private void bookingChanged(Booking booking) {
+        statsRollup.markDirty(booking);
+        Long hotelId = booking.getRoom().getHotel() != null ? booking.getRoom().getHotel().getId() : null;
+        eventPublisher.publishEvent(new DashboardChangedEvent(hotelId, DashboardChangedEvent.Widget.SUMMARY));
+    }
+
+    // Live dashboard stream; delivered once the transaction commits
+    private void publishDelta(String type, Booking booking, String previousRoomStatus) {
+        Room room = booking.getRoom();
+        eventPublisher.publishEvent(DashboardDelta.builder()
+                .type(type)
+                .hotelId(room.getHotel() != null ? room.getHotel().getId() : null)
+                .bookingId(booking.getId())
+                .bookingNumber(booking.getBookingNumber())
+                .checkInDate(booking.getCheckInDate())
+                .checkOutDate(booking.getCheckOutDate())
+                .roomId(room.getId())
+                .roomNumber(room.getRoomNumber())
+                .previousRoomStatus(previousRoomStatus)
+                .roomStatus(room.getStatus())
+                .amount(booking.getTotalAmount())
+                .build());
     }
 
     @Override
@@ -51,12 +106,15 @@ public class BookingServiceImpl implements BookingService {
         Guest guest = guestRepository.findById(request.getGuestId())
                 .orElseThrow(() -> new RuntimeException("Guest not found with id: " + request.getGuestId()));
 
-        // Validate room
-        Room room = roomRepository.findById(request.getRoomId())
+        // Serialize bookings for this room until the transaction completes
+        roomBookingLocks.lockUntilCompletion(request.getRoomId());
+
+        // Validate room (the row lock serializes writers on every node)
+        Room room = roomRepository.findByIdForUpdate(request.getRoomId())
                 .orElseThrow(() -> new RuntimeException("Room not found with id: " + request.getRoomId()));
 
         // Check room availability
-        if (!isRoomAvailable(request.getRoomId(), request.getCheckInDate(), request.getCheckOutDate())) {
+        if (!isRoomFreeUnderLock(request.getRoomId(), request.getCheckInDate(), request.getCheckOutDate(), null)) {
             throw new RuntimeException("Room is not available for selected dates");
         }
 
@@ -87,14 +145,183 @@ public class BookingServiceImpl implements BookingService {
         booking.setCreatedBy(getCurrentUser().getUsername());
 
         Booking savedBooking = bookingRepository.save(booking);
+        availabilityIndex.afterCommit(() -> availabilityIndex.update(savedBooking));
+        bookingChanged(savedBooking);
 
         // Update room status to RESERVED
+        String previousRoomStatus = room.getStatus();
         room.setStatus("RESERVED");
         roomRepository.save(room);
 
+        publishDelta(DashboardDelta.BOOKING_CREATED, savedBooking, previousRoomStatus);
         return mapToResponse(savedBooking);
     }
 
+    @Override
+    @Transactional
+    public BulkBookingResponse importBookings(BulkBookingRequest request) {
+        List<CreateBookingRequest> items = request.getBookings() != null ? request.getBookings() : List.of();
+        if (items.size() > maxImportItems) {
+            throw new RuntimeException("A batch cannot contain more than " + maxImportItems + " bookings");
+        }
+
+        BulkBookingResponse.ItemResult[] results = new BulkBookingResponse.ItemResult[items.size()];
+        Set<Long> guestIds = new HashSet<>();
+        Set<Long> roomIds = new HashSet<>();
+        LocalDate windowStart = null;
+        LocalDate windowEnd = null;
+
+        // Shape checks, and the id sets / date window for the set-based lookups
+        for (int i = 0; i < items.size(); i++) {
+            CreateBookingRequest item = items.get(i);
+            String error = validateImportItem(item);
+            if (error != null) {
+                results[i] = rejected(i, item, error);
+                continue;
+            }
+            guestIds.add(item.getGuestId());
+            roomIds.add(item.getRoomId());
+            if (windowStart == null || item.getCheckInDate().isBefore(windowStart)) {
+                windowStart = item.getCheckInDate();
+            }
+            if (windowEnd == null || item.getCheckOutDate().isAfter(windowEnd)) {
+                windowEnd = item.getCheckOutDate();
+            }
+        }
+
+        Map<Long, Guest> guests = new HashMap<>();
+        Map<Long, Room> rooms = new HashMap<>();
+        Map<Long, List<long[]>> taken = new HashMap<>();
+        if (!roomIds.isEmpty()) {
+            guestRepository.findAllById(guestIds).forEach(g -> guests.put(g.getId(), g));
+
+            // Same locking as createBooking, taken once for every room in the batch
+            roomBookingLocks.lockAllUntilCompletion(roomIds);
+            roomRepository.findAllByIdForUpdate(roomIds).forEach(r -> rooms.put(r.getId(), r));
+
+            for (Object[] row : bookingRepository.findActiveIntervalsForRooms(roomIds, windowStart, windowEnd)) {
+                taken.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                        .add(new long[]{((LocalDate) row[1]).toEpochDay(), ((LocalDate) row[2]).toEpochDay()});
+            }
+        }
+
+        String createdBy = getCurrentUser().getUsername();
+        List<Booking> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<String> previousRoomStatuses = new ArrayList<>();
+
+        // Earlier items win: each accepted booking is added to its room's taken list
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            CreateBookingRequest item = items.get(i);
+            Guest guest = guests.get(item.getGuestId());
+            Room room = rooms.get(item.getRoomId());
+            if (guest == null) {
+                results[i] = rejected(i, item, "Guest not found with id: " + item.getGuestId());
+                continue;
+            }
+            if (room == null) {
+                results[i] = rejected(i, item, "Room not found with id: " + item.getRoomId());
+                continue;
+            }
+            if (room.getBasePrice() == null) {
+                results[i] = rejected(i, item, "Room has no base price: " + room.getRoomNumber());
+                continue;
+            }
+
+            long from = item.getCheckInDate().toEpochDay();
+            long to = item.getCheckOutDate().toEpochDay();
+            List<long[]> roomTaken = taken.computeIfAbsent(room.getId(), id -> new ArrayList<>());
+            if (roomTaken.stream().anyMatch(t -> t[0] < to && t[1] > from)) {
+                results[i] = rejected(i, item, "Room is not available for selected dates");
+                continue;
+            }
+            roomTaken.add(new long[]{from, to});
+
+            double totalAmount = room.getBasePrice().doubleValue() * (to - from);
+            double advance = item.getAdvancePayment() != null ? item.getAdvancePayment() : 0.0;
+
+            Booking booking = new Booking();
+            booking.setBookingNumber(generateBookingNumber());
+            booking.setGuest(guest);
+            booking.setRoom(room);
+            booking.setCheckInDate(item.getCheckInDate());
+            booking.setCheckOutDate(item.getCheckOutDate());
+            booking.setNumberOfGuests(item.getNumberOfGuests());
+            booking.setStatus(BookingStatus.CONFIRMED);
+            booking.setTotalAmount(totalAmount);
+            booking.setAdvancePayment(advance);
+            booking.setDueAmount(totalAmount - advance);
+            booking.setPaymentMethod(item.getPaymentMethod());
+            booking.setSpecialRequests(item.getSpecialRequests());
+            booking.setCreatedBy(createdBy);
+            booking.setSource(request.getSource());
+
+            accepted.add(booking);
+            acceptedIndexes.add(i);
+            previousRoomStatuses.add(room.getStatus());
+
+            // Flushed at commit; hibernate.jdbc.batch_size groups these updates
+            room.setStatus("RESERVED");
+        }
+
+        bookingBatchRepository.insertAll(accepted);
+        availabilityIndex.afterCommit(() -> accepted.forEach(availabilityIndex::update));
+        accepted.forEach(statsRollup::markDirty);
+        accepted.stream().map(b -> b.getRoom().getHotel() != null ? b.getRoom().getHotel().getId() : null).distinct()
+                .forEach(hotelId -> eventPublisher.publishEvent(
+                        new DashboardChangedEvent(hotelId, DashboardChangedEvent.Widget.SUMMARY)));
+
+        for (int k = 0; k < accepted.size(); k++) {
+            Booking booking = accepted.get(k);
+            int index = acceptedIndexes.get(k);
+            // The same live delta createBooking sends; a stream client that falls behind gets a RESYNC
+            publishDelta(DashboardDelta.BOOKING_CREATED, booking, previousRoomStatuses.get(k));
+            results[index] = BulkBookingResponse.ItemResult.builder()
+                    .index(index)
+                    .status("CREATED")
+                    .bookingId(booking.getId())
+                    .bookingNumber(booking.getBookingNumber())
+                    .roomId(booking.getRoom().getId())
+                    .totalAmount(booking.getTotalAmount())
+                    .build();
+        }
+
+        return BulkBookingResponse.builder()
+                .total(items.size())
+                .created(accepted.size())
+                .rejected(items.size() - accepted.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private String validateImportItem(CreateBookingRequest item) {
+        if (item == null) {
+            return "Booking is empty";
+        }
+        if (item.getGuestId() == null || item.getRoomId() == null) {
+            return "Guest and room are required";
+        }
+        if (item.getCheckInDate() == null || item.getCheckOutDate() == null) {
+            return "Check-in and check-out dates are required";
+        }
+        if (!item.getCheckOutDate().isAfter(item.getCheckInDate())) {
+            return "Check-out date must be after check-in date";
+        }
+        return null;
+    }
+
+    private BulkBookingResponse.ItemResult rejected(int index, CreateBookingRequest item, String error) {
+        return BulkBookingResponse.ItemResult.builder()
+                .index(index)
+                .status("REJECTED")
+                .roomId(item != null ? item.getRoomId() : null)
+                .error(error)
+                .build();
+    }
+
     @Override
     public List<BookingResponse> getAllBookings() {
         return bookingRepository.findAll()
@@ -112,11 +339,7 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public BookingResponse getBookingByNumber(String bookingNumber) {
-        // You may want to add this method to repository
-        return bookingRepository.findAll()
-                .stream()
-                .filter(b -> b.getBookingNumber().equals(bookingNumber))
-                .findFirst()
+        return bookingRepository.findByBookingNumber(bookingNumber)
                 .map(this::mapToResponse)
                 .orElseThrow(() -> new RuntimeException("Booking not found with number: " + bookingNumber));
     }
@@ -158,6 +381,56 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<BookingResponse> getBookingsPage(Long hotelId, String status, Long cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        // Fetch one extra row to know whether another page exists
+        List<Booking> bookings = bookingRepository.findPage(hotelId, parseStatus(status), cursor, Limit.of(pageSize + 1));
+        boolean hasMore = bookings.size() > pageSize;
+        if (hasMore) {
+            bookings = bookings.subList(0, pageSize);
+        }
+
+        List<BookingResponse> items = bookings.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        return CursorPageResponse.<BookingResponse>builder()
+                .items(items)
+                .size(items.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? bookings.get(bookings.size() - 1).getId() : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamBookings(Long hotelId, String status, Consumer<BookingResponse> consumer) {
+        try (Stream<Booking> bookings = bookingRepository.streamAll(hotelId, parseStatus(status))) {
+            int[] count = {0};
+            bookings.forEach(booking -> {
+                consumer.accept(mapToResponse(booking));
+                // Drop loaded entities regularly so the persistence context stays small
+                if (++count[0] % 500 == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
+    }
+
+    private BookingStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return BookingStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid booking status: " + status);
+        }
+    }
+
     @Override
     public List<BookingResponse> getTodaysCheckIns() {
         return bookingRepository.findTodaysCheckIns(LocalDate.now())
@@ -176,14 +449,94 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<BookingResponse> getDateRangeBookings(LocalDate startDate, LocalDate endDate) {
-        // This can be implemented with a custom query
-        return bookingRepository.findAll()
+        return bookingRepository.findByDateRange(startDate, endDate)
                 .stream()
-                .filter(b -> !b.getCheckOutDate().isBefore(startDate) && !b.getCheckInDate().isAfter(endDate))
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BookingCalendarResponse getBookingCalendar(Long hotelId, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("End date must not be before start date");
+        }
+        long span = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (span > maxCalendarDays) {
+            throw new RuntimeException("Calendar window cannot exceed " + maxCalendarDays + " days");
+        }
+        int days = (int) span;
+
+        List<Object[]> roomRows = roomRepository.findCalendarRows(hotelId);
+        Map<Long, Integer> roomIndex = new HashMap<>(roomRows.size() * 2);
+        for (int i = 0; i < roomRows.size(); i++) {
+            roomIndex.put((Long) roomRows.get(i)[0], i);
+        }
+
+        OccupancyMatrix matrix = new OccupancyMatrix(roomRows.size(), days);
+        List<List<Integer>> segments = new ArrayList<>(roomRows.size());
+        for (int i = 0; i < roomRows.size(); i++) {
+            segments.add(new ArrayList<>());
+        }
+
+        // One row per booking, ordered by room then check-in
+        List<BookingCalendarResponse.Entry> entries = new ArrayList<>();
+        long origin = startDate.toEpochDay();
+        for (Object[] row : bookingRepository.findCalendarEntries(hotelId, startDate, endDate)) {
+            Integer room = roomIndex.get((Long) row[1]);
+            if (room == null) {
+                continue;
+            }
+            LocalDate checkIn = (LocalDate) row[2];
+            LocalDate checkOut = (LocalDate) row[3];
+            int from = (int) Math.max(checkIn.toEpochDay() - origin, 0);
+            int to = (int) Math.min(checkOut.toEpochDay() - origin, days);
+            if (from >= to) {
+                continue;
+            }
+
+            int bookingIndex = entries.size();
+            entries.add(BookingCalendarResponse.Entry.builder()
+                    .id((Long) row[0])
+                    .bookingNumber((String) row[5])
+                    .guestName(row[7] != null ? row[6] + " " + row[7] : (String) row[6])
+                    .status(String.valueOf(row[4]))
+                    .checkInDate(checkIn)
+                    .checkOutDate(checkOut)
+                    .build());
+
+            matrix.mark(room, from, to);
+            List<Integer> roomSegments = segments.get(room);
+            roomSegments.add(from);
+            roomSegments.add(to - from);
+            roomSegments.add(bookingIndex);
+        }
+
+        List<BookingCalendarResponse.RoomRow> rooms = new ArrayList<>(roomRows.size());
+        for (int i = 0; i < roomRows.size(); i++) {
+            Object[] row = roomRows.get(i);
+            rooms.add(BookingCalendarResponse.RoomRow.builder()
+                    .roomId((Long) row[0])
+                    .roomNumber((String) row[1])
+                    .roomTypeName((String) row[2])
+                    .floor((String) row[3])
+                    .status((String) row[4])
+                    .occupancy(matrix.encodeRow(i))
+                    .occupiedNights(matrix.occupiedNights(i))
+                    .segments(segments.get(i).stream().mapToInt(Integer::intValue).toArray())
+                    .build());
+        }
+
+        return BookingCalendarResponse.builder()
+                .hotelId(hotelId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .days(days)
+                .rooms(rooms)
+                .bookings(entries)
+                .build();
+    }
+
     @Override
     @Transactional
     public BookingResponse checkIn(Long id) {
@@ -198,10 +551,15 @@ public class BookingServiceImpl implements BookingService {
 
         // Update room status
         Room room = booking.getRoom();
+        String previousRoomStatus = room.getStatus();
         room.setStatus("OCCUPIED");
         roomRepository.save(room);
 
-        Booking updatedBooking = bookingRepository.save(booking);
+        // Flushed here so the response carries the incremented version
+        Booking updatedBooking = bookingRepository.saveAndFlush(booking);
+        availabilityIndex.afterCommit(() -> availabilityIndex.update(updatedBooking));
+        bookingChanged(updatedBooking);
+        publishDelta(DashboardDelta.CHECKED_IN, updatedBooking, previousRoomStatus);
         return mapToResponse(updatedBooking);
     }
 
@@ -219,10 +577,14 @@ public class BookingServiceImpl implements BookingService {
 
         // Update room status
         Room room = booking.getRoom();
+        String previousRoomStatus = room.getStatus();
         room.setStatus("AVAILABLE");
         roomRepository.save(room);
 
-        Booking updatedBooking = bookingRepository.save(booking);
+        Booking updatedBooking = bookingRepository.saveAndFlush(booking);
+        availabilityIndex.afterCommit(() -> availabilityIndex.update(updatedBooking));
+        bookingChanged(updatedBooking);
+        publishDelta(DashboardDelta.CHECKED_OUT, updatedBooking, previousRoomStatus);
         return mapToResponse(updatedBooking);
     }
 
@@ -241,10 +603,14 @@ public class BookingServiceImpl implements BookingService {
 
         // Update room status
         Room room = booking.getRoom();
+        String previousRoomStatus = room.getStatus();
         room.setStatus("AVAILABLE");
         roomRepository.save(room);
 
-        Booking updatedBooking = bookingRepository.save(booking);
+        Booking updatedBooking = bookingRepository.saveAndFlush(booking);
+        availabilityIndex.afterCommit(() -> availabilityIndex.update(updatedBooking));
+        bookingChanged(updatedBooking);
+        publishDelta(DashboardDelta.BOOKING_CANCELLED, updatedBooking, previousRoomStatus);
         return mapToResponse(updatedBooking);
     }
 
@@ -262,7 +628,10 @@ public class BookingServiceImpl implements BookingService {
         if (!request.getCheckInDate().equals(booking.getCheckInDate()) ||
                 !request.getCheckOutDate().equals(booking.getCheckOutDate())) {
 
-            if (!isRoomAvailable(booking.getRoom().getId(), request.getCheckInDate(), request.getCheckOutDate())) {
+            roomBookingLocks.lockUntilCompletion(booking.getRoom().getId());
+            roomRepository.findByIdForUpdate(booking.getRoom().getId());
+
+            if (!isRoomFreeUnderLock(booking.getRoom().getId(), request.getCheckInDate(), request.getCheckOutDate(), id)) {
                 throw new RuntimeException("Room is not available for selected dates");
             }
         }
@@ -274,6 +643,9 @@ public class BookingServiceImpl implements BookingService {
             booking.setGuest(newGuest);
         }
 
+        // The old stay dates need recomputing as well as the new ones
+        statsRollup.markDirty(booking);
+
         // Update booking details
         booking.setCheckInDate(request.getCheckInDate());
         booking.setCheckOutDate(request.getCheckOutDate());
@@ -290,7 +662,9 @@ public class BookingServiceImpl implements BookingService {
         booking.setAdvancePayment(request.getAdvancePayment() != null ? request.getAdvancePayment() : booking.getAdvancePayment());
         booking.setDueAmount(totalAmount - booking.getAdvancePayment());
 
-        Booking updatedBooking = bookingRepository.save(booking);
+        Booking updatedBooking = bookingRepository.saveAndFlush(booking);
+        availabilityIndex.afterCommit(() -> availabilityIndex.update(updatedBooking));
+        bookingChanged(updatedBooking);
         return mapToResponse(updatedBooking);
     }
 
@@ -306,13 +680,27 @@ public class BookingServiceImpl implements BookingService {
         roomRepository.save(room);
 
         bookingRepository.deleteById(id);
+        availabilityIndex.afterCommit(() -> availabilityIndex.remove(id));
+        bookingChanged(booking);
     }
 
+    // Reads and search; the index only reflects this node's commits, so writes use isRoomFreeUnderLock
     @Override
     public boolean isRoomAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut) {
-        List<Booking> conflictingBookings = bookingRepository.findConflictingBookings(
-                roomId, checkIn, checkOut);
-        return conflictingBookings.isEmpty();
+        if (availabilityIndex.isReady()) {
+            return availabilityIndex.isAvailable(roomId, checkIn, checkOut);
+        }
+
+        return bookingRepository.findConflictingBookingIds(roomId, checkIn, checkOut).isEmpty();
+    }
+
+    /**
+     * The check a write decides on. Asked of the database while the room's row lock is held, so a
+     * booking committed by another node just before the lock was granted is seen.
+     */
+    private boolean isRoomFreeUnderLock(Long roomId, LocalDate checkIn, LocalDate checkOut, Long excludeBookingId) {
+        return bookingRepository.findConflictingBookingIds(roomId, checkIn, checkOut).stream()
+                .allMatch(bookingId -> bookingId.equals(excludeBookingId));
     }
 
     private BookingResponse mapToResponse(Booking booking) {
@@ -320,6 +708,7 @@ public class BookingServiceImpl implements BookingService {
 
         return BookingResponse.builder()
                 .id(booking.getId())
+                .version(booking.getVersion())
                 .bookingNumber(booking.getBookingNumber())
 
                 // Guest info
@@ -354,6 +743,7 @@ public class BookingServiceImpl implements BookingService {
                 .createdAt(booking.getCreatedAt())
                 .updatedAt(booking.getUpdatedAt())
                 .createdBy(booking.getCreatedBy())
+                .source(booking.getSource())
                 .build();
     }
 }
\ No newline at end of file
@@ -2,16 +2,23 @@ package com.spring.hotel_management_backend.service.admin.impl;
 
 import com.spring.hotel_management_backend.model.dto.response.admin.*;
 import com.spring.hotel_management_backend.model.entity.*;
-import com.spring.hotel_management_backend.model.enums.BookingStatus;
 import com.spring.hotel_management_backend.repository.*;
 import com.spring.hotel_management_backend.service.admin.DashboardService;
+import com.spring.hotel_management_backend.service.admin.dashboard.DashboardCacheInvalidator;
+import com.spring.hotel_management_backend.service.admin.stats.DailyHotelStatsRollup;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,63 +32,86 @@ public class DashboardServiceImpl implements DashboardService {
     private final InventoryRepository inventoryRepository;
     private final UserRepository userRepository;
     private final HotelRepository hotelRepository;
+    private final HousekeepingTaskRepository housekeepingTaskRepository;
+    private final MaintenanceRequestRepository maintenanceRequestRepository;
+    private final DailyHotelStatsRollup statsRollup;
+
+    @Qualifier("dashboardExecutor")
+    private final Executor dashboardExecutor;
 
     @Override
+    @Cacheable(cacheNames = DashboardCacheInvalidator.SUMMARY_CACHE, keyGenerator = "dashboardKeyGenerator")
     public DashboardSummaryResponse getDashboardSummary(Long hotelId) {
         LocalDate today = LocalDate.now();
         LocalDate weekAgo = today.minusDays(7);
+        LocalDate prevWeekStart = weekAgo.minusDays(7);
         LocalDate monthAgo = today.minusMonths(1);
+        LocalDate yearAgo = today.minusYears(1);
+
+        // Independent aggregates, run side by side on the bounded dashboard executor
+        CompletableFuture<Object[]> bookingStats = supply(() -> single(bookingRepository
+                .getDashboardBookingStats(hotelId, today, today.plusDays(1), weekAgo, prevWeekStart, monthAgo, yearAgo)));
+        CompletableFuture<Object[]> roomStats = supply(() -> single(roomRepository.getRoomStatusCounts(hotelId)));
+        CompletableFuture<Object[]> guestStats = supply(() -> single(bookingRepository.getDashboardGuestStats(hotelId, today)));
+        CompletableFuture<Object[]> staffStats = supply(() -> single(employeeRepository.getDashboardStaffStats(hotelId, today)));
+        CompletableFuture<Object[]> alertStats = supply(() -> new Object[]{
+                inventoryRepository.countLowStockItems(hotelId),
+                housekeepingTaskRepository.countOpenTasks(hotelId),
+                maintenanceRequestRepository.countOpenRequests(hotelId)
+        });
+
+        Object[] bookings = await(bookingStats);
+        Object[] rooms = await(roomStats);
+        Object[] guests = await(guestStats);
+        Object[] staff = await(staffStats);
+        Object[] alerts = await(alertStats);
 
         // Revenue calculations
-        Double todayRevenue = calculateRevenue(hotelId, today, today);
-        Double weekRevenue = calculateRevenue(hotelId, weekAgo, today);
-        Double monthRevenue = calculateRevenue(hotelId, monthAgo, today);
-        Double yearRevenue = calculateRevenue(hotelId, today.minusYears(1), today);
+        Double todayRevenue = asDouble(bookings[0]);
+        Double weekRevenue = asDouble(bookings[1]);
+        Double monthRevenue = asDouble(bookings[2]);
+        Double yearRevenue = asDouble(bookings[3]);
 
         // Previous period for growth
-        Double prevWeekRevenue = calculateRevenue(hotelId, weekAgo.minusDays(7), weekAgo);
+        Double prevWeekRevenue = asDouble(bookings[4]);
         Double revenueGrowth = prevWeekRevenue > 0 ?
                 ((weekRevenue - prevWeekRevenue) / prevWeekRevenue) * 100 : 0;
 
         // Room statistics
-        List<Room> rooms = hotelId != null ?
-                roomRepository.findByHotel(hotelRepository.findById(hotelId).orElse(null)) :
-                roomRepository.findAll();
-
-        Integer totalRooms = rooms.size();
-        Integer occupiedRooms = (int) rooms.stream().filter(r -> "OCCUPIED".equals(r.getStatus())).count();
-        Integer availableRooms = (int) rooms.stream().filter(r -> "AVAILABLE".equals(r.getStatus())).count();
-        Integer maintenanceRooms = (int) rooms.stream().filter(r -> "MAINTENANCE".equals(r.getStatus())).count();
+        Integer totalRooms = asInt(rooms[0]);
+        Integer occupiedRooms = asInt(rooms[1]);
+        Integer availableRooms = asInt(rooms[2]);
+        Integer maintenanceRooms = asInt(rooms[3]);
 
         Double occupancyRate = totalRooms > 0 ? (occupiedRooms * 100.0 / totalRooms) : 0;
 
-        // Previous occupancy for growth
-        Double prevOccupancyRate = calculateOccupancyRate(hotelId, weekAgo.minusDays(7), weekAgo);
+        // Previous occupancy for growth: room-nights sold over room-nights available last week
+        Double prevOccupancyRate = totalRooms > 0 ? (asDouble(bookings[10]) * 100.0 / (totalRooms * 7)) : 0;
         Double occupancyGrowth = prevOccupancyRate > 0 ?
                 ((occupancyRate - prevOccupancyRate) / prevOccupancyRate) * 100 : 0;
 
         // Booking statistics
-        Integer todayCheckIns = getTodaysCheckIns(hotelId, today);
-        Integer todayCheckOuts = getTodaysCheckOuts(hotelId, today);
-        Integer totalBookings = getTotalBookings(hotelId);
-        Integer pendingBookings = getBookingsByStatus(hotelId, BookingStatus.PENDING);
-        Integer cancelledBookings = getBookingsByStatus(hotelId, BookingStatus.CANCELLED);
+        Integer todayCheckIns = asInt(bookings[5]);
+        Integer todayCheckOuts = asInt(bookings[6]);
+        Integer totalBookings = asInt(bookings[7]);
+        Integer pendingBookings = asInt(bookings[8]);
+        Integer cancelledBookings = asInt(bookings[9]);
 
         // Guest statistics
-        Integer totalGuests = getTotalGuests(hotelId);
-        Integer newGuestsToday = getNewGuestsCount(hotelId, today);
-        Integer repeatGuests = getRepeatGuestsCount(hotelId);
+        Integer totalGuests = asInt(guests[0]);
+        Integer newGuestsToday = asInt(guests[1]);
+        Integer repeatGuests = asInt(guests[2]);
 
         // Staff statistics
-        Integer totalStaff = getTotalStaff(hotelId);
-        Integer staffPresent = getStaffPresent(hotelId, today);
-        Integer staffOnLeave = getStaffOnLeave(hotelId, today);
-        Integer staffAbsent = totalStaff - staffPresent - staffOnLeave;
+        Integer totalStaff = asInt(staff[0]);
+        Integer staffPresent = asInt(staff[1]);
+        Integer staffOnLeave = asInt(staff[2]);
+        Integer staffAbsent = Math.max(totalStaff - staffPresent - staffOnLeave, 0);
 
         // Alerts
-        Integer lowStockAlerts = getLowStockAlertsCount(hotelId);
-        Integer pendingTasks = getPendingTasksCount(hotelId);
-        Integer maintenanceRequests = getMaintenanceRequestsCount(hotelId);
+        Integer lowStockAlerts = asInt(alerts[0]);
+        Integer pendingTasks = asInt(alerts[1]);
+        Integer maintenanceRequests = asInt(alerts[2]);
 
         return DashboardSummaryResponse.builder()
                 .todayRevenue(todayRevenue)
@@ -114,18 +144,18 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
+    @Cacheable(cacheNames = DashboardCacheInvalidator.CHARTS_CACHE, keyGenerator = "dashboardKeyGenerator")
     public RevenueChartResponse getRevenueChart(Long hotelId, String period, LocalDate startDate, LocalDate endDate) {
         List<String> labels = new ArrayList<>();
         List<Double> revenueData = new ArrayList<>();
 
+        Map<LocalDate, DailyHotelStats> stats = statsRollup.load(hotelId, startDate, endDate);
         LocalDate currentDate = startDate;
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM");
 
         while (!currentDate.isAfter(endDate)) {
             labels.add(currentDate.format(formatter));
-
-            Double dailyRevenue = calculateRevenue(hotelId, currentDate, currentDate);
-            revenueData.add(dailyRevenue != null ? dailyRevenue : 0.0);
+            revenueData.add(DailyHotelStatsRollup.dayOf(stats, currentDate).getRevenue());
 
             currentDate = currentDate.plusDays(1);
         }
@@ -179,20 +209,22 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
+    @Cacheable(cacheNames = DashboardCacheInvalidator.CHARTS_CACHE, keyGenerator = "dashboardKeyGenerator")
     public OccupancyChartResponse getOccupancyChart(Long hotelId, String period, LocalDate startDate, LocalDate endDate) {
         List<String> dates = new ArrayList<>();
         List<Integer> occupied = new ArrayList<>();
         List<Integer> available = new ArrayList<>();
         List<Double> rates = new ArrayList<>();
 
+        Map<LocalDate, DailyHotelStats> stats = statsRollup.load(hotelId, startDate, endDate);
+        int totalRooms = getTotalRoomsCount(hotelId);
         LocalDate currentDate = startDate;
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM");
 
         while (!currentDate.isAfter(endDate)) {
             dates.add(currentDate.format(formatter));
 
-            int occupiedCount = getOccupiedRoomsCount(hotelId, currentDate);
-            int totalRooms = getTotalRoomsCount(hotelId);
+            int occupiedCount = DailyHotelStatsRollup.dayOf(stats, currentDate).getOccupiedRoomNights();
             double rate = totalRooms > 0 ? (occupiedCount * 100.0 / totalRooms) : 0;
 
             occupied.add(occupiedCount);
@@ -399,45 +431,50 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
+    @Cacheable(cacheNames = DashboardCacheInvalidator.CHARTS_CACHE, keyGenerator = "dashboardKeyGenerator")
     public Map<String, Double> getRevenueTrend(Long hotelId, Integer days) {
         Map<String, Double> trend = new LinkedHashMap<>();
         LocalDate today = LocalDate.now();
+        Map<LocalDate, DailyHotelStats> stats = statsRollup.load(hotelId, today.minusDays(days - 1), today);
 
         for (int i = days-1; i >= 0; i--) {
             LocalDate date = today.minusDays(i);
             String key = date.format(DateTimeFormatter.ofPattern("dd MMM"));
-            Double revenue = calculateRevenue(hotelId, date, date);
-            trend.put(key, revenue != null ? revenue : 0.0);
+            trend.put(key, DailyHotelStatsRollup.dayOf(stats, date).getRevenue());
         }
 
         return trend;
     }
 
     @Override
+    @Cacheable(cacheNames = DashboardCacheInvalidator.CHARTS_CACHE, keyGenerator = "dashboardKeyGenerator")
     public Map<String, Integer> getBookingTrend(Long hotelId, Integer days) {
         Map<String, Integer> trend = new LinkedHashMap<>();
         LocalDate today = LocalDate.now();
+        Map<LocalDate, DailyHotelStats> stats = statsRollup.load(hotelId, today.minusDays(days - 1), today);
 
         for (int i = days-1; i >= 0; i--) {
             LocalDate date = today.minusDays(i);
             String key = date.format(DateTimeFormatter.ofPattern("dd MMM"));
-            Integer count = getBookingsCountByDate(hotelId, date);
-            trend.put(key, count != null ? count : 0);
+            // Arrivals scheduled for the day, excluding cancellations
+            trend.put(key, DailyHotelStatsRollup.dayOf(stats, date).getCheckIns());
         }
 
         return trend;
     }
 
     @Override
+    @Cacheable(cacheNames = DashboardCacheInvalidator.CHARTS_CACHE, keyGenerator = "dashboardKeyGenerator")
     public Map<String, Double> getOccupancyTrend(Long hotelId, Integer days) {
         Map<String, Double> trend = new LinkedHashMap<>();
         LocalDate today = LocalDate.now();
         int totalRooms = getTotalRoomsCount(hotelId);
+        Map<LocalDate, DailyHotelStats> stats = statsRollup.load(hotelId, today.minusDays(days - 1), today);
 
         for (int i = days-1; i >= 0; i--) {
             LocalDate date = today.minusDays(i);
             String key = date.format(DateTimeFormatter.ofPattern("dd MMM"));
-            int occupied = getOccupiedRoomsCount(hotelId, date);
+            int occupied = DailyHotelStatsRollup.dayOf(stats, date).getOccupiedRoomNights();
             double rate = totalRooms > 0 ? (occupied * 100.0 / totalRooms) : 0;
             trend.put(key, rate);
         }
@@ -447,77 +484,35 @@ public class DashboardServiceImpl implements DashboardService {
 
     // Private helper methods for calculations
 
-    private Double calculateRevenue(Long hotelId, LocalDate startDate, LocalDate endDate) {
-        // This would calculate from booking repository
-        // For now returning sample data
-        return 45000.0 + (Math.random() * 10000);
-    }
-
-    private Double calculateOccupancyRate(Long hotelId, LocalDate startDate, LocalDate endDate) {
-        return 65.0 + (Math.random() * 20);
-    }
-
-    private Integer getTodaysCheckIns(Long hotelId, LocalDate date) {
-        return 8 + (int)(Math.random() * 5);
+    private <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, dashboardExecutor);
     }
 
-    private Integer getTodaysCheckOuts(Long hotelId, LocalDate date) {
-        return 6 + (int)(Math.random() * 4);
-    }
-
-    private Integer getTotalBookings(Long hotelId) {
-        return 150;
-    }
-
-    private Integer getBookingsByStatus(Long hotelId, BookingStatus status) {
-        return 12;
-    }
-
-    private Integer getTotalGuests(Long hotelId) {
-        return 450;
-    }
-
-    private Integer getNewGuestsCount(Long hotelId, LocalDate date) {
-        return 8;
-    }
-
-    private Integer getRepeatGuestsCount(Long hotelId) {
-        return 120;
-    }
-
-    private Integer getTotalStaff(Long hotelId) {
-        return 25;
-    }
-
-    private Integer getStaffPresent(Long hotelId, LocalDate date) {
-        return 18;
-    }
-
-    private Integer getStaffOnLeave(Long hotelId, LocalDate date) {
-        return 3;
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
-    private Integer getLowStockAlertsCount(Long hotelId) {
-        return 5;
+    // Aggregate queries without GROUP BY always return exactly one row
+    private static Object[] single(List<Object[]> rows) {
+        return rows.get(0);
     }
 
-    private Integer getPendingTasksCount(Long hotelId) {
-        return 12;
+    private static Double asDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
     }
 
-    private Integer getMaintenanceRequestsCount(Long hotelId) {
-        return 3;
+    private static Integer asInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
     }
 
     private Integer getTotalRoomsCount(Long hotelId) {
-        return 50;
-    }
-
-    private Integer getOccupiedRoomsCount(Long hotelId, LocalDate date) {
-        return 35 + (int)(Math.random() * 10);
-    }
-
-    private Integer getBookingsCountByDate(Long hotelId, LocalDate date) {
-        return 10 + (int)(Math.random() * 8);
+        return asInt(single(roomRepository.getRoomStatusCounts(hotelId))[0]);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.spring.hotel_management_backend.service.admin.impl;
+
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
+import com.spring.hotel_management_backend.repository.GuestRepository;
+import com.spring.hotel_management_backend.service.admin.GuestService;
+import com.spring.hotel_management_backend.service.mobile.sync.SyncTombstones;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class GuestServiceImpl implements GuestService {
+
+    private final GuestRepository guestRepository;
+    private final SyncTombstones syncTombstones;
+
+    @Override
+    @Transactional
+    public void deleteGuest(Long id) {
+        if (!guestRepository.existsById(id)) {
+            throw new RuntimeException("Guest not found with id: " + id);
+        }
+        guestRepository.deleteById(id);
+        // A guest can stay at any hotel, so the tombstone is chain-wide
+        syncTombstones.record(SyncEntity.GUESTS, id, null);
+    }
+}
@@ -6,7 +6,10 @@ import com.spring.hotel_management_backend.model.entity.*;
 import com.spring.hotel_management_backend.model.enums.RoleType;
 import com.spring.hotel_management_backend.repository.*;
 import com.spring.hotel_management_backend.service.admin.HRService;
+import com.spring.hotel_management_backend.service.admin.dashboard.DashboardChangedEvent;
+import com.spring.hotel_management_backend.service.admin.ids.BusinessIdGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +31,8 @@ public class HRServiceImpl implements HRService {
     private final ShiftRepository shiftRepository;
     private final PayrollRepository payrollRepository;
     private final UserRepository userRepository;
+    private final BusinessIdGenerator businessIdGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========== Department Management ==========
 
@@ -105,6 +110,11 @@ public class HRServiceImpl implements HRService {
     @Override
     @Transactional
     public EmployeeResponse createEmployee(CreateEmployeeRequest request) {
+        // Issue an employee ID when none is given
+        if (request.getEmployeeId() == null || request.getEmployeeId().isBlank()) {
+            request.setEmployeeId(businessIdGenerator.next(BusinessIdGenerator.EMPLOYEE));
+        }
+
         // Check if employee ID exists
         if (employeeRepository.existsByEmployeeId(request.getEmployeeId())) {
             throw new RuntimeException("Employee ID already exists: " + request.getEmployeeId());
@@ -402,6 +412,10 @@ public class HRServiceImpl implements HRService {
         }
 
         Attendance savedAttendance = attendanceRepository.save(attendance);
+
+        // Staff present / absent counters on the dashboard summary
+        Long hotelId = employee.getHotel() != null ? employee.getHotel().getId() : null;
+        eventPublisher.publishEvent(new DashboardChangedEvent(hotelId, DashboardChangedEvent.Widget.SUMMARY));
         return mapToAttendanceResponse(savedAttendance);
     }
 
@@ -453,7 +467,8 @@ public class HRServiceImpl implements HRService {
             attendance.setWorkingHours(hours);
         }
 
-        Attendance updatedAttendance = attendanceRepository.save(attendance);
+        // Flushed here so the response carries the incremented version
+        Attendance updatedAttendance = attendanceRepository.saveAndFlush(attendance);
         return mapToAttendanceResponse(updatedAttendance);
     }
 
@@ -959,6 +974,7 @@ public class HRServiceImpl implements HRService {
     private AttendanceResponse mapToAttendanceResponse(Attendance attendance) {
         return AttendanceResponse.builder()
                 .id(attendance.getId())
+                .version(attendance.getVersion())
                 .employeeId(attendance.getEmployee().getId())
                 .employeeName(attendance.getEmployee().getFirstName() + " " + attendance.getEmployee().getLastName())
                 .employeeIdNumber(attendance.getEmployee().getEmployeeId())
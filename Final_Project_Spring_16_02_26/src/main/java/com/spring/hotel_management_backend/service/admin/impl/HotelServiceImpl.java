@@ -3,10 +3,13 @@ package com.spring.hotel_management_backend.service.admin.impl;
 import com.spring.hotel_management_backend.model.dto.request.admin.CreateHotelRequest;
 import com.spring.hotel_management_backend.model.dto.response.admin.HotelResponse;
 import com.spring.hotel_management_backend.model.entity.Hotel;
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
 import com.spring.hotel_management_backend.repository.HotelRepository;
 import com.spring.hotel_management_backend.service.admin.HotelService;
+import com.spring.hotel_management_backend.service.mobile.sync.SyncTombstones;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,6 +19,7 @@ import java.util.stream.Collectors;
 public class HotelServiceImpl implements HotelService {
 
     private final HotelRepository hotelRepository;
+    private final SyncTombstones syncTombstones;
 
     @Override
     public HotelResponse createHotel(CreateHotelRequest request) {
@@ -75,11 +79,13 @@ public class HotelServiceImpl implements HotelService {
     }
 
     @Override
+    @Transactional
     public void deleteHotel(Long id) {
         if (!hotelRepository.existsById(id)) {
             throw new RuntimeException("Hotel not found with id: " + id);
         }
         hotelRepository.deleteById(id);
+        syncTombstones.record(SyncEntity.HOTELS, id, id);
     }
 
     private HotelResponse mapToResponse(Hotel hotel) {
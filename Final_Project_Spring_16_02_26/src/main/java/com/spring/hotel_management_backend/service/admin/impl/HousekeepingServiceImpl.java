@@ -138,7 +138,8 @@ public class HousekeepingServiceImpl implements HousekeepingService {
                 break;
         }
 
-        HousekeepingTask updatedTask = taskRepository.save(task);
+        // Flushed here so the response carries the incremented version
+        HousekeepingTask updatedTask = taskRepository.saveAndFlush(task);
         return mapToTaskResponse(updatedTask);
     }
 
@@ -298,6 +299,7 @@ public class HousekeepingServiceImpl implements HousekeepingService {
 
         return TaskResponse.builder()
                 .id(task.getId())
+                .version(task.getVersion())
                 .roomId(task.getRoom().getId())
                 .roomNumber(task.getRoom().getRoomNumber())
                 .roomType(task.getRoom().getRoomType() != null ? task.getRoom().getRoomType().getName() : null)
@@ -5,7 +5,10 @@ import com.spring.hotel_management_backend.model.dto.response.admin.inventory.*;
 import com.spring.hotel_management_backend.model.entity.*;
 import com.spring.hotel_management_backend.repository.*;
 import com.spring.hotel_management_backend.service.admin.InventoryService;
+import com.spring.hotel_management_backend.service.admin.dashboard.DashboardChangedEvent;
+import com.spring.hotel_management_backend.service.admin.ids.BusinessIdGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,7 +17,6 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,11 +28,13 @@ public class InventoryServiceImpl implements InventoryService {
     private final PurchaseOrderRepository purchaseOrderRepository;
     private final StockTransactionRepository stockTransactionRepository;
     private final UserRepository userRepository;
+    private final BusinessIdGenerator businessIdGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========== Helper Methods ==========
 
     private String generatePONumber() {
-        return "PO" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 4).toUpperCase();
+        return businessIdGenerator.next(BusinessIdGenerator.PURCHASE_ORDER);
     }
 
     private String getCurrentUser() {
@@ -188,6 +192,9 @@ public class InventoryServiceImpl implements InventoryService {
         createStockTransaction(updatedItem, "ADJUSTMENT", changeAmount,
                 item.getUnitPrice(), request.getReason(), request.getReference());
 
+        // Low-stock alert count on the dashboard summary
+        eventPublisher.publishEvent(new DashboardChangedEvent(updatedItem.getHotelId(), DashboardChangedEvent.Widget.SUMMARY));
+
         return mapToInventoryItemResponse(updatedItem);
     }
 
@@ -1,11 +1,15 @@
 package com.spring.hotel_management_backend.service.admin.impl;
 
 import com.spring.hotel_management_backend.model.dto.request.admin.payment.*;
+import com.spring.hotel_management_backend.model.dto.response.admin.DashboardDelta;
 import com.spring.hotel_management_backend.model.dto.response.admin.payment.*;
 import com.spring.hotel_management_backend.model.entity.*;
 import com.spring.hotel_management_backend.repository.*;
 import com.spring.hotel_management_backend.service.admin.PaymentService;
+import com.spring.hotel_management_backend.service.admin.dashboard.DashboardChangedEvent;
+import com.spring.hotel_management_backend.service.admin.ids.BusinessIdGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,7 +17,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,13 +27,15 @@ public class PaymentServiceImpl implements PaymentService {
     private final InvoiceRepository invoiceRepository;
     private final BookingRepository bookingRepository;
     private final GuestRepository guestRepository;
+    private final BusinessIdGenerator businessIdGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     private String generatePaymentNumber() {
-        return "PAY" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 4).toUpperCase();
+        return businessIdGenerator.next(BusinessIdGenerator.PAYMENT);
     }
 
     private String generateInvoiceNumber() {
-        return "INV" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 4).toUpperCase();
+        return businessIdGenerator.next(BusinessIdGenerator.INVOICE);
     }
 
     @Override
@@ -80,6 +85,16 @@ public class PaymentServiceImpl implements PaymentService {
             invoiceRepository.save(invoice);
         });
 
+        eventPublisher.publishEvent(new DashboardChangedEvent(payment.getHotelId(), DashboardChangedEvent.Widget.SUMMARY));
+        eventPublisher.publishEvent(DashboardDelta.builder()
+                .type(DashboardDelta.PAYMENT_POSTED)
+                .hotelId(payment.getHotelId())
+                .bookingId(booking.getId())
+                .bookingNumber(booking.getBookingNumber())
+                .roomId(booking.getRoom().getId())
+                .roomNumber(booking.getRoom().getRoomNumber())
+                .amount(savedPayment.getAmount())
+                .build());
         return mapToPaymentResponse(savedPayment);
     }
 
@@ -147,6 +162,7 @@ public class PaymentServiceImpl implements PaymentService {
             invoiceRepository.save(invoice);
         });
 
+        eventPublisher.publishEvent(new DashboardChangedEvent(payment.getHotelId(), DashboardChangedEvent.Widget.SUMMARY));
         return mapToPaymentResponse(refundedPayment);
     }
 
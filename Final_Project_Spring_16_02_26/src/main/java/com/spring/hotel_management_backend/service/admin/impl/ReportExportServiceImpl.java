@@ -0,0 +1,64 @@
+package com.spring.hotel_management_backend.service.admin.impl;
+
+import com.spring.hotel_management_backend.repository.AttendanceRepository;
+import com.spring.hotel_management_backend.repository.PaymentRepository;
+import com.spring.hotel_management_backend.repository.StockTransactionRepository;
+import com.spring.hotel_management_backend.service.admin.ReportExportService;
+import com.spring.hotel_management_backend.service.admin.export.ExportDataset;
+import com.spring.hotel_management_backend.service.admin.export.ExportFormat;
+import com.spring.hotel_management_backend.service.admin.export.TabularWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportExportServiceImpl implements ReportExportService {
+
+    private final StockTransactionRepository stockTransactionRepository;
+    private final PaymentRepository paymentRepository;
+    private final AttendanceRepository attendanceRepository;
+
+    /**
+     * Rows come from a forward-only cursor of scalar projections, so nothing is added to the
+     * persistence context and each row is garbage as soon as the writer has encoded it.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long export(ExportDataset dataset, ExportFormat format, Long hotelId,
+                       LocalDate startDate, LocalDate endDate, OutputStream out) throws IOException {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new RuntimeException("A valid date range is required for exports");
+        }
+
+        long count = 0;
+        try (Stream<Object[]> rows = openCursor(dataset, hotelId, startDate, endDate);
+             TabularWriter writer = TabularWriter.of(format, out)) {
+            writer.header(dataset.getColumns());
+            for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); count++) {
+                writer.row(it.next());
+            }
+            writer.finish();
+        }
+        log.info("Exported {} {} rows as {}", count, dataset, format);
+        return count;
+    }
+
+    private Stream<Object[]> openCursor(ExportDataset dataset, Long hotelId, LocalDate startDate, LocalDate endDate) {
+        return switch (dataset) {
+            case STOCK_TRANSACTIONS -> stockTransactionRepository.streamForExport(
+                    hotelId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+            case PAYMENTS -> paymentRepository.streamForExport(
+                    hotelId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+            case ATTENDANCE -> attendanceRepository.streamForExport(hotelId, startDate, endDate);
+        };
+    }
+}
@@ -0,0 +1,296 @@
+package com.spring.hotel_management_backend.service.admin.impl;
+
+import com.spring.hotel_management_backend.model.dto.request.admin.reports.ReportJobRequest;
+import com.spring.hotel_management_backend.model.dto.response.admin.reports.ReportJobResponse;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
+import com.spring.hotel_management_backend.service.admin.ReportJobService;
+import com.spring.hotel_management_backend.service.admin.ReportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs long reports off the request thread. Jobs for the same report and parameters are
+ * coalesced while running, and finished results are kept in the reportResults cache so a
+ * repeated request completes immediately. Job records are kept for a retention window only.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportJobServiceImpl implements ReportJobService {
+
+    public static final String RESULT_CACHE = "reportResults";
+
+    private static final String QUEUED = "QUEUED";
+    private static final String RUNNING = "RUNNING";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+
+    private final ReportService reportService;
+    private final CacheManager cacheManager;
+
+    @Qualifier("reportExecutor")
+    private final Executor reportExecutor;
+
+    @Value("${report.jobs.retention-minutes:30}")
+    private long retentionMinutes;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ReportJob> activeByKey = new ConcurrentHashMap<>();
+
+    @Override
+    public ReportJobResponse submit(ReportJobRequest request) {
+        validate(request);
+        String key = cacheKey(request);
+        String requestedBy = AuthenticatedUser.current().getUsername();
+
+        if (!Boolean.TRUE.equals(request.getRefresh())) {
+            Cache.ValueWrapper cached = resultCache().get(key);
+            if (cached != null) {
+                ReportJob job = new ReportJob(request, key, requestedBy);
+                job.cached = true;
+                job.finish(COMPLETED, cached.get(), null);
+                jobs.put(job.id, job);
+                return job.toResponse(false);
+            }
+        }
+
+        ReportJob job = new ReportJob(request, key, requestedBy);
+        // Same report already queued or running: hand back that job instead of computing it twice
+        ReportJob existing = activeByKey.putIfAbsent(key, job);
+        if (existing != null && !Boolean.TRUE.equals(request.getRefresh())) {
+            return existing.toResponse(false);
+        }
+        jobs.put(job.id, job);
+
+        try {
+            reportExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            activeByKey.remove(key, job);
+            throw new RuntimeException("Report queue is full, please try again later");
+        }
+        return job.toResponse(false);
+    }
+
+    @Override
+    public ReportJobResponse getJob(String jobId) {
+        return findJob(jobId).toResponse(true);
+    }
+
+    @Override
+    public SseEmitter subscribe(String jobId) {
+        ReportJob job = findJob(jobId);
+        SseEmitter emitter = new SseEmitter(0L);
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${report.jobs.purge-interval-ms:60000}")
+    public void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private void run(ReportJob job) {
+        job.update(RUNNING, 10);
+        try {
+            Object result = generate(job.request);
+            resultCache().put(job.key, result);
+            job.finish(COMPLETED, result, null);
+        } catch (RuntimeException e) {
+            log.warn("Report job {} ({}) failed: {}", job.id, job.reportType, e.getMessage());
+            job.finish(FAILED, null, e.getMessage());
+        } finally {
+            activeByKey.remove(job.key, job);
+        }
+    }
+
+    private Object generate(ReportJobRequest request) {
+        Long hotelId = request.getHotelId();
+        LocalDate start = request.getStartDate();
+        LocalDate end = request.getEndDate();
+        return switch (request.getReportType()) {
+            case "OCCUPANCY" -> reportService.getOccupancyReport(hotelId, start, end);
+            case "MONTHLY_OCCUPANCY" -> reportService.getMonthlyOccupancyReport(hotelId, request.getYear());
+            case "REVENUE" -> reportService.getRevenueReport(hotelId, start, end);
+            case "YEARLY_REVENUE" -> reportService.getYearlyRevenueComparison(hotelId, request.getYear());
+            case "STAFF_ATTENDANCE" -> reportService.getStaffAttendanceReport(hotelId, start, end);
+            case "DEPARTMENT_ATTENDANCE" -> reportService.getDepartmentAttendanceReport(hotelId, request.getDepartment(), start, end);
+            case "INVENTORY" -> reportService.getInventoryReport(hotelId);
+            case "GUEST_HISTORY" -> reportService.getGuestHistoryReport(hotelId, start, end);
+            case "TOP_GUESTS" -> reportService.getTopGuestsReport(hotelId, request.getLimit());
+            case "CHAIN_OCCUPANCY" -> reportService.getChainOccupancyReport(start, end);
+            case "CHAIN_REVENUE" -> reportService.getChainRevenueReport(start, end);
+            default -> throw new RuntimeException("Unsupported report type: " + request.getReportType());
+        };
+    }
+
+    private static void validate(ReportJobRequest request) {
+        if (request.getReportType() == null) {
+            throw new RuntimeException("Report type is required");
+        }
+        request.setReportType(request.getReportType().toUpperCase());
+        switch (request.getReportType()) {
+            case "MONTHLY_OCCUPANCY", "YEARLY_REVENUE" -> {
+                if (request.getYear() == null) {
+                    throw new RuntimeException("Year is required for " + request.getReportType());
+                }
+            }
+            case "OCCUPANCY", "REVENUE", "STAFF_ATTENDANCE", "DEPARTMENT_ATTENDANCE", "GUEST_HISTORY",
+                 "CHAIN_OCCUPANCY", "CHAIN_REVENUE" -> {
+                if (request.getStartDate() == null || request.getEndDate() == null) {
+                    throw new RuntimeException("Start and end date are required for " + request.getReportType());
+                }
+                if (request.getEndDate().isBefore(request.getStartDate())) {
+                    throw new RuntimeException("End date must not be before start date");
+                }
+            }
+            case "INVENTORY", "TOP_GUESTS" -> {
+            }
+            default -> throw new RuntimeException("Unsupported report type: " + request.getReportType());
+        }
+    }
+
+    // Only the parameters the report type actually reads, so irrelevant fields don't split the cache
+    private static String cacheKey(ReportJobRequest request) {
+        List<Object> parts = new ArrayList<>(List.of(request.getReportType(), String.valueOf(request.getHotelId())));
+        switch (request.getReportType()) {
+            case "MONTHLY_OCCUPANCY", "YEARLY_REVENUE" -> parts.add(request.getYear());
+            case "DEPARTMENT_ATTENDANCE" -> parts.addAll(Arrays.asList(request.getDepartment(), request.getStartDate(), request.getEndDate()));
+            case "TOP_GUESTS" -> parts.add(request.getLimit());
+            case "CHAIN_OCCUPANCY", "CHAIN_REVENUE" -> {
+                // Always every hotel
+                parts.set(1, "*");
+                parts.addAll(Arrays.asList(request.getStartDate(), request.getEndDate()));
+            }
+            case "INVENTORY" -> {
+            }
+            default -> parts.addAll(Arrays.asList(request.getStartDate(), request.getEndDate()));
+        }
+        StringJoiner key = new StringJoiner("|");
+        parts.forEach(part -> key.add(String.valueOf(part)));
+        return key.toString();
+    }
+
+    private ReportJob findJob(String jobId) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Report job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private Cache resultCache() {
+        return Objects.requireNonNull(cacheManager.getCache(RESULT_CACHE), "Cache " + RESULT_CACHE + " is not configured");
+    }
+
+    private static final class ReportJob {
+        private final String id = UUID.randomUUID().toString();
+        private final ReportJobRequest request;
+        private final String key;
+        private final String reportType;
+        private final String requestedBy;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final List<SseEmitter> listeners = new CopyOnWriteArrayList<>();
+
+        private volatile String status = QUEUED;
+        private volatile int progress;
+        private volatile boolean cached;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        private volatile Object result;
+
+        private ReportJob(ReportJobRequest request, String key, String requestedBy) {
+            this.request = request;
+            this.key = key;
+            this.reportType = request.getReportType();
+            this.requestedBy = requestedBy;
+        }
+
+        private synchronized void update(String status, int progress) {
+            this.status = status;
+            this.progress = progress;
+            if (startedAt == null) {
+                startedAt = LocalDateTime.now();
+            }
+            publish(false);
+        }
+
+        private synchronized void finish(String status, Object result, String error) {
+            this.result = result;
+            this.error = error;
+            this.progress = 100;
+            this.status = status;
+            this.finishedAt = LocalDateTime.now();
+            if (startedAt == null) {
+                startedAt = finishedAt;
+            }
+            publish(true);
+        }
+
+        private synchronized void subscribe(SseEmitter emitter) {
+            if (finishedAt != null) {
+                send(emitter, true);
+                return;
+            }
+            listeners.add(emitter);
+            emitter.onCompletion(() -> listeners.remove(emitter));
+            emitter.onTimeout(() -> listeners.remove(emitter));
+            send(emitter, false);
+        }
+
+        // Progress events carry the status only; the result is fetched from GET /jobs/{id}
+        private void publish(boolean last) {
+            for (SseEmitter emitter : listeners) {
+                send(emitter, last);
+            }
+            if (last) {
+                listeners.clear();
+            }
+        }
+
+        private void send(SseEmitter emitter, boolean last) {
+            try {
+                emitter.send(SseEmitter.event().name(status).data(toResponse(false)));
+                if (last) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                listeners.remove(emitter);
+            }
+        }
+
+        private ReportJobResponse toResponse(boolean withResult) {
+            return ReportJobResponse.builder()
+                    .jobId(id)
+                    .reportType(reportType)
+                    .status(status)
+                    .progress(progress)
+                    .cached(cached)
+                    .requestedBy(requestedBy)
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .result(withResult ? result : null)
+                    .build();
+        }
+    }
+}
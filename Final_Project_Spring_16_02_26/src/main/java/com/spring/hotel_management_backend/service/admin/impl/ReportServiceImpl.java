@@ -5,13 +5,22 @@ import com.spring.hotel_management_backend.model.entity.*;
 import com.spring.hotel_management_backend.model.enums.BookingStatus;
 import com.spring.hotel_management_backend.repository.*;
 import com.spring.hotel_management_backend.service.admin.ReportService;
+import com.spring.hotel_management_backend.service.admin.stats.DailyHotelStatsRollup;
+import com.spring.hotel_management_backend.service.admin.stats.RevenueAggregation;
+import com.spring.hotel_management_backend.service.admin.stats.TopN;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,26 +34,37 @@ public class ReportServiceImpl implements ReportService {
     private final InventoryRepository inventoryRepository;
     private final HotelRepository hotelRepository;
     private final AttendanceRepository attendanceRepository;
+    private final DailyHotelStatsRollup statsRollup;
+
+    @Qualifier("chainReportExecutor")
+    private final Executor chainReportExecutor;
 
     @Override
     public OccupancyReportResponse getOccupancyReport(Long hotelId, LocalDate startDate, LocalDate endDate) {
         List<Room> rooms = getRoomsByHotel(hotelId);
         int totalRooms = rooms.size();
+        // Room status is not historised, so today's maintenance count stands in for every day
+        int maintenanceCount = (int) rooms.stream().filter(r -> "MAINTENANCE".equals(r.getStatus())).count();
 
         List<OccupancyReportResponse.DailyOccupancy> dailyOccupancy = new ArrayList<>();
         Map<String, OccupancyReportResponse.RoomTypeOccupancy> roomTypeStats = new HashMap<>();
-        Map<String, OccupancyReportResponse.MonthlyOccupancy> monthlyStats = new HashMap<>();
+        Map<String, OccupancyReportResponse.MonthlyOccupancy> monthlyStats = new LinkedHashMap<>();
+
+        // One range scan over the daily rollup instead of per-day queries
+        Map<LocalDate, DailyHotelStats> stats = statsRollup.load(hotelId, startDate, endDate);
+        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("yyyy-MM");
+        Map<String, Integer> daysInMonth = new HashMap<>();
 
         LocalDate currentDate = startDate;
         int totalOccupiedNights = 0;
         int totalDays = 0;
 
         while (!currentDate.isAfter(endDate)) {
-            int occupiedCount = getOccupiedRoomsCountForDate(hotelId, currentDate);
-            int maintenanceCount = getMaintenanceRoomsCountForDate(hotelId, currentDate);
+            DailyHotelStats day = DailyHotelStatsRollup.dayOf(stats, currentDate);
+            int occupiedCount = day.getOccupiedRoomNights();
             int availableCount = totalRooms - occupiedCount - maintenanceCount;
             double occupancyRate = totalRooms > 0 ? (occupiedCount * 100.0 / totalRooms) : 0;
-            double dailyRevenue = calculateRevenueForDate(hotelId, currentDate);
+            double dailyRevenue = day.getRevenue();
 
             dailyOccupancy.add(OccupancyReportResponse.DailyOccupancy.builder()
                     .date(currentDate)
@@ -55,29 +75,48 @@ public class ReportServiceImpl implements ReportService {
                     .revenue(dailyRevenue)
                     .build());
 
+            String month = currentDate.format(monthFormatter);
+            OccupancyReportResponse.MonthlyOccupancy monthStats = monthlyStats.computeIfAbsent(month, m ->
+                    OccupancyReportResponse.MonthlyOccupancy.builder()
+                            .month(m)
+                            .totalNights(0)
+                            .totalRevenue(0.0)
+                            .build());
+            monthStats.setTotalNights(monthStats.getTotalNights() + occupiedCount);
+            monthStats.setTotalRevenue(monthStats.getTotalRevenue() + dailyRevenue);
+            daysInMonth.merge(month, 1, Integer::sum);
+
             totalOccupiedNights += occupiedCount;
             totalDays++;
 
-            // Update room type stats (simplified - in real app would calculate properly)
-            for (Room room : rooms) {
-                String roomTypeName = room.getRoomType() != null ? room.getRoomType().getName() : "Standard";
-                OccupancyReportResponse.RoomTypeOccupancy stats = roomTypeStats.getOrDefault(roomTypeName,
-                        OccupancyReportResponse.RoomTypeOccupancy.builder()
-                                .roomTypeName(roomTypeName)
-                                .totalRooms(0)
-                                .occupiedRooms(0)
-                                .totalRevenue(0.0)
-                                .build());
-
-                stats.setTotalRooms(stats.getTotalRooms() + 1);
-                // This is simplified - should check actual occupancy per room type
-                roomTypeStats.put(roomTypeName, stats);
-            }
-
             currentDate = currentDate.plusDays(1);
         }
 
-        double averageOccupancyRate = totalDays > 0 ? (totalOccupiedNights * 100.0 / (totalRooms * totalDays)) : 0;
+        monthlyStats.forEach((month, monthStats) -> {
+            int nights = monthStats.getTotalNights();
+            int availableNights = totalRooms * daysInMonth.get(month);
+            monthStats.setAverageRate(nights > 0 ? monthStats.getTotalRevenue() / nights : 0.0);
+            monthStats.setOccupancyRate(availableNights > 0 ? nights * 100.0 / availableNights : 0.0);
+        });
+
+        // Update room type stats (simplified - in real app would calculate properly)
+        for (Room room : rooms) {
+            String roomTypeName = room.getRoomType() != null ? room.getRoomType().getName() : "Standard";
+            OccupancyReportResponse.RoomTypeOccupancy roomTypeOccupancy = roomTypeStats.getOrDefault(roomTypeName,
+                    OccupancyReportResponse.RoomTypeOccupancy.builder()
+                            .roomTypeName(roomTypeName)
+                            .totalRooms(0)
+                            .occupiedRooms(0)
+                            .totalRevenue(0.0)
+                            .build());
+
+            roomTypeOccupancy.setTotalRooms(roomTypeOccupancy.getTotalRooms() + 1);
+            // This is simplified - should check actual occupancy per room type
+            roomTypeStats.put(roomTypeName, roomTypeOccupancy);
+        }
+
+        double averageOccupancyRate = totalDays > 0 && totalRooms > 0 ? (totalOccupiedNights * 100.0 / (totalRooms * totalDays)) : 0;
+        int averageOccupiedRooms = totalDays > 0 ? totalOccupiedNights / totalDays : 0;
 
         return OccupancyReportResponse.builder()
                 .reportType("OCCUPANCY_REPORT")
@@ -85,8 +124,9 @@ public class ReportServiceImpl implements ReportService {
                 .endDate(endDate)
                 .generatedAt(LocalDate.now().toString())
                 .totalRooms(totalRooms)
-                .totalOccupiedRooms(totalOccupiedNights / totalDays)
-                .totalAvailableRooms(totalRooms - (totalOccupiedNights / totalDays))
+                .totalOccupiedRooms(averageOccupiedRooms)
+                .totalAvailableRooms(totalRooms - averageOccupiedRooms)
+                .totalMaintenanceRooms(maintenanceCount)
                 .averageOccupancyRate(averageOccupancyRate)
                 .dailyOccupancy(dailyOccupancy)
                 .roomTypeStats(roomTypeStats)
@@ -109,48 +149,47 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public RevenueReportResponse getRevenueReport(Long hotelId, LocalDate startDate, LocalDate endDate) {
-        List<Booking> bookings = getBookingsByDateRange(hotelId, startDate, endDate);
-
-        double totalRevenue = bookings.stream()
-                .filter(b -> b.getStatus() == BookingStatus.CHECKED_OUT)
-                .mapToDouble(Booking::getTotalAmount)
-                .sum();
-
-        int totalBookings = bookings.size();
-        int cancelledBookings = (int) bookings.stream()
-                .filter(b -> b.getStatus() == BookingStatus.CANCELLED)
-                .count();
-
-        double averageDailyRate = calculateAverageDailyRate(bookings);
-        double revenuePerAvailableRoom = calculateRevPAR(hotelId, totalRevenue, startDate, endDate);
-
-        Map<String, Double> paymentMethodRevenue = new HashMap<>();
-        Map<String, Double> roomTypeRevenue = new HashMap<>();
-        List<RevenueReportResponse.DailyRevenue> dailyRevenue = new ArrayList<>();
-
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            LocalDate date = currentDate;
-            List<Booking> dayBookings = bookings.stream()
-                    .filter(b -> b.getCheckInDate().equals(date) ||
-                            (b.getCheckInDate().isBefore(date) && b.getCheckOutDate().isAfter(date)))
-                    .collect(Collectors.toList());
-
-            double dayRevenue = dayBookings.stream()
-                    .filter(b -> b.getStatus() == BookingStatus.CHECKED_OUT)
-                    .mapToDouble(Booking::getTotalAmount)
-                    .sum();
+        return toRevenueReport(aggregateRevenue(hotelId, startDate, endDate), countRooms(hotelId), startDate, endDate);
+    }
 
+    private RevenueReportResponse toRevenueReport(RevenueAggregation aggregation, int totalRooms,
+                                                  LocalDate startDate, LocalDate endDate) {
+        double totalRevenue = aggregation.getTotalRevenue();
+        long roomNights = aggregation.getRoomNightsSold();
+        double averageDailyRate = roomNights > 0 ? totalRevenue / roomNights : 0;
+        double revenuePerAvailableRoom = calculateRevPAR(totalRooms, totalRevenue, startDate, endDate);
+
+        double[] daily = aggregation.getDailyRevenue();
+        int[] dailyBookings = aggregation.getDailyBookings();
+        List<RevenueReportResponse.DailyRevenue> dailyRevenue = new ArrayList<>(aggregation.getDays());
+        for (int d = 0; d < aggregation.getDays(); d++) {
             dailyRevenue.add(RevenueReportResponse.DailyRevenue.builder()
-                    .date(date)
-                    .roomRevenue(dayRevenue)
+                    .date(aggregation.dateAt(d))
+                    .roomRevenue(daily[d])
                     .fnbRevenue(0.0) // Food & Beverage revenue - would come from separate table
                     .otherRevenue(0.0)
-                    .totalRevenue(dayRevenue)
-                    .bookings(dayBookings.size())
+                    .totalRevenue(daily[d])
+                    .bookings(dailyBookings[d])
                     .build());
+        }
 
-            currentDate = currentDate.plusDays(1);
+        Map<String, Double> weeklyRevenue = new LinkedHashMap<>();
+        double[] weekly = aggregation.getWeeklyRevenue();
+        for (int w = 0; w < weekly.length; w++) {
+            weeklyRevenue.put(aggregation.dateAt(w * 7).toString(), weekly[w]);
+        }
+
+        Map<String, RevenueReportResponse.MonthlyRevenue> monthlyRevenue = new LinkedHashMap<>();
+        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("yyyy-MM");
+        double[] monthly = aggregation.getMonthlyRevenue();
+        int[] monthlyCheckIns = aggregation.getMonthlyCheckIns();
+        for (int m = 0; m < monthly.length; m++) {
+            String month = aggregation.monthAt(m).format(monthFormatter);
+            monthlyRevenue.put(month, RevenueReportResponse.MonthlyRevenue.builder()
+                    .month(month)
+                    .revenue(monthly[m])
+                    .bookings(monthlyCheckIns[m])
+                    .build());
         }
 
         return RevenueReportResponse.builder()
@@ -164,137 +203,234 @@ public class ReportServiceImpl implements ReportService {
                 .totalOtherRevenue(0.0)
                 .averageDailyRate(averageDailyRate)
                 .revenuePerAvailableRoom(revenuePerAvailableRoom)
-                .totalBookings(totalBookings)
-                .cancelledBookings(cancelledBookings)
+                .totalBookings(aggregation.getTotalBookings())
+                .cancelledBookings(aggregation.getCancelledBookings())
                 .noShowBookings(0)
                 .dailyRevenue(dailyRevenue)
-                .paymentMethodRevenue(paymentMethodRevenue)
-                .roomTypeRevenue(roomTypeRevenue)
-                .monthlyRevenue(new HashMap<>())
+                .weeklyRevenue(weeklyRevenue)
+                .paymentMethodRevenue(aggregation.getPaymentMethodRevenue())
+                .roomTypeRevenue(aggregation.getRoomTypeRevenue())
+                .monthlyRevenue(monthlyRevenue)
                 .build();
     }
 
     @Override
     public RevenueReportResponse getRevenueReportByPaymentMethod(Long hotelId, LocalDate startDate, LocalDate endDate) {
-        return getRevenueReport(hotelId, startDate, endDate);
+        RevenueAggregation aggregation = aggregateRevenue(hotelId, startDate, endDate);
+        return RevenueReportResponse.builder()
+                .reportType("REVENUE_BY_PAYMENT_METHOD")
+                .startDate(startDate)
+                .endDate(endDate)
+                .generatedAt(LocalDate.now().toString())
+                .totalRevenue(aggregation.getTotalRevenue())
+                .totalBookings(aggregation.getTotalBookings())
+                .paymentMethodRevenue(aggregation.getPaymentMethodRevenue())
+                .build();
     }
 
     @Override
     public RevenueReportResponse getRevenueReportByRoomType(Long hotelId, LocalDate startDate, LocalDate endDate) {
-        return getRevenueReport(hotelId, startDate, endDate);
+        RevenueAggregation aggregation = aggregateRevenue(hotelId, startDate, endDate);
+        return RevenueReportResponse.builder()
+                .reportType("REVENUE_BY_ROOM_TYPE")
+                .startDate(startDate)
+                .endDate(endDate)
+                .generatedAt(LocalDate.now().toString())
+                .totalRevenue(aggregation.getTotalRevenue())
+                .totalBookings(aggregation.getTotalBookings())
+                .roomTypeRevenue(aggregation.getRoomTypeRevenue())
+                .build();
     }
 
     @Override
     public RevenueReportResponse getYearlyRevenueComparison(Long hotelId, Integer year) {
         LocalDate startDate = LocalDate.of(year, 1, 1);
         LocalDate endDate = LocalDate.of(year, 12, 31);
-        return getRevenueReport(hotelId, startDate, endDate);
+
+        // Both years come from a single range scan of the daily rollup: slots 0-11 are last year, 12-23 this year
+        double[] revenue = new double[24];
+        int[] bookings = new int[24];
+        int[] cancellations = new int[24];
+        int[] nights = new int[24];
+        List<RevenueReportResponse.DailyRevenue> dailyRevenue = new ArrayList<>();
+
+        for (DailyHotelStats day : statsRollup.load(hotelId, startDate.minusYears(1), endDate).values()) {
+            int slot = (day.getStatDate().getYear() - year + 1) * 12 + day.getStatDate().getMonthValue() - 1;
+            revenue[slot] += day.getRevenue();
+            bookings[slot] += day.getCheckIns() + day.getCancellations();
+            cancellations[slot] += day.getCancellations();
+            nights[slot] += day.getOccupiedRoomNights();
+
+            if (slot >= 12) {
+                dailyRevenue.add(RevenueReportResponse.DailyRevenue.builder()
+                        .date(day.getStatDate())
+                        .roomRevenue(day.getRevenue())
+                        .fnbRevenue(0.0)
+                        .otherRevenue(0.0)
+                        .totalRevenue(day.getRevenue())
+                        .bookings(day.getCheckIns())
+                        .build());
+            }
+        }
+        dailyRevenue.sort(Comparator.comparing(RevenueReportResponse.DailyRevenue::getDate));
+
+        Map<String, RevenueReportResponse.MonthlyRevenue> monthlyRevenue = new LinkedHashMap<>();
+        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("yyyy-MM");
+        double totalRevenue = 0;
+        int totalBookings = 0;
+        int cancelledBookings = 0;
+        int totalNights = 0;
+        for (int m = 0; m < 12; m++) {
+            String month = startDate.plusMonths(m).format(monthFormatter);
+            double current = revenue[12 + m];
+            double previous = revenue[m];
+            monthlyRevenue.put(month, RevenueReportResponse.MonthlyRevenue.builder()
+                    .month(month)
+                    .revenue(current)
+                    .previousYearRevenue(previous)
+                    .growthPercentage(previous > 0 ? ((current - previous) / previous) * 100 : 0.0)
+                    .bookings(bookings[12 + m])
+                    .build());
+
+            totalRevenue += current;
+            totalBookings += bookings[12 + m];
+            cancelledBookings += cancellations[12 + m];
+            totalNights += nights[12 + m];
+        }
+
+        return RevenueReportResponse.builder()
+                .reportType("YEARLY_REVENUE_COMPARISON")
+                .startDate(startDate)
+                .endDate(endDate)
+                .generatedAt(LocalDate.now().toString())
+                .totalRevenue(totalRevenue)
+                .totalRoomRevenue(totalRevenue)
+                .totalFnbRevenue(0.0)
+                .totalOtherRevenue(0.0)
+                .averageDailyRate(totalNights > 0 ? totalRevenue / totalNights : 0.0)
+                .revenuePerAvailableRoom(calculateRevPAR(hotelId, totalRevenue, startDate, endDate))
+                .totalBookings(totalBookings)
+                .cancelledBookings(cancelledBookings)
+                .noShowBookings(0)
+                .dailyRevenue(dailyRevenue)
+                .paymentMethodRevenue(new HashMap<>())
+                .roomTypeRevenue(new HashMap<>())
+                .monthlyRevenue(monthlyRevenue)
+                .build();
     }
 
     @Override
     public StaffAttendanceReportResponse getStaffAttendanceReport(Long hotelId, LocalDate startDate, LocalDate endDate) {
-        // Get real employees
-        List<Employee> employees = employeeRepository.findByHotelId(hotelId);
-        int totalStaff = employees.size();
-
-        // Calculate total days
-        long totalDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;  // 🔥 এই line যোগ করুন
-
-        // Get real attendances for date range
-        List<Attendance> attendances = attendanceRepository.findByDateRangeAndHotel(startDate, endDate, hotelId);
-
-        // Build staff attendance list
-        List<StaffAttendanceReportResponse.StaffAttendance> staffAttendanceList = new ArrayList<>();
-        for (Employee emp : employees) {
-            List<Attendance> empAttendances = attendances.stream()
-                    .filter(a -> a.getEmployee().getId().equals(emp.getId()))
-                    .collect(Collectors.toList());
-
-            int presentDays = (int) empAttendances.stream()
-                    .filter(a -> "PRESENT".equals(a.getStatus()))
-                    .count();
-            int absentDays = (int) empAttendances.stream()
-                    .filter(a -> "ABSENT".equals(a.getStatus()))
-                    .count();
-            int leaveDays = (int) empAttendances.stream()
-                    .filter(a -> "LEAVE".equals(a.getStatus()))
-                    .count();
-
-            double percentage = totalDays > 0 ? (presentDays * 100.0 / totalDays) : 0;
-
-            staffAttendanceList.add(StaffAttendanceReportResponse.StaffAttendance.builder()
-                    .employeeId(emp.getId())
-                    .employeeName(emp.getFirstName() + " " + emp.getLastName())
-                    .department(emp.getDepartment() != null ? emp.getDepartment().getName() : "N/A")
-                    .position(emp.getPosition())
-                    .totalDays((int) ChronoUnit.DAYS.between(startDate, endDate) + 1)
-                    .presentDays(presentDays)
-                    .absentDays(absentDays)
-                    .leaveDays(leaveDays)
-                    .attendancePercentage(percentage)
-                    .build());
+        return buildAttendanceReport("STAFF_ATTENDANCE", hotelId, null, null, startDate, endDate);
+    }
+
+    @Override
+    public StaffAttendanceReportResponse getDepartmentAttendanceReport(Long hotelId, String department, LocalDate startDate, LocalDate endDate) {
+        return buildAttendanceReport("DEPARTMENT_ATTENDANCE", hotelId, department, null, startDate, endDate);
+    }
+
+    @Override
+    public StaffAttendanceReportResponse getIndividualStaffReport(Long employeeId, LocalDate startDate, LocalDate endDate) {
+        return buildAttendanceReport("INDIVIDUAL_ATTENDANCE", null, null, employeeId, startDate, endDate);
+    }
+
+    /**
+     * Shared engine for the attendance reports: one GROUP BY employee/status query for the
+     * staff table (which also yields the department totals) and one GROUP BY date/status query
+     * for the daily series, whatever the number of employees or days.
+     */
+    private StaffAttendanceReportResponse buildAttendanceReport(String reportType, Long hotelId, String department,
+                                                                Long employeeId, LocalDate startDate, LocalDate endDate) {
+        int totalDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+
+        // Rows arrive ordered by employee, one per status
+        Map<Long, StaffAttendanceReportResponse.StaffAttendance> staffById = new LinkedHashMap<>();
+        for (Object[] row : employeeRepository.getAttendanceByEmployee(hotelId, department, employeeId, startDate, endDate)) {
+            StaffAttendanceReportResponse.StaffAttendance staff = staffById.computeIfAbsent((Long) row[0], id ->
+                    StaffAttendanceReportResponse.StaffAttendance.builder()
+                            .employeeId(id)
+                            .employeeName(row[1] + " " + row[2])
+                            .department(row[3] != null ? (String) row[3] : "N/A")
+                            .position((String) row[4])
+                            .totalDays(totalDays)
+                            .presentDays(0)
+                            .absentDays(0)
+                            .leaveDays(0)
+                            .build());
+            int count = ((Number) row[6]).intValue();
+            if ("PRESENT".equals(row[5])) {
+                staff.setPresentDays(count);
+            } else if ("ABSENT".equals(row[5])) {
+                staff.setAbsentDays(count);
+            } else if ("LEAVE".equals(row[5])) {
+                staff.setLeaveDays(count);
+            }
         }
 
-        // Build daily attendance
-        List<StaffAttendanceReportResponse.DailyAttendance> dailyAttendanceList = new ArrayList<>();
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            LocalDate date = currentDate;
-            long present = attendances.stream()
-                    .filter(a -> a.getDate().equals(date) && "PRESENT".equals(a.getStatus()))
-                    .count();
-            long absent = attendances.stream()
-                    .filter(a -> a.getDate().equals(date) && "ABSENT".equals(a.getStatus()))
-                    .count();
-            long onLeave = attendances.stream()
-                    .filter(a -> a.getDate().equals(date) && "LEAVE".equals(a.getStatus()))
-                    .count();
+        List<StaffAttendanceReportResponse.StaffAttendance> staffAttendanceList = new ArrayList<>(staffById.values());
+        Map<String, StaffAttendanceReportResponse.DepartmentAttendance> departmentStats = new TreeMap<>();
+        double totalAttendance = 0;
+        for (StaffAttendanceReportResponse.StaffAttendance staff : staffAttendanceList) {
+            staff.setAttendancePercentage(totalDays > 0 ? staff.getPresentDays() * 100.0 / totalDays : 0);
+            totalAttendance += staff.getAttendancePercentage();
+
+            StaffAttendanceReportResponse.DepartmentAttendance dept = departmentStats.computeIfAbsent(staff.getDepartment(), name ->
+                    StaffAttendanceReportResponse.DepartmentAttendance.builder()
+                            .department(name).totalStaff(0).present(0).absent(0).onLeave(0).build());
+            dept.setTotalStaff(dept.getTotalStaff() + 1);
+            dept.setPresent(dept.getPresent() + staff.getPresentDays());
+            dept.setAbsent(dept.getAbsent() + staff.getAbsentDays());
+            dept.setOnLeave(dept.getOnLeave() + staff.getLeaveDays());
+        }
+        departmentStats.values().forEach(dept -> dept.setAttendancePercentage(totalDays > 0 ?
+                dept.getPresent() * 100.0 / ((long) dept.getTotalStaff() * totalDays) : 0));
+
+        int totalStaff = staffAttendanceList.size();
+        int[][] daily = new int[Math.max(totalDays, 0)][3];
+        for (Object[] row : attendanceRepository.countByDateAndStatus(hotelId, department, employeeId, startDate, endDate)) {
+            int day = (int) ChronoUnit.DAYS.between(startDate, (LocalDate) row[0]);
+            int count = ((Number) row[2]).intValue();
+            if ("PRESENT".equals(row[1])) {
+                daily[day][0] += count;
+            } else if ("ABSENT".equals(row[1])) {
+                daily[day][1] += count;
+            } else if ("LEAVE".equals(row[1])) {
+                daily[day][2] += count;
+            }
+        }
 
+        List<StaffAttendanceReportResponse.DailyAttendance> dailyAttendanceList = new ArrayList<>(daily.length);
+        long present = 0, absent = 0, onLeave = 0;
+        for (int day = 0; day < daily.length; day++) {
             dailyAttendanceList.add(StaffAttendanceReportResponse.DailyAttendance.builder()
-                    .date(date)
-                    .present((int) present)
-                    .absent((int) absent)
-                    .onLeave((int) onLeave)
+                    .date(startDate.plusDays(day))
+                    .present(daily[day][0])
+                    .absent(daily[day][1])
+                    .onLeave(daily[day][2])
                     .total(totalStaff)
                     .build());
-
-            currentDate = currentDate.plusDays(1);
+            present += daily[day][0];
+            absent += daily[day][1];
+            onLeave += daily[day][2];
         }
 
-        // Calculate averages
-        double totalAttendance = staffAttendanceList.stream()
-                .mapToDouble(StaffAttendanceReportResponse.StaffAttendance::getAttendancePercentage)
-                .sum();
-
+        boolean hasDays = totalStaff > 0 && daily.length > 0;
         return StaffAttendanceReportResponse.builder()
-                .reportType("STAFF_ATTENDANCE")
+                .reportType(reportType)
                 .startDate(startDate)
                 .endDate(endDate)
                 .generatedAt(LocalDate.now().toString())
                 .totalStaff(totalStaff)
-                .averageDailyPresent((int) (totalStaff > 0 ?
-                        dailyAttendanceList.stream().mapToInt(StaffAttendanceReportResponse.DailyAttendance::getPresent).average().orElse(0) : 0))
-                .averageDailyAbsent((int) (totalStaff > 0 ?
-                        dailyAttendanceList.stream().mapToInt(StaffAttendanceReportResponse.DailyAttendance::getAbsent).average().orElse(0) : 0))
-                .averageDailyLeave((int) (totalStaff > 0 ?
-                        dailyAttendanceList.stream().mapToInt(StaffAttendanceReportResponse.DailyAttendance::getOnLeave).average().orElse(0) : 0))
+                .averageDailyPresent(hasDays ? (int) (present / daily.length) : 0)
+                .averageDailyAbsent(hasDays ? (int) (absent / daily.length) : 0)
+                .averageDailyLeave(hasDays ? (int) (onLeave / daily.length) : 0)
                 .attendancePercentage(totalStaff > 0 ? totalAttendance / totalStaff : 0)
+                .departmentStats(departmentStats)
                 .staffAttendance(staffAttendanceList)
                 .dailyAttendance(dailyAttendanceList)
                 .build();
     }
 
-
-    @Override
-    public StaffAttendanceReportResponse getDepartmentAttendanceReport(Long hotelId, String department, LocalDate startDate, LocalDate endDate) {
-        return getStaffAttendanceReport(hotelId, startDate, endDate);
-    }
-
-    @Override
-    public StaffAttendanceReportResponse getIndividualStaffReport(Long employeeId, LocalDate startDate, LocalDate endDate) {
-        return getStaffAttendanceReport(null, startDate, endDate);
-    }
-
     @Override
     public InventoryReportResponse getInventoryReport(Long hotelId) {
         List<Inventory> inventory = getInventoryByHotel(hotelId);
@@ -374,131 +510,206 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public GuestHistoryReportResponse getGuestHistoryReport(Long hotelId, LocalDate startDate, LocalDate endDate) {
-        List<Guest> guests = guestRepository.findAll(); // Would filter by hotel and date
+        return buildGuestHistoryReport(hotelId, startDate, endDate, null, 10, true);
+    }
 
-        List<GuestHistoryReportResponse.GuestHistory> guestHistory = new ArrayList<>();
-        Map<String, Integer> guestsByNationality = new HashMap<>();
+    @Override
+    public GuestHistoryReportResponse getGuestReportByNationality(Long hotelId, String nationality) {
+        return buildGuestHistoryReport(hotelId, LocalDate.now().minusYears(1), LocalDate.now(), nationality, 10, true);
+    }
 
-        for (Guest guest : guests) {
-            // Count by nationality
-            String nationality = guest.getNationality() != null ? guest.getNationality() : "Unknown";
-            guestsByNationality.put(nationality, guestsByNationality.getOrDefault(nationality, 0) + 1);
-
-            // Get guest bookings
-            List<Booking> guestBookings = bookingRepository.findByGuestId(guest.getId());
-            int totalVisits = guestBookings.size();
-            int totalNights = guestBookings.stream()
-                    .mapToInt(b -> (int) java.time.temporal.ChronoUnit.DAYS.between(b.getCheckInDate(), b.getCheckOutDate()))
-                    .sum();
-            double totalSpending = guestBookings.stream()
-                    .filter(b -> b.getStatus() == BookingStatus.CHECKED_OUT)
-                    .mapToDouble(Booking::getTotalAmount)
-                    .sum();
-
-            guestHistory.add(GuestHistoryReportResponse.GuestHistory.builder()
-                    .guestId(guest.getId())
-                    .guestName(guest.getFirstName() + " " + guest.getLastName())
-                    .email(guest.getEmail())
-                    .phone(guest.getPhone())
-                    .nationality(guest.getNationality())
-                    .totalVisits(totalVisits)
-                    .totalNights(totalNights)
-                    .totalSpending(totalSpending)
-                    .firstVisit(guest.getCreatedAt().toLocalDate())
-                    .lastVisit(guestBookings.stream()
-                            .map(Booking::getCheckInDate)
-                            .max(LocalDate::compareTo)
-                            .orElse(null))
-                    .build());
+    @Override
+    public GuestHistoryReportResponse getTopGuestsReport(Long hotelId, Integer limit) {
+        return buildGuestHistoryReport(hotelId, LocalDate.now().minusYears(1), LocalDate.now(), null,
+                limit != null ? limit : 10, false);
+    }
+
+    @Override
+    public Boolean emailReport(String email, Object reportData, String reportType, String format) {
+        // This would integrate with email service
+        return true;
+    }
+
+    // Chain-wide reports: one task per hotel on chainReportExecutor, merged on the calling thread
+
+    @Override
+    public ChainReportResponse<RevenueReportResponse> getChainRevenueReport(LocalDate startDate, LocalDate endDate) {
+        long started = System.nanoTime();
+        List<Hotel> hotels = hotelRepository.findAll();
+        Map<Long, Integer> roomCounts = countRoomsByHotel();
+
+        List<CompletableFuture<RevenueAggregation>> partials = hotels.stream()
+                .map(hotel -> CompletableFuture.supplyAsync(
+                        () -> aggregateRevenue(hotel.getId(), startDate, endDate), chainReportExecutor))
+                .collect(Collectors.toList());
+
+        RevenueAggregation total = new RevenueAggregation(startDate, endDate);
+        List<ChainReportResponse.HotelSubtotal<RevenueReportResponse>> subtotals = new ArrayList<>(hotels.size());
+        for (int i = 0; i < hotels.size(); i++) {
+            Hotel hotel = hotels.get(i);
+            RevenueAggregation partial = await(partials.get(i));
+            total.merge(partial);
+            subtotals.add(subtotal(hotel, toRevenueReport(partial, roomCounts.getOrDefault(hotel.getId(), 0), startDate, endDate)));
         }
 
-        // Sort by spending to get top guests
-        List<GuestHistoryReportResponse.TopGuest> topBySpending = guestHistory.stream()
-                .sorted((a, b) -> Double.compare(b.getTotalSpending(), a.getTotalSpending()))
-                .limit(10)
-                .map(g -> GuestHistoryReportResponse.TopGuest.builder()
-                        .guestId(g.getGuestId())
-                        .guestName(g.getGuestName())
-                        .email(g.getEmail())
-                        .visits(g.getTotalVisits())
-                        .spending(g.getTotalSpending())
-                        .nights(g.getTotalNights())
-                        .build())
+        int totalRooms = roomCounts.values().stream().mapToInt(Integer::intValue).sum();
+        RevenueReportResponse grandTotal = toRevenueReport(total, totalRooms, startDate, endDate);
+        grandTotal.setReportType("CHAIN_REVENUE_REPORT");
+        return chainReport("CHAIN_REVENUE_REPORT", startDate, endDate, started, grandTotal, subtotals);
+    }
+
+    @Override
+    public ChainReportResponse<OccupancyReportResponse> getChainOccupancyReport(LocalDate startDate, LocalDate endDate) {
+        long started = System.nanoTime();
+        List<Hotel> hotels = hotelRepository.findAll();
+
+        List<CompletableFuture<OccupancyReportResponse>> partials = hotels.stream()
+                .map(hotel -> CompletableFuture.supplyAsync(
+                        () -> getOccupancyReport(hotel.getId(), startDate, endDate), chainReportExecutor))
                 .collect(Collectors.toList());
 
-        return GuestHistoryReportResponse.builder()
-                .reportType("GUEST_HISTORY")
+        List<ChainReportResponse.HotelSubtotal<OccupancyReportResponse>> subtotals = new ArrayList<>(hotels.size());
+        for (int i = 0; i < hotels.size(); i++) {
+            subtotals.add(subtotal(hotels.get(i), await(partials.get(i))));
+        }
+
+        OccupancyReportResponse grandTotal = mergeOccupancy(
+                subtotals.stream().map(ChainReportResponse.HotelSubtotal::getReport).collect(Collectors.toList()),
+                startDate, endDate);
+        return chainReport("CHAIN_OCCUPANCY_REPORT", startDate, endDate, started, grandTotal, subtotals);
+    }
+
+    /**
+     * Sums the per-hotel occupancy reports (all over the same range) and recomputes every
+     * rate from the summed counts rather than averaging the hotels' rates.
+     */
+    private OccupancyReportResponse mergeOccupancy(List<OccupancyReportResponse> reports, LocalDate startDate, LocalDate endDate) {
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        int totalRooms = 0;
+        int maintenanceRooms = 0;
+        int[] occupied = new int[days];
+        int[] available = new int[days];
+        int[] maintenance = new int[days];
+        double[] revenue = new double[days];
+        Map<String, OccupancyReportResponse.RoomTypeOccupancy> roomTypeStats = new TreeMap<>();
+        Map<String, OccupancyReportResponse.MonthlyOccupancy> monthlyStats = new TreeMap<>();
+
+        for (OccupancyReportResponse report : reports) {
+            totalRooms += report.getTotalRooms();
+            maintenanceRooms += report.getTotalMaintenanceRooms();
+            for (int d = 0; d < days; d++) {
+                OccupancyReportResponse.DailyOccupancy day = report.getDailyOccupancy().get(d);
+                occupied[d] += day.getOccupiedRooms();
+                available[d] += day.getAvailableRooms();
+                maintenance[d] += day.getMaintenanceRooms();
+                revenue[d] += day.getRevenue();
+            }
+            report.getRoomTypeStats().forEach((name, type) -> {
+                OccupancyReportResponse.RoomTypeOccupancy merged = roomTypeStats.computeIfAbsent(name, n ->
+                        OccupancyReportResponse.RoomTypeOccupancy.builder()
+                                .roomTypeName(n).totalRooms(0).occupiedRooms(0).totalRevenue(0.0).build());
+                merged.setTotalRooms(merged.getTotalRooms() + type.getTotalRooms());
+                merged.setOccupiedRooms(merged.getOccupiedRooms() + type.getOccupiedRooms());
+                merged.setTotalRevenue(merged.getTotalRevenue() + type.getTotalRevenue());
+            });
+            report.getMonthlyStats().forEach((month, stats) -> {
+                OccupancyReportResponse.MonthlyOccupancy merged = monthlyStats.computeIfAbsent(month, m ->
+                        OccupancyReportResponse.MonthlyOccupancy.builder().month(m).totalNights(0).totalRevenue(0.0).build());
+                merged.setTotalNights(merged.getTotalNights() + stats.getTotalNights());
+                merged.setTotalRevenue(merged.getTotalRevenue() + stats.getTotalRevenue());
+            });
+        }
+
+        List<OccupancyReportResponse.DailyOccupancy> dailyOccupancy = new ArrayList<>(days);
+        Map<String, Integer> daysInMonth = new HashMap<>();
+        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("yyyy-MM");
+        int totalOccupiedNights = 0;
+        for (int d = 0; d < days; d++) {
+            LocalDate date = startDate.plusDays(d);
+            dailyOccupancy.add(OccupancyReportResponse.DailyOccupancy.builder()
+                    .date(date)
+                    .occupiedRooms(occupied[d])
+                    .availableRooms(available[d])
+                    .maintenanceRooms(maintenance[d])
+                    .occupancyRate(totalRooms > 0 ? occupied[d] * 100.0 / totalRooms : 0)
+                    .revenue(revenue[d])
+                    .build());
+            daysInMonth.merge(date.format(monthFormatter), 1, Integer::sum);
+            totalOccupiedNights += occupied[d];
+        }
+
+        int rooms = totalRooms;
+        monthlyStats.forEach((month, stats) -> {
+            int nights = stats.getTotalNights();
+            int availableNights = rooms * daysInMonth.getOrDefault(month, 0);
+            stats.setAverageRate(nights > 0 ? stats.getTotalRevenue() / nights : 0.0);
+            stats.setOccupancyRate(availableNights > 0 ? nights * 100.0 / availableNights : 0.0);
+        });
+
+        int averageOccupiedRooms = days > 0 ? totalOccupiedNights / days : 0;
+        return OccupancyReportResponse.builder()
+                .reportType("CHAIN_OCCUPANCY_REPORT")
                 .startDate(startDate)
                 .endDate(endDate)
                 .generatedAt(LocalDate.now().toString())
-                .totalGuests(guests.size())
-                .newGuests(0) // Would calculate based on first visit date
-                .repeatGuests((int) guestHistory.stream().filter(g -> g.getTotalVisits() > 1).count())
-                .averageStayLength(guestHistory.stream().mapToInt(GuestHistoryReportResponse.GuestHistory::getTotalNights).average().orElse(0))
-                .averageSpending(guestHistory.stream().mapToDouble(GuestHistoryReportResponse.GuestHistory::getTotalSpending).average().orElse(0))
-                .guestHistory(guestHistory)
-                .topGuestsBySpending(topBySpending)
-                .topGuestsByVisits(new ArrayList<>())
-                .guestsByNationality(guestsByNationality)
+                .totalRooms(totalRooms)
+                .totalOccupiedRooms(averageOccupiedRooms)
+                .totalAvailableRooms(totalRooms - averageOccupiedRooms)
+                .totalMaintenanceRooms(maintenanceRooms)
+                .averageOccupancyRate(days > 0 && totalRooms > 0 ? totalOccupiedNights * 100.0 / ((long) totalRooms * days) : 0)
+                .dailyOccupancy(dailyOccupancy)
+                .roomTypeStats(roomTypeStats)
+                .monthlyStats(monthlyStats)
                 .build();
     }
 
-    @Override
-    public GuestHistoryReportResponse getGuestReportByNationality(Long hotelId, String nationality) {
-        return getGuestHistoryReport(hotelId, LocalDate.now().minusYears(1), LocalDate.now());
-    }
-
-    @Override
-    public GuestHistoryReportResponse getTopGuestsReport(Long hotelId, Integer limit) {
-        return getGuestHistoryReport(hotelId, LocalDate.now().minusYears(1), LocalDate.now());
+    // A COUNT query; the revenue figures only need the number of rooms, not the entities
+    private int countRooms(Long hotelId) {
+        List<Object[]> counts = roomRepository.getRoomStatusCounts(hotelId);
+        return counts.isEmpty() ? 0 : ((Number) counts.get(0)[0]).intValue();
     }
 
-    @Override
-    public ReportExportResponse exportToPdf(Object reportData, String reportType) {
-        return ReportExportResponse.builder()
-                .success(true)
-                .message("PDF generated successfully")
-                .fileName(reportType + "_" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ".pdf")
-                .fileType("PDF")
-                .fileUrl("/downloads/reports/" + reportType + "_" + System.currentTimeMillis() + ".pdf")
-                .fileSize(1024L)
-                .downloadUrl("/api/admin/reports/download/" + reportType + "_" + System.currentTimeMillis() + ".pdf")
-                .generatedAt(LocalDate.now().toString())
-                .build();
+    private Map<Long, Integer> countRoomsByHotel() {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Object[] row : roomRepository.findRoomHotelIds()) {
+            if (row[1] != null) {
+                counts.merge((Long) row[1], 1, Integer::sum);
+            }
+        }
+        return counts;
     }
 
-    @Override
-    public ReportExportResponse exportToExcel(Object reportData, String reportType) {
-        return ReportExportResponse.builder()
-                .success(true)
-                .message("Excel file generated successfully")
-                .fileName(reportType + "_" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ".xlsx")
-                .fileType("EXCEL")
-                .fileUrl("/downloads/reports/" + reportType + "_" + System.currentTimeMillis() + ".xlsx")
-                .fileSize(2048L)
-                .downloadUrl("/api/admin/reports/download/" + reportType + "_" + System.currentTimeMillis() + ".xlsx")
-                .generatedAt(LocalDate.now().toString())
+    private static <T> ChainReportResponse.HotelSubtotal<T> subtotal(Hotel hotel, T report) {
+        return ChainReportResponse.HotelSubtotal.<T>builder()
+                .hotelId(hotel.getId())
+                .hotelName(hotel.getName())
+                .report(report)
                 .build();
     }
 
-    @Override
-    public ReportExportResponse exportToCsv(Object reportData, String reportType) {
-        return ReportExportResponse.builder()
-                .success(true)
-                .message("CSV file generated successfully")
-                .fileName(reportType + "_" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ".csv")
-                .fileType("CSV")
-                .fileUrl("/downloads/reports/" + reportType + "_" + System.currentTimeMillis() + ".csv")
-                .fileSize(512L)
-                .downloadUrl("/api/admin/reports/download/" + reportType + "_" + System.currentTimeMillis() + ".csv")
+    private static <T> ChainReportResponse<T> chainReport(String reportType, LocalDate startDate, LocalDate endDate, long started,
+                                                          T total, List<ChainReportResponse.HotelSubtotal<T>> hotels) {
+        return ChainReportResponse.<T>builder()
+                .reportType(reportType)
+                .startDate(startDate)
+                .endDate(endDate)
                 .generatedAt(LocalDate.now().toString())
+                .hotelCount(hotels.size())
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started))
+                .total(total)
+                .hotels(hotels)
                 .build();
     }
 
-    @Override
-    public Boolean emailReport(String email, Object reportData, String reportType, String format) {
-        // This would integrate with email service
-        return true;
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     // Helper methods
@@ -512,37 +723,105 @@ public class ReportServiceImpl implements ReportService {
         return roomRepository.findAll();
     }
 
-    private List<Booking> getBookingsByDateRange(Long hotelId, LocalDate startDate, LocalDate endDate) {
-        // This would need a custom repository method
-        return bookingRepository.findAll().stream()
-                .filter(b -> !b.getCheckOutDate().isBefore(startDate) && !b.getCheckInDate().isAfter(endDate))
-                .collect(Collectors.toList());
-    }
+    // One grouped query for per-guest totals, one for nationality counts; top lists use bounded heaps
+    private GuestHistoryReportResponse buildGuestHistoryReport(Long hotelId, LocalDate startDate, LocalDate endDate,
+                                                               String nationality, int limit, boolean includeHistory) {
+        List<Object[]> rows = bookingRepository.getGuestHistory(hotelId, startDate, endDate, nationality);
+
+        List<GuestHistoryReportResponse.GuestHistory> guestHistory = new ArrayList<>(includeHistory ? rows.size() : 0);
+        TopN<GuestHistoryReportResponse.GuestHistory> topBySpending = new TopN<>(limit,
+                Comparator.comparingDouble(GuestHistoryReportResponse.GuestHistory::getTotalSpending));
+        TopN<GuestHistoryReportResponse.GuestHistory> topByVisits = new TopN<>(limit,
+                Comparator.comparingInt(GuestHistoryReportResponse.GuestHistory::getTotalVisits)
+                        .thenComparingDouble(GuestHistoryReportResponse.GuestHistory::getTotalSpending));
+
+        int newGuests = 0;
+        int repeatGuests = 0;
+        long totalNights = 0;
+        double totalSpending = 0;
+
+        for (Object[] row : rows) {
+            LocalDateTime createdAt = (LocalDateTime) row[6];
+            GuestHistoryReportResponse.GuestHistory history = GuestHistoryReportResponse.GuestHistory.builder()
+                    .guestId((Long) row[0])
+                    .guestName(row[1] + " " + row[2])
+                    .email((String) row[3])
+                    .phone((String) row[4])
+                    .nationality((String) row[5])
+                    .totalVisits(((Number) row[7]).intValue())
+                    .totalNights(((Number) row[8]).intValue())
+                    .totalSpending(((Number) row[9]).doubleValue())
+                    .firstVisit(createdAt != null ? createdAt.toLocalDate() : null)
+                    .lastVisit((LocalDate) row[10])
+                    .build();
+
+            if (createdAt != null && !createdAt.toLocalDate().isBefore(startDate) && !createdAt.toLocalDate().isAfter(endDate)) {
+                newGuests++;
+            }
+            if (history.getTotalVisits() > 1) {
+                repeatGuests++;
+            }
+            totalNights += history.getTotalNights();
+            totalSpending += history.getTotalSpending();
 
-    private int getOccupiedRoomsCountForDate(Long hotelId, LocalDate date) {
-        // This would need a custom query
-        return 35 + (int) (Math.random() * 10);
-    }
+            topBySpending.offer(history);
+            topByVisits.offer(history);
+            if (includeHistory) {
+                guestHistory.add(history);
+            }
+        }
 
-    private int getMaintenanceRoomsCountForDate(Long hotelId, LocalDate date) {
-        return 2 + (int) (Math.random() * 3);
+        Map<String, Integer> guestsByNationality = new HashMap<>();
+        for (Object[] row : bookingRepository.countGuestsByNationality(hotelId, startDate, endDate, nationality)) {
+            guestsByNationality.put((String) row[0], ((Number) row[1]).intValue());
+        }
+
+        int totalGuests = rows.size();
+        return GuestHistoryReportResponse.builder()
+                .reportType("GUEST_HISTORY")
+                .startDate(startDate)
+                .endDate(endDate)
+                .generatedAt(LocalDate.now().toString())
+                .totalGuests(totalGuests)
+                .newGuests(newGuests)
+                .repeatGuests(repeatGuests)
+                .averageStayLength(totalGuests > 0 ? (double) totalNights / totalGuests : 0)
+                .averageSpending(totalGuests > 0 ? totalSpending / totalGuests : 0)
+                .guestHistory(guestHistory)
+                .topGuestsBySpending(toTopGuests(topBySpending))
+                .topGuestsByVisits(toTopGuests(topByVisits))
+                .guestsByNationality(guestsByNationality)
+                .build();
     }
 
-    private double calculateRevenueForDate(Long hotelId, LocalDate date) {
-        return 45000 + (Math.random() * 10000);
+    private static List<GuestHistoryReportResponse.TopGuest> toTopGuests(TopN<GuestHistoryReportResponse.GuestHistory> top) {
+        return top.toList().stream()
+                .map(g -> GuestHistoryReportResponse.TopGuest.builder()
+                        .guestId(g.getGuestId())
+                        .guestName(g.getGuestName())
+                        .email(g.getEmail())
+                        .visits(g.getTotalVisits())
+                        .spending(g.getTotalSpending())
+                        .nights(g.getTotalNights())
+                        .build())
+                .collect(Collectors.toList());
     }
 
-    private double calculateAverageDailyRate(List<Booking> bookings) {
-        return bookings.stream()
-                .filter(b -> b.getStatus() == BookingStatus.CHECKED_OUT)
-                .mapToDouble(b -> b.getTotalAmount() /
-                        java.time.temporal.ChronoUnit.DAYS.between(b.getCheckInDate(), b.getCheckOutDate()))
-                .average()
-                .orElse(0);
+    // One projection query, one pass: see RevenueAggregation
+    private RevenueAggregation aggregateRevenue(Long hotelId, LocalDate startDate, LocalDate endDate) {
+        RevenueAggregation aggregation = new RevenueAggregation(startDate, endDate);
+        for (Object[] row : bookingRepository.findRevenueInputs(hotelId, startDate, endDate)) {
+            aggregation.add((LocalDate) row[0], (LocalDate) row[1], (BookingStatus) row[2],
+                    row[3] != null ? (Double) row[3] : 0.0, (String) row[4], (String) row[5]);
+        }
+        return aggregation.finish();
     }
 
     private double calculateRevPAR(Long hotelId, double totalRevenue, LocalDate startDate, LocalDate endDate) {
-        int totalRooms = getRoomsByHotel(hotelId).size();
+        return calculateRevPAR(countRooms(hotelId), totalRevenue, startDate, endDate);
+    }
+
+    private double calculateRevPAR(int totalRooms, double totalRevenue, LocalDate startDate, LocalDate endDate) {
         long days = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate) + 1;
         int availableRoomNights = totalRooms * (int) days;
         return availableRoomNights > 0 ? totalRevenue / availableRoomNights : 0;
@@ -2,16 +2,23 @@ package com.spring.hotel_management_backend.service.admin.impl;
 
 import com.spring.hotel_management_backend.model.dto.request.admin.CreateRoomRequest;
 import com.spring.hotel_management_backend.model.dto.request.admin.UpdateRoomStatusRequest;
+import com.spring.hotel_management_backend.model.dto.response.admin.AvailableRoomResponse;
+import com.spring.hotel_management_backend.model.dto.response.admin.DashboardDelta;
 import com.spring.hotel_management_backend.model.dto.response.admin.RoomResponse;
 import com.spring.hotel_management_backend.model.entity.Hotel;
 import com.spring.hotel_management_backend.model.entity.Room;
 import com.spring.hotel_management_backend.model.entity.RoomType;
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
 import com.spring.hotel_management_backend.repository.HotelRepository;
 import com.spring.hotel_management_backend.repository.RoomRepository;
 import com.spring.hotel_management_backend.repository.RoomTypeRepository;
 import com.spring.hotel_management_backend.service.admin.RoomService;
+import com.spring.hotel_management_backend.service.admin.availability.RoomAvailabilityIndex;
+import com.spring.hotel_management_backend.service.admin.dashboard.DashboardChangedEvent;
+import com.spring.hotel_management_backend.service.mobile.sync.SyncTombstones;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,7 +29,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -36,6 +48,9 @@ public class RoomServiceImpl implements RoomService {
     private final RoomRepository roomRepository;
     private final HotelRepository hotelRepository;
     private final RoomTypeRepository roomTypeRepository;
+    private final RoomAvailabilityIndex availabilityIndex;
+    private final SyncTombstones syncTombstones;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public RoomResponse createRoom(CreateRoomRequest request) {
@@ -64,6 +79,7 @@ public class RoomServiceImpl implements RoomService {
         room.setImages(request.getImages());
 
         Room savedRoom = roomRepository.save(room);
+        availabilityIndex.afterCommit(() -> availabilityIndex.registerRoom(savedRoom.getId(), hotel.getId()));
         return mapToResponse(savedRoom);
     }
 
@@ -125,13 +141,53 @@ public class RoomServiceImpl implements RoomService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AvailableRoomResponse> searchAvailableRooms(Long hotelId, LocalDate checkIn, LocalDate checkOut,
+                                                            Long roomTypeId, Integer guests) {
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        if (nights <= 0) {
+            throw new RuntimeException("Check-out date must be after check-in date");
+        }
+
+        // One query for the candidate rooms; availability comes from the in-memory calendar
+        // when it is built, otherwise from a single NOT EXISTS query over bookings
+        List<Room> rooms;
+        if (availabilityIndex.isReady()) {
+            Set<Long> freeRoomIds = new HashSet<>(availabilityIndex.findAvailableRooms(hotelId, checkIn, checkOut));
+            rooms = roomRepository.findBookableRooms(hotelId, roomTypeId, guests)
+                    .stream()
+                    .filter(r -> freeRoomIds.contains(r.getId()))
+                    .collect(Collectors.toList());
+        } else {
+            rooms = roomRepository.findAvailableRooms(hotelId, checkIn, checkOut, roomTypeId, guests);
+        }
+
+        return rooms.stream()
+                .sorted(Comparator.comparing(Room::getRoomNumber))
+                .map(room -> mapToAvailableResponse(room, checkIn, checkOut, nights))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public RoomResponse updateRoomStatus(Long id, UpdateRoomStatusRequest request) {
         Room room = roomRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Room not found with id: " + id));
 
+        String previousStatus = room.getStatus();
         room.setStatus(request.getStatus());
         Room updatedRoom = roomRepository.save(room);
+
+        Long hotelId = room.getHotel() != null ? room.getHotel().getId() : null;
+        eventPublisher.publishEvent(new DashboardChangedEvent(hotelId, DashboardChangedEvent.Widget.SUMMARY));
+        eventPublisher.publishEvent(DashboardDelta.builder()
+                .type(DashboardDelta.ROOM_STATUS_CHANGED)
+                .hotelId(hotelId)
+                .roomId(room.getId())
+                .roomNumber(room.getRoomNumber())
+                .previousRoomStatus(previousStatus)
+                .roomStatus(room.getStatus())
+                .build());
         return mapToResponse(updatedRoom);
     }
 
@@ -196,11 +252,13 @@ public class RoomServiceImpl implements RoomService {
     }
 
     @Override
+    @Transactional
     public void deleteRoom(Long id) {
-        if (!roomRepository.existsById(id)) {
-            throw new RuntimeException("Room not found with id: " + id);
-        }
-        roomRepository.deleteById(id);
+        Room room = roomRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Room not found with id: " + id));
+        roomRepository.delete(room);
+        syncTombstones.record(SyncEntity.ROOMS, id, room.getHotel() != null ? room.getHotel().getId() : null);
+        availabilityIndex.afterCommit(() -> availabilityIndex.removeRoom(id));
     }
 
     private RoomResponse mapToResponse(Room room) {
@@ -223,6 +281,27 @@ public class RoomServiceImpl implements RoomService {
                 .build();
     }
 
+    private AvailableRoomResponse mapToAvailableResponse(Room room, LocalDate checkIn, LocalDate checkOut, long nights) {
+        BigDecimal nightlyPrice = room.getBasePrice() != null ? room.getBasePrice() :
+                room.getRoomType() != null ? room.getRoomType().getBasePrice() : null;
+
+        return AvailableRoomResponse.builder()
+                .roomId(room.getId())
+                .roomNumber(room.getRoomNumber())
+                .roomTypeId(room.getRoomType() != null ? room.getRoomType().getId() : null)
+                .roomTypeName(room.getRoomType() != null ? room.getRoomType().getName() : null)
+                .floor(room.getFloor())
+                .maxOccupancy(room.getMaxOccupancy())
+                .amenities(room.getAmenities())
+                .images(room.getImages())
+                .checkInDate(checkIn)
+                .checkOutDate(checkOut)
+                .numberOfNights((int) nights)
+                .nightlyPrice(nightlyPrice)
+                .totalPrice(nightlyPrice != null ? nightlyPrice.multiply(BigDecimal.valueOf(nights)) : null)
+                .build();
+    }
+
     @Override
     @Transactional
     public RoomResponse createRoomWithImage(CreateRoomRequest request, MultipartFile imageFile) {
@@ -4,11 +4,14 @@ import com.spring.hotel_management_backend.model.dto.request.admin.CreateRoomTyp
 import com.spring.hotel_management_backend.model.dto.response.admin.RoomTypeResponse;
 import com.spring.hotel_management_backend.model.entity.Hotel;
 import com.spring.hotel_management_backend.model.entity.RoomType;
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
 import com.spring.hotel_management_backend.repository.HotelRepository;
 import com.spring.hotel_management_backend.repository.RoomTypeRepository;
 import com.spring.hotel_management_backend.service.admin.RoomTypeService;
+import com.spring.hotel_management_backend.service.mobile.sync.SyncTombstones;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,6 +22,7 @@ public class RoomTypeServiceImpl implements RoomTypeService {
 
     private final RoomTypeRepository roomTypeRepository;
     private final HotelRepository hotelRepository;
+    private final SyncTombstones syncTombstones;
 
     @Override
     public RoomTypeResponse createRoomType(CreateRoomTypeRequest request) {
@@ -84,11 +88,12 @@ public class RoomTypeServiceImpl implements RoomTypeService {
     }
 
     @Override
+    @Transactional
     public void deleteRoomType(Long id) {
-        if (!roomTypeRepository.existsById(id)) {
-            throw new RuntimeException("Room type not found with id: " + id);
-        }
-        roomTypeRepository.deleteById(id);
+        RoomType roomType = roomTypeRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Room type not found with id: " + id));
+        roomTypeRepository.delete(roomType);
+        syncTombstones.record(SyncEntity.ROOM_TYPES, id, roomType.getHotel() != null ? roomType.getHotel().getId() : null);
     }
 
     private RoomTypeResponse mapToResponse(RoomType roomType) {
@@ -0,0 +1,229 @@
+package com.spring.hotel_management_backend.service.admin.stats;
+
+import com.spring.hotel_management_backend.model.entity.Booking;
+import com.spring.hotel_management_backend.model.entity.DailyHotelStats;
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import com.spring.hotel_management_backend.repository.BookingRepository;
+import com.spring.hotel_management_backend.repository.DailyHotelStatsRepository;
+import com.spring.hotel_management_backend.repository.HotelRepository;
+import com.spring.hotel_management_backend.service.admin.dashboard.DashboardChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains daily_hotel_stats. Booking writes mark (hotel, date range) dirty once they commit;
+ * a short fixed-delay flush recomputes just those days from the bookings in one query per hotel.
+ * A nightly reconciliation recomputes a wider window to absorb anything that bypassed the
+ * service layer, and an empty table is backfilled from the full booking history on startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailyHotelStatsRollup {
+
+    private final DailyHotelStatsRepository statsRepository;
+    private final BookingRepository bookingRepository;
+    private final HotelRepository hotelRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${stats.rollup.reconcile-days-back:400}")
+    private int reconcileDaysBack;
+
+    @Value("${stats.rollup.reconcile-days-ahead:365}")
+    private int reconcileDaysAhead;
+
+    // hotelId -> {fromEpochDay, toEpochDay}, merged until the next flush
+    private final Map<Long, long[]> dirty = new ConcurrentHashMap<>();
+
+    /**
+     * Schedules a recompute of every day the booking touches, after the current transaction commits.
+     */
+    public void markDirty(Booking booking) {
+        if (booking.getRoom() == null || booking.getRoom().getHotel() == null) {
+            return;
+        }
+        markDirty(booking.getRoom().getHotel().getId(), booking.getCheckInDate(), booking.getCheckOutDate());
+    }
+
+    public void markDirty(Long hotelId, LocalDate from, LocalDate to) {
+        if (hotelId == null || from == null || to == null) {
+            return;
+        }
+        long[] range = {Math.min(from.toEpochDay(), to.toEpochDay()), Math.max(from.toEpochDay(), to.toEpochDay())};
+        Runnable mark = () -> dirty.merge(hotelId, range,
+                (a, b) -> new long[]{Math.min(a[0], b[0]), Math.max(a[1], b[1])});
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mark.run();
+                }
+            });
+        } else {
+            mark.run();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stats.rollup.flush-delay-ms:5000}")
+    public void flushDirty() {
+        for (Long hotelId : new ArrayList<>(dirty.keySet())) {
+            long[] range = dirty.remove(hotelId);
+            if (range == null) {
+                continue;
+            }
+            try {
+                recompute(hotelId, LocalDate.ofEpochDay(range[0]), LocalDate.ofEpochDay(range[1]));
+            } catch (RuntimeException e) {
+                // Put the range back so the next flush retries it
+                dirty.merge(hotelId, range, (a, b) -> new long[]{Math.min(a[0], b[0]), Math.max(a[1], b[1])});
+                log.warn("Daily stats flush failed for hotel {}: {}", hotelId, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(cron = "${stats.rollup.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(reconcileDaysBack);
+        LocalDate to = today.plusDays(reconcileDaysAhead);
+        hotelRepository.findAll().forEach(hotel -> recompute(hotel.getId(), from, to));
+        log.info("Daily stats reconciled from {} to {}", from, to);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (statsRepository.count() > 0) {
+            return;
+        }
+        List<Object[]> bounds = bookingRepository.findBookedDateBoundsByHotel();
+        for (Object[] row : bounds) {
+            recompute((Long) row[0], (LocalDate) row[1], (LocalDate) row[2]);
+        }
+        log.info("Daily stats backfilled for {} hotels", bounds.size());
+    }
+
+    /**
+     * Rebuilds the rows of one hotel for [from, to] from its bookings.
+     */
+    public void recompute(Long hotelId, LocalDate from, LocalDate to) {
+        int days = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+        if (days <= 0) {
+            return;
+        }
+        long origin = from.toEpochDay();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            double[] revenueDelta = new double[days + 1];
+            int[] occupancyDelta = new int[days + 1];
+            int[] checkIns = new int[days];
+            int[] checkOuts = new int[days];
+            int[] cancellations = new int[days];
+
+            for (Object[] row : bookingRepository.findStatsInputs(hotelId, from, to)) {
+                long in = ((LocalDate) row[0]).toEpochDay() - origin;
+                long out = ((LocalDate) row[1]).toEpochDay() - origin;
+                BookingStatus bookingStatus = (BookingStatus) row[2];
+                double amount = row[3] != null ? (Double) row[3] : 0.0;
+
+                if (bookingStatus == BookingStatus.CANCELLED) {
+                    if (in >= 0 && in < days) {
+                        cancellations[(int) in]++;
+                    }
+                    continue;
+                }
+                if (in >= 0 && in < days) {
+                    checkIns[(int) in]++;
+                }
+                if (out >= 0 && out < days) {
+                    checkOuts[(int) out]++;
+                }
+                // Nights [in, out) clipped to the window, as a difference array
+                int first = (int) Math.max(in, 0);
+                int last = (int) Math.min(out, days);
+                if (first < last) {
+                    occupancyDelta[first]++;
+                    occupancyDelta[last]--;
+                }
+                // Revenue per night, as in RevenueAggregation; a same-day stay earns on its check-in day
+                if (RevenueAggregation.earnsRevenue(bookingStatus)) {
+                    long nights = Math.max(out - in, 1);
+                    int revenueLast = (int) Math.min(in + nights, days);
+                    if (first < revenueLast) {
+                        revenueDelta[first] += amount / nights;
+                        revenueDelta[revenueLast] -= amount / nights;
+                    }
+                }
+            }
+
+            List<DailyHotelStats> rows = new ArrayList<>();
+            int occupied = 0;
+            double running = 0;
+            for (int d = 0; d < days; d++) {
+                occupied += occupancyDelta[d];
+                running += revenueDelta[d];
+                // Cancel out floating point residue left by the +/- pairs
+                double revenue = Math.abs(running) < 1e-6 ? 0.0 : running;
+                if (revenue == 0 && occupied == 0 && checkIns[d] == 0 && checkOuts[d] == 0 && cancellations[d] == 0) {
+                    continue;
+                }
+                DailyHotelStats stats = new DailyHotelStats();
+                stats.setHotelId(hotelId);
+                stats.setStatDate(LocalDate.ofEpochDay(origin + d));
+                stats.setRevenue(revenue);
+                stats.setOccupiedRoomNights(occupied);
+                stats.setCheckIns(checkIns[d]);
+                stats.setCheckOuts(checkOuts[d]);
+                stats.setCancellations(cancellations[d]);
+                rows.add(stats);
+            }
+
+            statsRepository.deleteRange(hotelId, from, to);
+            statsRepository.saveAll(rows);
+            eventPublisher.publishEvent(new DashboardChangedEvent(hotelId, DashboardChangedEvent.Widget.CHARTS));
+        });
+    }
+
+    /**
+     * Reads the rollup for [startDate, endDate] with one range query. Days without a row are
+     * absent from the map; use {@link #dayOf(Map, LocalDate)} to read them as zeros.
+     */
+    public Map<LocalDate, DailyHotelStats> load(Long hotelId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, DailyHotelStats> byDate = new HashMap<>();
+        for (Object[] row : statsRepository.sumByDate(hotelId, startDate, endDate)) {
+            DailyHotelStats stats = new DailyHotelStats();
+            stats.setHotelId(hotelId);
+            stats.setStatDate((LocalDate) row[0]);
+            stats.setRevenue(row[1] != null ? ((Number) row[1]).doubleValue() : 0.0);
+            stats.setOccupiedRoomNights(row[2] != null ? ((Number) row[2]).intValue() : 0);
+            stats.setCheckIns(row[3] != null ? ((Number) row[3]).intValue() : 0);
+            stats.setCheckOuts(row[4] != null ? ((Number) row[4]).intValue() : 0);
+            stats.setCancellations(row[5] != null ? ((Number) row[5]).intValue() : 0);
+            byDate.put(stats.getStatDate(), stats);
+        }
+        return byDate;
+    }
+
+    public static DailyHotelStats dayOf(Map<LocalDate, DailyHotelStats> stats, LocalDate date) {
+        DailyHotelStats day = stats.get(date);
+        if (day == null) {
+            day = new DailyHotelStats();
+            day.setStatDate(date);
+        }
+        return day;
+    }
+}
@@ -0,0 +1,230 @@
+package com.spring.hotel_management_backend.service.admin.stats;
+
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Single-pass revenue aggregation over [startDate, endDate]. Each booking is added in O(1):
+ * its nightly rate and presence go into difference arrays keyed by epoch-day offset, and
+ * {@link #finish()} turns them into per-day, per-week and per-month totals in O(days).
+ *
+ * Revenue is recognised per night (totalAmount / nights) for stays that have started, see
+ * {@link #earnsRevenue}, so a stay straddling the range only contributes the nights inside it
+ * and the daily figures add up to the total. The daily rollup and the dashboard summary use the
+ * same definition. A booking counts towards a day's bookings for every night it occupies the room.
+ */
+public class RevenueAggregation {
+
+    private final LocalDate startDate;
+    private final long origin;
+    private final int days;
+    private final int firstMonth;
+
+    private final double[] revenueDelta;
+    private final int[] presenceDelta;
+    private final int[] monthCheckIns;
+
+    private final Map<String, double[]> paymentMethodRevenue = new HashMap<>();
+    private final Map<String, double[]> roomTypeRevenue = new HashMap<>();
+
+    private int totalBookings;
+    private int cancelledBookings;
+    private long roomNightsSold;
+
+    private double[] dailyRevenue;
+    private int[] dailyBookings;
+
+    public RevenueAggregation(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("End date must not be before start date");
+        }
+        this.startDate = startDate;
+        this.origin = startDate.toEpochDay();
+        this.days = (int) (endDate.toEpochDay() - origin) + 1;
+        this.firstMonth = monthIndex(startDate);
+        this.revenueDelta = new double[days + 1];
+        this.presenceDelta = new int[days + 1];
+        this.monthCheckIns = new int[monthIndex(endDate) - firstMonth + 1];
+    }
+
+    public void add(LocalDate checkIn, LocalDate checkOut, BookingStatus status, double amount,
+                    String paymentMethod, String roomType) {
+        if (dailyRevenue != null) {
+            throw new RuntimeException("Aggregation already finished");
+        }
+        totalBookings++;
+        if (status == BookingStatus.CANCELLED) {
+            cancelledBookings++;
+        }
+
+        long in = checkIn.toEpochDay() - origin;
+        long out = checkOut.toEpochDay() - origin;
+        long nights = Math.max(out - in, 1);
+        // Same-day stays still occupy their check-in day
+        int first = (int) Math.max(in, 0);
+        int last = (int) Math.min(in + nights, days);
+
+        if (in >= 0 && in < days) {
+            monthCheckIns[monthIndex(checkIn) - firstMonth]++;
+        }
+        if (first >= last) {
+            return;
+        }
+        presenceDelta[first]++;
+        presenceDelta[last]--;
+
+        if (earnsRevenue(status)) {
+            double nightly = amount / nights;
+            revenueDelta[first] += nightly;
+            revenueDelta[last] -= nightly;
+
+            int nightsInRange = last - first;
+            roomNightsSold += nightsInRange;
+            double inRange = nightly * nightsInRange;
+            paymentMethodRevenue.computeIfAbsent(paymentMethod != null ? paymentMethod : "UNKNOWN", k -> new double[1])[0] += inRange;
+            roomTypeRevenue.computeIfAbsent(roomType != null ? roomType : "Standard", k -> new double[1])[0] += inRange;
+        }
+    }
+
+    /**
+     * Checked-in and checked-out stays earn revenue; pending and confirmed ones have not yet.
+     */
+    public static boolean earnsRevenue(BookingStatus status) {
+        return status == BookingStatus.CHECKED_IN || status == BookingStatus.CHECKED_OUT;
+    }
+
+    /**
+     * Adds another aggregation over the same range into this one, e.g. one hotel's partial
+     * result into the chain total. Works on the raw difference arrays, so either side may
+     * already be finished; this one is re-finished on the next read.
+     */
+    public RevenueAggregation merge(RevenueAggregation other) {
+        if (other.origin != origin || other.days != days) {
+            throw new RuntimeException("Cannot merge revenue aggregations over different ranges");
+        }
+        for (int d = 0; d <= days; d++) {
+            revenueDelta[d] += other.revenueDelta[d];
+            presenceDelta[d] += other.presenceDelta[d];
+        }
+        for (int m = 0; m < monthCheckIns.length; m++) {
+            monthCheckIns[m] += other.monthCheckIns[m];
+        }
+        other.paymentMethodRevenue.forEach((key, sum) -> paymentMethodRevenue.computeIfAbsent(key, k -> new double[1])[0] += sum[0]);
+        other.roomTypeRevenue.forEach((key, sum) -> roomTypeRevenue.computeIfAbsent(key, k -> new double[1])[0] += sum[0]);
+        totalBookings += other.totalBookings;
+        cancelledBookings += other.cancelledBookings;
+        roomNightsSold += other.roomNightsSold;
+        dailyRevenue = null;
+        dailyBookings = null;
+        return this;
+    }
+
+    /**
+     * Prefix-sums the difference arrays; call once after the last {@link #add}.
+     */
+    public RevenueAggregation finish() {
+        if (dailyRevenue == null) {
+            dailyRevenue = new double[days];
+            dailyBookings = new int[days];
+            double revenue = 0;
+            int present = 0;
+            for (int d = 0; d < days; d++) {
+                revenue += revenueDelta[d];
+                present += presenceDelta[d];
+                // Cancel out floating point residue left by the +/- pairs
+                dailyRevenue[d] = Math.abs(revenue) < 1e-6 ? 0.0 : revenue;
+                dailyBookings[d] = present;
+            }
+        }
+        return this;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public LocalDate dateAt(int offset) {
+        return startDate.plusDays(offset);
+    }
+
+    public double[] getDailyRevenue() {
+        return finish().dailyRevenue;
+    }
+
+    public int[] getDailyBookings() {
+        return finish().dailyBookings;
+    }
+
+    /**
+     * Revenue per 7-day bucket counted from the start date; the last bucket may be partial.
+     */
+    public double[] getWeeklyRevenue() {
+        double[] daily = getDailyRevenue();
+        double[] weekly = new double[(days + 6) / 7];
+        for (int d = 0; d < days; d++) {
+            weekly[d / 7] += daily[d];
+        }
+        return weekly;
+    }
+
+    /**
+     * Revenue per calendar month, index 0 being the month of the start date.
+     */
+    public double[] getMonthlyRevenue() {
+        double[] daily = getDailyRevenue();
+        double[] monthly = new double[monthCheckIns.length];
+        for (int d = 0; d < days; d++) {
+            monthly[monthIndex(startDate.plusDays(d)) - firstMonth] += daily[d];
+        }
+        return monthly;
+    }
+
+    public int[] getMonthlyCheckIns() {
+        return monthCheckIns.clone();
+    }
+
+    public LocalDate monthAt(int index) {
+        return startDate.withDayOfMonth(1).plusMonths(index);
+    }
+
+    public double getTotalRevenue() {
+        double total = 0;
+        for (double revenue : getDailyRevenue()) {
+            total += revenue;
+        }
+        return total;
+    }
+
+    public long getRoomNightsSold() {
+        return roomNightsSold;
+    }
+
+    public int getTotalBookings() {
+        return totalBookings;
+    }
+
+    public int getCancelledBookings() {
+        return cancelledBookings;
+    }
+
+    public Map<String, Double> getPaymentMethodRevenue() {
+        return unwrap(paymentMethodRevenue);
+    }
+
+    public Map<String, Double> getRoomTypeRevenue() {
+        return unwrap(roomTypeRevenue);
+    }
+
+    private static Map<String, Double> unwrap(Map<String, double[]> accumulators) {
+        Map<String, Double> result = new HashMap<>();
+        accumulators.forEach((key, sum) -> result.put(key, sum[0]));
+        return result;
+    }
+
+    private static int monthIndex(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+}
@@ -0,0 +1,44 @@
+package com.spring.hotel_management_backend.service.admin.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the {@code limit} largest items seen so far in a min-heap, so picking the top N of
+ * M rows costs O(M log N) time and O(N) memory instead of sorting all M.
+ */
+public class TopN<T> {
+
+    private final int limit;
+    private final Comparator<T> order;
+    private final PriorityQueue<T> heap;
+
+    public TopN(int limit, Comparator<T> order) {
+        this.limit = Math.max(limit, 0);
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(this.limit, 1), order);
+    }
+
+    public void offer(T item) {
+        if (limit == 0) {
+            return;
+        }
+        if (heap.size() < limit) {
+            heap.add(item);
+        } else if (order.compare(item, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(item);
+        }
+    }
+
+    /**
+     * The retained items, largest first.
+     */
+    public List<T> toList() {
+        List<T> items = new ArrayList<>(heap);
+        items.sort(order.reversed());
+        return items;
+    }
+}
@@ -1,14 +1,23 @@
 package com.spring.hotel_management_backend.service.mobile;
 
 import com.spring.hotel_management_backend.model.dto.mobile.request.PushUpdateRequest;
+import com.spring.hotel_management_backend.model.dto.mobile.request.ResolveConflictsRequest;
+import com.spring.hotel_management_backend.model.dto.mobile.request.SyncPullRequest;
 import com.spring.hotel_management_backend.model.dto.mobile.request.SyncRequest;
 import com.spring.hotel_management_backend.model.dto.mobile.response.InitialSyncResponse;
 import com.spring.hotel_management_backend.model.dto.mobile.response.PushUpdateResponse;
+import com.spring.hotel_management_backend.model.dto.mobile.response.ResolveConflictsResponse;
+import com.spring.hotel_management_backend.model.dto.mobile.response.SyncConflictResponse;
+import com.spring.hotel_management_backend.model.dto.mobile.response.SyncPullResponse;
 import com.spring.hotel_management_backend.model.dto.mobile.response.SyncStatusResponse;
 
+import java.util.List;
+
 public interface MobileSyncService {
     InitialSyncResponse getInitialData(SyncRequest request);
+    SyncPullResponse pull(SyncPullRequest request);
     PushUpdateResponse pushUpdates(PushUpdateRequest request);
     SyncStatusResponse getSyncStatus(Long userId, String deviceId);
-    Boolean resolveConflict(String entityType, Long entityId, Object clientData, Object serverData);
+    List<SyncConflictResponse> getConflicts(String status);
+    ResolveConflictsResponse resolveConflicts(ResolveConflictsRequest request);
 }
\ No newline at end of file
@@ -1,25 +1,51 @@
 package com.spring.hotel_management_backend.service.mobile.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.hotel_management_backend.model.dto.mobile.request.PushUpdateRequest;
+import com.spring.hotel_management_backend.model.dto.mobile.request.ResolveConflictsRequest;
+import com.spring.hotel_management_backend.model.dto.mobile.request.SyncPullRequest;
 import com.spring.hotel_management_backend.model.dto.mobile.request.SyncRequest;
+import com.spring.hotel_management_backend.model.dto.mobile.response.ColumnarRow;
+import com.spring.hotel_management_backend.model.dto.mobile.response.ColumnarTable;
+import com.spring.hotel_management_backend.model.dto.mobile.response.GuestSyncRow;
+import com.spring.hotel_management_backend.model.dto.mobile.response.HotelSyncRow;
 import com.spring.hotel_management_backend.model.dto.mobile.response.InitialSyncResponse;
 import com.spring.hotel_management_backend.model.dto.mobile.response.PushUpdateResponse;
+import com.spring.hotel_management_backend.model.dto.mobile.response.ResolveConflictsResponse;
+import com.spring.hotel_management_backend.model.dto.mobile.response.RoomSyncRow;
+import com.spring.hotel_management_backend.model.dto.mobile.response.RoomTypeSyncRow;
+import com.spring.hotel_management_backend.model.dto.mobile.response.SyncConflictResponse;
+import com.spring.hotel_management_backend.model.dto.mobile.response.SyncPullResponse;
 import com.spring.hotel_management_backend.model.dto.mobile.response.SyncStatusResponse;
 import com.spring.hotel_management_backend.model.entity.*;
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
 import com.spring.hotel_management_backend.repository.*;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
 import com.spring.hotel_management_backend.service.mobile.MobileSyncService;
+import com.spring.hotel_management_backend.service.mobile.sync.PushOperation;
+import com.spring.hotel_management_backend.service.mobile.sync.SyncPushPipeline;
+import com.spring.hotel_management_backend.service.mobile.sync.SyncToken;
+import com.spring.hotel_management_backend.service.mobile.sync.SyncTombstones;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MobileSyncServiceImpl implements MobileSyncService {
 
+    // Bound for the unused "since" parameter of full-sync queries
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final UserRepository userRepository;
     private final HotelRepository hotelRepository;
     private final RoomRepository roomRepository;
@@ -29,8 +55,17 @@ public class MobileSyncServiceImpl implements MobileSyncService {
     private final EmployeeRepository employeeRepository;
     private final InventoryRepository inventoryRepository;
     private final SyncLogRepository syncLogRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final SyncTombstones syncTombstones;
+    private final SyncPushPipeline syncPushPipeline;
+    private final SyncConflictRepository syncConflictRepository;
     private final ObjectMapper objectMapper;
 
+    // Transactions that commit after a pull can carry an updatedAt slightly before it; the next
+    // watermark is set back by this much so they are picked up, at the cost of resending a few rows
+    @Value("${sync.pull.overlap-seconds:5}")
+    private long overlapSeconds;
+
     @Override
     public InitialSyncResponse getInitialData(SyncRequest request) {
         User user = userRepository.findById(request.getUserId())
@@ -45,19 +80,27 @@ public class MobileSyncServiceImpl implements MobileSyncService {
         syncLog.setSyncType("INITIAL");
         syncLog.setRequestTime(LocalDateTime.now());
 
+        // A pull with this token picks up from here without downloading everything again
+        LocalDateTime watermark = LocalDateTime.now().minusSeconds(overlapSeconds);
+        SyncToken syncToken = new SyncToken(hotelId);
+        for (SyncEntity entity : SyncEntity.values()) {
+            syncToken.withWatermark(entity, watermark);
+        }
+
         // Build response based on user role
         InitialSyncResponse.InitialSyncResponseBuilder responseBuilder = InitialSyncResponse.builder()
+                .syncToken(syncToken.encode())
                 .syncTime(System.currentTimeMillis())
                 .dataVersion("v1.0_" + System.currentTimeMillis())
                 .serverTime(System.currentTimeMillis())
                 .fullSyncRequired(true)
                 .config(getHotelConfig(hotelId));
 
-        // Common data for all roles
-        responseBuilder.hotels(getHotelsData(hotelId));
-        responseBuilder.rooms(getRoomsData(hotelId));
-        responseBuilder.roomTypes(getRoomTypesData(hotelId));
-        responseBuilder.guests(getGuestsData(hotelId));
+        // Common data for all roles, selected straight into the sync rows
+        responseBuilder.hotels(hotelRepository.findForSync(hotelId, true, EPOCH));
+        responseBuilder.rooms(roomRepository.findForSync(hotelId, true, EPOCH));
+        responseBuilder.roomTypes(roomTypeRepository.findForSync(hotelId, true, EPOCH));
+        responseBuilder.guests(guestRepository.findForSync(hotelId, true, EPOCH));
 
         // Role-specific data
         switch (user.getRole()) {
@@ -87,47 +130,145 @@ public class MobileSyncServiceImpl implements MobileSyncService {
         syncLog.setRecordsSent(estimateRecordCount(responseBuilder));
         syncLogRepository.save(syncLog);
 
-        return responseBuilder.build();
+        InitialSyncResponse response = responseBuilder.build();
+        if (isColumnar(request.getLayout())) {
+            moveToTables(response);
+        }
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public SyncPullResponse pull(SyncPullRequest request) {
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        Long hotelId = user.getHotel() != null ? user.getHotel().getId() : null;
+
+        LocalDateTime requestTime = LocalDateTime.now();
+        LocalDateTime nextWatermark = requestTime.minusSeconds(overlapSeconds);
+        LocalDateTime horizon = syncTombstones.getHorizon();
+
+        // A token from another hotel scope (e.g. the user was moved) is as good as none
+        SyncToken previous = SyncToken.parse(request.getSyncToken());
+        if (previous != null && !previous.isScopedTo(hotelId)) {
+            previous = null;
+        }
+        SyncToken next = new SyncToken(hotelId);
+        if (previous != null) {
+            for (SyncEntity entity : SyncEntity.values()) {
+                if (previous.getWatermark(entity) != null) {
+                    next.withWatermark(entity, previous.getWatermark(entity));
+                }
+            }
+        }
+
+        Map<String, SyncPullResponse.EntityChanges> changes = new LinkedHashMap<>();
+        int totalChanges = 0;
+        boolean columnar = isColumnar(request.getLayout());
+        for (SyncEntity entity : requestedEntities(request.getEntities())) {
+            LocalDateTime since = previous != null ? previous.getWatermark(entity) : null;
+            // Tombstones before the horizon are purged, so such a client cannot learn its deletes
+            boolean full = since == null || since.isBefore(horizon);
+
+            List<? extends ColumnarRow> upserted = findChanged(entity, hotelId, full, full ? EPOCH : since);
+            List<Long> deleted = full ? List.of() : tombstoneRepository.findDeletedIdsSince(entity, hotelId, since);
+            changes.put(entity.getKey(), SyncPullResponse.EntityChanges.builder()
+                    .fullSync(full)
+                    .upserted(columnar ? null : upserted)
+                    .upsertedTable(columnar ? ColumnarTable.of(columnsOf(entity), upserted) : null)
+                    .deleted(deleted)
+                    .build());
+            totalChanges += upserted.size() + deleted.size();
+            next.withWatermark(entity, nextWatermark);
+        }
+
+        SyncLog syncLog = new SyncLog();
+        syncLog.setUserId(user.getId());
+        syncLog.setDeviceId(request.getDeviceId());
+        syncLog.setSyncType("PULL");
+        syncLog.setRequestTime(requestTime);
+        syncLog.setResponseTime(LocalDateTime.now());
+        syncLog.setStatus("SUCCESS");
+        syncLog.setRecordsSent(totalChanges);
+        syncLogRepository.save(syncLog);
+
+        return SyncPullResponse.builder()
+                .syncToken(next.encode())
+                .serverTime(System.currentTimeMillis())
+                .totalChanges(totalChanges)
+                .changes(changes)
+                .build();
     }
 
     @Override
     public PushUpdateResponse pushUpdates(PushUpdateRequest request) {
+        AuthenticatedUser user = pushingUser(request.getUserId());
+        LocalDateTime requestTime = LocalDateTime.now();
+        List<PushUpdateRequest.SyncOperation> operations =
+                request.getOperations() != null ? request.getOperations() : List.of();
+
+        List<PushOperation> processed = syncPushPipeline.process(user, request.getDeviceId(), operations);
+
+        List<PushUpdateResponse.OperationResult> results = new ArrayList<>();
         List<Map<String, Object>> failedOperations = new ArrayList<>();
         int successCount = 0;
-        int failCount = 0;
-
-        for (PushUpdateRequest.SyncOperation operation : request.getOperations()) {
-            try {
-                processOperation(operation, request.getUserId());
-                successCount++;
-            } catch (Exception e) {
-                failCount++;
-                Map<String, Object> failedOp = new HashMap<>();
-                failedOp.put("operationId", operation.getOperationId());
-                failedOp.put("error", e.getMessage());
-                failedOperations.add(failedOp);
+        int duplicateCount = 0;
+        int conflictCount = 0;
+        for (PushOperation operation : processed) {
+            results.add(PushUpdateResponse.OperationResult.builder()
+                    .operationId(operation.getOperationId())
+                    .entityType(operation.getEntityType())
+                    .status(operation.getStatus().name())
+                    .entityId(operation.getEntityId())
+                    .version(operation.getVersion())
+                    .conflictId(operation.getConflictId())
+                    .error(operation.getError())
+                    .build());
+            switch (operation.getStatus()) {
+                case APPLIED -> successCount++;
+                case DUPLICATE -> duplicateCount++;
+                case CONFLICT -> conflictCount++;
+                case FAILED -> {
+                    Map<String, Object> failedOp = new HashMap<>();
+                    failedOp.put("operationId", operation.getOperationId());
+                    failedOp.put("error", operation.getError());
+                    failedOperations.add(failedOp);
+                }
             }
         }
+        int failCount = failedOperations.size();
 
         // Log sync
         SyncLog syncLog = new SyncLog();
-        syncLog.setUserId(request.getUserId());
+        syncLog.setUserId(user.getId());
         syncLog.setDeviceId(request.getDeviceId());
         syncLog.setSyncType("PUSH");
-        syncLog.setRequestTime(LocalDateTime.now());
+        syncLog.setRequestTime(requestTime);
         syncLog.setResponseTime(LocalDateTime.now());
-        syncLog.setStatus(failCount == 0 ? "SUCCESS" : "PARTIAL");
-        syncLog.setRecordsReceived(request.getOperations().size());
+        syncLog.setStatus(failCount == 0 && conflictCount == 0 ? "SUCCESS" : "PARTIAL");
+        syncLog.setRecordsReceived(operations.size());
         syncLog.setRecordsProcessed(successCount);
-        syncLog.setRecordsFailed(failCount);
+        syncLog.setRecordsFailed(failCount + conflictCount);
         syncLogRepository.save(syncLog);
 
+        String message;
+        if (failCount == 0 && conflictCount == 0) {
+            message = "All operations synced successfully";
+        } else if (conflictCount == 0) {
+            message = failCount + " operations failed";
+        } else {
+            message = failCount + " operations failed, " + conflictCount + " conflicts to resolve";
+        }
+
         return PushUpdateResponse.builder()
-                .success(failCount == 0)
-                .message(failCount == 0 ? "All operations synced successfully" : failCount + " operations failed")
+                .success(failCount == 0 && conflictCount == 0)
+                .message(message)
                 .processedCount(successCount)
+                .duplicateCount(duplicateCount)
+                .conflictCount(conflictCount)
                 .failedCount(failCount)
                 .failedOperations(failedOperations)
+                .results(results)
                 .newSyncTime(System.currentTimeMillis())
                 .newDataVersion("v1.0_" + System.currentTimeMillis())
                 .build();
@@ -150,14 +291,179 @@ public class MobileSyncServiceImpl implements MobileSyncService {
     }
 
     @Override
-    public Boolean resolveConflict(String entityType, Long entityId, Object clientData, Object serverData) {
-        // Implement conflict resolution logic
-        // Default: server wins
-        return true;
+    public List<SyncConflictResponse> getConflicts(String status) {
+        Long userId = AuthenticatedUser.current().getId();
+        List<SyncConflict> conflicts = "ALL".equalsIgnoreCase(status)
+                ? syncConflictRepository.findByUserIdOrderByCreatedAtDesc(userId)
+                : syncConflictRepository.findByUserIdAndStatusOrderByCreatedAtAsc(userId, status.toUpperCase());
+        return conflicts.stream().map(this::mapToConflictResponse).toList();
+    }
+
+    /**
+     * SERVER just closes the conflict. CLIENT and MERGED are re-applied as ordinary push
+     * operations on top of the version the conflict was recorded against, so a row that
+     * changed again since then yields a new conflict instead of being overwritten.
+     */
+    @Override
+    public ResolveConflictsResponse resolveConflicts(ResolveConflictsRequest request) {
+        AuthenticatedUser user = AuthenticatedUser.current();
+        List<ResolveConflictsRequest.Resolution> resolutions =
+                request.getResolutions() != null ? request.getResolutions() : List.of();
+
+        Map<Long, SyncConflict> conflicts = new HashMap<>();
+        syncConflictRepository.findAllById(resolutions.stream()
+                        .map(ResolveConflictsRequest.Resolution::getConflictId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .forEach(conflict -> conflicts.put(conflict.getId(), conflict));
+
+        List<ResolveConflictsResponse.Result> results = new ArrayList<>();
+        List<SyncConflict> changed = new ArrayList<>();
+        // Results waiting on the pipeline, in the same order as the operations handed to it
+        List<ResolveConflictsResponse.Result> reapplied = new ArrayList<>();
+        List<SyncConflict> reappliedConflicts = new ArrayList<>();
+        List<String> reappliedResolutions = new ArrayList<>();
+        List<PushUpdateRequest.SyncOperation> operations = new ArrayList<>();
+
+        for (ResolveConflictsRequest.Resolution resolution : resolutions) {
+            ResolveConflictsResponse.Result result = ResolveConflictsResponse.Result.builder()
+                    .conflictId(resolution.getConflictId())
+                    .build();
+            results.add(result);
+
+            SyncConflict conflict = conflicts.get(resolution.getConflictId());
+            String choice = resolution.getResolution() != null ? resolution.getResolution().toUpperCase() : "";
+            if (conflict == null || !conflict.getUserId().equals(user.getId())) {
+                failResolution(result, "Conflict not found with id: " + resolution.getConflictId());
+            } else if (!"OPEN".equals(conflict.getStatus())) {
+                failResolution(result, "Conflict is already " + conflict.getStatus().toLowerCase());
+            } else if ("SERVER".equals(choice)) {
+                closeConflict(conflict, "RESOLVED", "SERVER");
+                changed.add(conflict);
+                result.setStatus("RESOLVED");
+                result.setEntityId(conflict.getEntityId());
+            } else if ("CLIENT".equals(choice) || "MERGED".equals(choice)) {
+                Map<String, Object> data = "CLIENT".equals(choice)
+                        ? readJson(conflict.getClientData())
+                        : resolution.getData();
+                if (data == null || data.isEmpty()) {
+                    failResolution(result, "Merged data is required for resolution MERGED");
+                    continue;
+                }
+                operations.add(toReapplyOperation(conflict, data));
+                reapplied.add(result);
+                reappliedConflicts.add(conflict);
+                reappliedResolutions.add(choice);
+            } else {
+                failResolution(result, "Invalid resolution: " + resolution.getResolution());
+            }
+        }
+
+        List<PushOperation> processed = operations.isEmpty()
+                ? List.of()
+                : syncPushPipeline.process(user, request.getDeviceId(), operations);
+        for (int i = 0; i < processed.size(); i++) {
+            PushOperation operation = processed.get(i);
+            ResolveConflictsResponse.Result result = reapplied.get(i);
+            SyncConflict conflict = reappliedConflicts.get(i);
+            switch (operation.getStatus()) {
+                case APPLIED, DUPLICATE -> {
+                    closeConflict(conflict, "RESOLVED", reappliedResolutions.get(i));
+                    changed.add(conflict);
+                    result.setStatus("RESOLVED");
+                    result.setEntityId(operation.getEntityId());
+                    result.setVersion(operation.getVersion());
+                }
+                case CONFLICT -> {
+                    closeConflict(conflict, "SUPERSEDED", null);
+                    changed.add(conflict);
+                    result.setStatus("CONFLICT");
+                    result.setEntityId(operation.getEntityId());
+                    result.setNewConflictId(operation.getConflictId());
+                }
+                case FAILED -> failResolution(result, operation.getError());
+            }
+        }
+        syncConflictRepository.saveAll(changed);
+
+        int resolvedCount = (int) results.stream().filter(r -> "RESOLVED".equals(r.getStatus())).count();
+        int failedCount = (int) results.stream().filter(r -> "FAILED".equals(r.getStatus())).count();
+        return ResolveConflictsResponse.builder()
+                .resolvedCount(resolvedCount)
+                .failedCount(failedCount)
+                .results(results)
+                .build();
     }
 
     // Private helper methods for data preparation
 
+    // Writes act as the token's user; a userId in the body is only accepted if it is the same one
+    private static AuthenticatedUser pushingUser(Long requestedUserId) {
+        AuthenticatedUser user = AuthenticatedUser.current();
+        if (requestedUserId != null && !requestedUserId.equals(user.getId())) {
+            throw new RuntimeException("userId does not match the authenticated user");
+        }
+        return user;
+    }
+
+    private PushUpdateRequest.SyncOperation toReapplyOperation(SyncConflict conflict, Map<String, Object> data) {
+        Map<String, Object> fields = new HashMap<>(data);
+        fields.put("id", conflict.getEntityId());
+
+        PushUpdateRequest.SyncOperation operation = new PushUpdateRequest.SyncOperation();
+        // Fixed per conflict, so resending the same resolution is answered from its receipt
+        operation.setOperationId("conflict-" + conflict.getId());
+        operation.setEntityType(conflict.getEntityType());
+        operation.setOperationType("UPDATE");
+        operation.setData(fields);
+        operation.setBaseVersion(conflict.getServerVersion());
+        operation.setTimestamp(System.currentTimeMillis());
+        return operation;
+    }
+
+    private static void closeConflict(SyncConflict conflict, String status, String resolution) {
+        conflict.setStatus(status);
+        conflict.setResolution(resolution);
+        conflict.setResolvedAt(LocalDateTime.now());
+    }
+
+    private static void failResolution(ResolveConflictsResponse.Result result, String error) {
+        result.setStatus("FAILED");
+        result.setError(error);
+    }
+
+    private SyncConflictResponse mapToConflictResponse(SyncConflict conflict) {
+        return SyncConflictResponse.builder()
+                .id(conflict.getId())
+                .operationId(conflict.getOperationId())
+                .entityType(conflict.getEntityType())
+                .entityId(conflict.getEntityId())
+                .baseVersion(conflict.getBaseVersion())
+                .serverVersion(conflict.getServerVersion())
+                .policy(conflict.getPolicy() != null ? conflict.getPolicy().name() : null)
+                .status(conflict.getStatus())
+                .resolution(conflict.getResolution())
+                .conflictingFields(conflict.getConflictingFields() != null && !conflict.getConflictingFields().isEmpty()
+                        ? List.of(conflict.getConflictingFields().split(","))
+                        : List.of())
+                .clientData(readJson(conflict.getClientData()))
+                .serverData(readJson(conflict.getServerData()))
+                .createdAt(conflict.getCreatedAt())
+                .resolvedAt(conflict.getResolvedAt())
+                .build();
+    }
+
+    private Map<String, Object> readJson(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unreadable conflict data: " + e.getOriginalMessage());
+        }
+    }
+
     private Map<String, Object> getHotelConfig(Long hotelId) {
         Map<String, Object> config = new HashMap<>();
         if (hotelId != null) {
@@ -173,46 +479,64 @@ public class MobileSyncServiceImpl implements MobileSyncService {
         return config;
     }
 
-    private List<Map<String, Object>> getHotelsData(Long hotelId) {
-        List<Hotel> hotels;
-        if (hotelId != null) {
-            hotels = hotelRepository.findById(hotelId).stream().collect(Collectors.toList());
-        } else {
-            hotels = hotelRepository.findAll();
-        }
-        return hotels.stream().map(this::convertHotelToMap).collect(Collectors.toList());
+    private static boolean isColumnar(String layout) {
+        return "columns".equalsIgnoreCase(layout);
     }
 
-    private List<Map<String, Object>> getRoomsData(Long hotelId) {
-        if (hotelId != null) {
-            Hotel hotel = hotelRepository.findById(hotelId).orElse(null);
-            if (hotel != null) {
-                return roomRepository.findByHotel(hotel).stream()
-                        .map(this::convertRoomToMap)
-                        .collect(Collectors.toList());
-            }
+    // Same data, but each list's field names are sent once instead of on every row
+    private static void moveToTables(InitialSyncResponse response) {
+        Map<String, ColumnarTable> tables = new LinkedHashMap<>();
+        tables.put("hotels", ColumnarTable.of(HotelSyncRow.COLUMNS, response.getHotels()));
+        tables.put("rooms", ColumnarTable.of(RoomSyncRow.COLUMNS, response.getRooms()));
+        tables.put("roomTypes", ColumnarTable.of(RoomTypeSyncRow.COLUMNS, response.getRoomTypes()));
+        tables.put("guests", ColumnarTable.of(GuestSyncRow.COLUMNS, response.getGuests()));
+        response.setHotels(null);
+        response.setRooms(null);
+        response.setRoomTypes(null);
+        response.setGuests(null);
+        moveToTable(tables, "rates", response::getRates, response::setRates);
+        moveToTable(tables, "myBookings", response::getMyBookings, response::setMyBookings);
+        moveToTable(tables, "myTasks", response::getMyTasks, response::setMyTasks);
+        moveToTable(tables, "teamMembers", response::getTeamMembers, response::setTeamMembers);
+        moveToTable(tables, "employees", response::getEmployees, response::setEmployees);
+        moveToTable(tables, "inventory", response::getInventory, response::setInventory);
+        response.setTables(tables);
+    }
+
+    private static void moveToTable(Map<String, ColumnarTable> tables, String key,
+                                    Supplier<List<Map<String, Object>>> getter,
+                                    Consumer<List<Map<String, Object>>> setter) {
+        if (getter.get() != null) {
+            tables.put(key, ColumnarTable.of(getter.get()));
+            setter.accept(null);
         }
-        return roomRepository.findAll().stream()
-                .map(this::convertRoomToMap)
-                .collect(Collectors.toList());
     }
 
-    private List<Map<String, Object>> getRoomTypesData(Long hotelId) {
-        if (hotelId != null) {
-            return roomTypeRepository.findByHotelId(hotelId).stream()
-                    .map(this::convertRoomTypeToMap)
-                    .collect(Collectors.toList());
+    private static Collection<SyncEntity> requestedEntities(List<String> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return EnumSet.allOf(SyncEntity.class);
         }
-        return roomTypeRepository.findAll().stream()
-                .map(this::convertRoomTypeToMap)
-                .collect(Collectors.toList());
+        Set<SyncEntity> requested = EnumSet.noneOf(SyncEntity.class);
+        entities.forEach(key -> requested.add(SyncEntity.fromKey(key)));
+        return requested;
+    }
+
+    private List<? extends ColumnarRow> findChanged(SyncEntity entity, Long hotelId, boolean full, LocalDateTime since) {
+        return switch (entity) {
+            case HOTELS -> hotelRepository.findForSync(hotelId, full, since);
+            case ROOMS -> roomRepository.findForSync(hotelId, full, since);
+            case ROOM_TYPES -> roomTypeRepository.findForSync(hotelId, full, since);
+            case GUESTS -> guestRepository.findForSync(hotelId, full, since);
+        };
     }
 
-    private List<Map<String, Object>> getGuestsData(Long hotelId) {
-        // This is simplified - you might want to filter by hotel
-        return guestRepository.findAll().stream()
-                .map(this::convertGuestToMap)
-                .collect(Collectors.toList());
+    private static List<String> columnsOf(SyncEntity entity) {
+        return switch (entity) {
+            case HOTELS -> HotelSyncRow.COLUMNS;
+            case ROOMS -> RoomSyncRow.COLUMNS;
+            case ROOM_TYPES -> RoomTypeSyncRow.COLUMNS;
+            case GUESTS -> GuestSyncRow.COLUMNS;
+        };
     }
 
     private List<Map<String, Object>> getEmployeesData(Long hotelId) {
@@ -245,88 +569,6 @@ public class MobileSyncServiceImpl implements MobileSyncService {
         return new ArrayList<>();
     }
 
-    private void processOperation(PushUpdateRequest.SyncOperation operation, Long userId) {
-        switch (operation.getEntityType()) {
-            case "BOOKING":
-                processBookingOperation(operation);
-                break;
-            case "ATTENDANCE":
-                processAttendanceOperation(operation);
-                break;
-            case "TASK":
-                processTaskOperation(operation);
-                break;
-            // Add more cases as needed
-        }
-    }
-
-    private void processBookingOperation(PushUpdateRequest.SyncOperation operation) {
-        // Implement booking operation processing
-    }
-
-    private void processAttendanceOperation(PushUpdateRequest.SyncOperation operation) {
-        // Implement attendance operation processing
-    }
-
-    private void processTaskOperation(PushUpdateRequest.SyncOperation operation) {
-        // Implement task operation processing
-    }
-
-    // Conversion methods
-    private Map<String, Object> convertHotelToMap(Hotel hotel) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", hotel.getId());
-        map.put("name", hotel.getName());
-        map.put("address", hotel.getAddress());
-        map.put("city", hotel.getCity());
-        map.put("phone", hotel.getPhone());
-        map.put("email", hotel.getEmail());
-        map.put("starRating", hotel.getStarRating());
-        map.put("checkInTime", hotel.getCheckInTime());
-        map.put("checkOutTime", hotel.getCheckOutTime());
-        return map;
-    }
-
-    private Map<String, Object> convertRoomToMap(Room room) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", room.getId());
-        map.put("roomNumber", room.getRoomNumber());
-        map.put("roomTypeId", room.getRoomType() != null ? room.getRoomType().getId() : null);
-        map.put("roomTypeName", room.getRoomType() != null ? room.getRoomType().getName() : null);
-        map.put("floor", room.getFloor());
-        map.put("status", room.getStatus());
-        map.put("basePrice", room.getBasePrice());
-        map.put("maxOccupancy", room.getMaxOccupancy());
-        map.put("amenities", room.getAmenities());
-        map.put("images", room.getImages());
-        return map;
-    }
-
-    private Map<String, Object> convertRoomTypeToMap(RoomType roomType) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", roomType.getId());
-        map.put("name", roomType.getName());
-        map.put("description", roomType.getDescription());
-        map.put("basePrice", roomType.getBasePrice());
-        map.put("maxOccupancy", roomType.getMaxOccupancy());
-        map.put("amenities", roomType.getAmenities());
-        map.put("images", roomType.getImages());
-        return map;
-    }
-
-    private Map<String, Object> convertGuestToMap(Guest guest) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", guest.getId());
-        map.put("firstName", guest.getFirstName());
-        map.put("lastName", guest.getLastName());
-        map.put("email", guest.getEmail());
-        map.put("phone", guest.getPhone());
-        map.put("address", guest.getAddress());
-        map.put("idProofType", guest.getIdProofType());
-        map.put("idProofNumber", guest.getIdProofNumber());
-        return map;
-    }
-
     private int estimateRecordCount(InitialSyncResponse.InitialSyncResponseBuilder builder) {
         // This is a placeholder - implement actual counting
         return 100;
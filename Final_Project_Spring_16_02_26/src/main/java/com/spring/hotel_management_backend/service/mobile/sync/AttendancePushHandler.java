@@ -0,0 +1,208 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.spring.hotel_management_backend.model.entity.Attendance;
+import com.spring.hotel_management_backend.model.entity.Employee;
+import com.spring.hotel_management_backend.repository.AttendanceRepository;
+import com.spring.hotel_management_backend.repository.EmployeeRepository;
+import com.spring.hotel_management_backend.repository.SyncPushBatchRepository;
+import com.spring.hotel_management_backend.service.admin.dashboard.DashboardChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * CREATE marks a day for an employee (self check-in from the staff app); UPDATE changes an
+ * existing record, typically the check-out. Creates go in as one JDBC batch, updates are
+ * applied to entities loaded in one query and flushed by Hibernate in batches.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendancePushHandler implements SyncPushHandler {
+
+    private static final Set<String> STATUSES = Set.of("PRESENT", "ABSENT", "HALF_DAY", "LATE", "OVERTIME");
+
+    private final AttendanceRepository attendanceRepository;
+    private final EmployeeRepository employeeRepository;
+    private final SyncPushBatchRepository batchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyncConflictDetector conflictDetector;
+
+    @Override
+    public String getEntityType() {
+        return "ATTENDANCE";
+    }
+
+    @Override
+    public void apply(List<PushOperation> operations) {
+        List<PushOperation> creates = new ArrayList<>();
+        List<PushOperation> updates = new ArrayList<>();
+        for (PushOperation operation : operations) {
+            if ("CREATE".equals(operation.getOperationType())) {
+                creates.add(operation);
+            } else if ("UPDATE".equals(operation.getOperationType())) {
+                updates.add(operation);
+            } else {
+                operation.fail("Unsupported attendance operation: " + operation.getOperationType());
+            }
+        }
+
+        Set<Long> hotelIds = new HashSet<>();
+        applyCreates(creates, hotelIds);
+        applyUpdates(updates, hotelIds);
+
+        // Staff present / absent counters on the dashboard summary
+        hotelIds.forEach(hotelId -> eventPublisher.publishEvent(
+                new DashboardChangedEvent(hotelId, DashboardChangedEvent.Widget.SUMMARY)));
+    }
+
+    private void applyCreates(List<PushOperation> operations, Set<Long> hotelIds) {
+        Map<PushOperation, Attendance> parsed = new LinkedHashMap<>();
+        for (PushOperation operation : operations) {
+            try {
+                Attendance attendance = new Attendance();
+                attendance.setEmployee(new Employee());
+                attendance.getEmployee().setId(operation.requireLong("employeeId"));
+                attendance.setDate(operation.has("date")
+                        ? operation.getDate("date") : operation.getOccurredAt().toLocalDate());
+                attendance.setCheckInTime(operation.getTime("checkInTime"));
+                attendance.setCheckOutTime(operation.getTime("checkOutTime"));
+                attendance.setStatus(status(operation, "PRESENT"));
+                attendance.setRemarks(operation.getString("remarks"));
+                attendance.setMarkedBy("SELF");
+                attendance.setMarkedAt(operation.getOccurredAt());
+                attendance.setIsApproved(false);
+                setWorkingHours(attendance);
+                parsed.put(operation, attendance);
+            } catch (RuntimeException e) {
+                operation.fail(e.getMessage());
+            }
+        }
+        if (parsed.isEmpty()) {
+            return;
+        }
+
+        Set<Long> employeeIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        parsed.values().forEach(a -> {
+            employeeIds.add(a.getEmployee().getId());
+            dates.add(a.getDate());
+        });
+        Map<Long, Employee> employees = new HashMap<>();
+        employeeRepository.findAllById(employeeIds).forEach(e -> employees.put(e.getId(), e));
+        Set<String> marked = new HashSet<>();
+        for (Object[] row : attendanceRepository.findMarkedDays(employeeIds, dates)) {
+            marked.add(row[0] + "|" + row[1]);
+        }
+
+        // Earlier operations win when the same day is pushed twice
+        List<Attendance> accepted = new ArrayList<>();
+        List<PushOperation> acceptedOperations = new ArrayList<>();
+        parsed.forEach((operation, attendance) -> {
+            Employee employee = employees.get(attendance.getEmployee().getId());
+            if (employee == null || !operation.canAccess(hotelOf(employee))) {
+                operation.fail("Employee not found with id: " + attendance.getEmployee().getId());
+                return;
+            }
+            if (!marked.add(employee.getId() + "|" + attendance.getDate())) {
+                operation.fail("Attendance already marked for " + attendance.getDate());
+                return;
+            }
+            attendance.setEmployee(employee);
+            accepted.add(attendance);
+            acceptedOperations.add(operation);
+            if (employee.getHotel() != null) {
+                hotelIds.add(employee.getHotel().getId());
+            }
+        });
+
+        batchRepository.insertAttendances(accepted);
+        for (int i = 0; i < accepted.size(); i++) {
+            acceptedOperations.get(i).applied(accepted.get(i));
+        }
+    }
+
+    private void applyUpdates(List<PushOperation> operations, Set<Long> hotelIds) {
+        Map<PushOperation, Long> ids = new LinkedHashMap<>();
+        for (PushOperation operation : operations) {
+            try {
+                ids.put(operation, operation.requireLong("id"));
+            } catch (RuntimeException e) {
+                operation.fail(e.getMessage());
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Attendance> attendances = new HashMap<>();
+        attendanceRepository.findAllById(new HashSet<>(ids.values())).forEach(a -> attendances.put(a.getId(), a));
+
+        // Applied in queue order, so the last update to a record wins
+        ids.forEach((operation, id) -> {
+            Attendance attendance = attendances.get(id);
+            if (attendance == null || !operation.canAccess(hotelOf(attendance.getEmployee()))) {
+                operation.fail("Attendance not found with id: " + id);
+                return;
+            }
+            if (!conflictDetector.check(operation, attendance, serverValues(attendance))) {
+                return;
+            }
+            // Everything is parsed before the managed entity is touched, so a bad field changes nothing
+            LocalTime checkInTime;
+            LocalTime checkOutTime;
+            String status;
+            try {
+                checkInTime = operation.has("checkInTime") ? operation.getTime("checkInTime") : attendance.getCheckInTime();
+                checkOutTime = operation.has("checkOutTime") ? operation.getTime("checkOutTime") : attendance.getCheckOutTime();
+                status = operation.has("status") ? status(operation, null) : attendance.getStatus();
+            } catch (RuntimeException e) {
+                operation.fail(e.getMessage());
+                return;
+            }
+            attendance.setCheckInTime(checkInTime);
+            attendance.setCheckOutTime(checkOutTime);
+            attendance.setStatus(status);
+            if (operation.has("remarks")) {
+                attendance.setRemarks(operation.getString("remarks"));
+            }
+            setWorkingHours(attendance);
+            operation.applied(attendance);
+            if (attendance.getEmployee() != null && attendance.getEmployee().getHotel() != null) {
+                hotelIds.add(attendance.getEmployee().getHotel().getId());
+            }
+        });
+    }
+
+    private static Long hotelOf(Employee employee) {
+        return employee != null && employee.getHotel() != null ? employee.getHotel().getId() : null;
+    }
+
+    private static Map<String, Object> serverValues(Attendance attendance) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("checkInTime", attendance.getCheckInTime());
+        values.put("checkOutTime", attendance.getCheckOutTime());
+        values.put("status", attendance.getStatus());
+        values.put("remarks", attendance.getRemarks());
+        return values;
+    }
+
+    private static String status(PushOperation operation, String defaultStatus) {
+        String status = operation.has("status") ? operation.getString("status") : defaultStatus;
+        if (!STATUSES.contains(status)) {
+            throw new RuntimeException("Invalid status: " + status);
+        }
+        return status;
+    }
+
+    private static void setWorkingHours(Attendance attendance) {
+        if (attendance.getCheckInTime() != null && attendance.getCheckOutTime() != null) {
+            attendance.setWorkingHours((double) ChronoUnit.HOURS.between(
+                    attendance.getCheckInTime(), attendance.getCheckOutTime()));
+        }
+    }
+}
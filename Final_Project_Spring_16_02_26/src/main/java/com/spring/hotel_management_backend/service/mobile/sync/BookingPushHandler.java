@@ -0,0 +1,103 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.spring.hotel_management_backend.model.dto.request.admin.UpdateBookingStatusRequest;
+import com.spring.hotel_management_backend.model.entity.Booking;
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import com.spring.hotel_management_backend.repository.BookingRepository;
+import com.spring.hotel_management_backend.service.admin.BookingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Front-desk status changes: UPDATE with status CHECKED_IN, CHECKED_OUT or CANCELLED. These go
+ * through BookingService one by one because they also move the room status, the availability
+ * index and the dashboard; the bookings are loaded up front in one query and transitions are
+ * checked here, so a rejected operation does not roll back the rest of the batch.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingPushHandler implements SyncPushHandler {
+
+    private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
+    private final SyncConflictDetector conflictDetector;
+
+    @Override
+    public String getEntityType() {
+        return "BOOKING";
+    }
+
+    @Override
+    public void apply(List<PushOperation> operations) {
+        Map<PushOperation, Long> ids = new LinkedHashMap<>();
+        for (PushOperation operation : operations) {
+            if (!"UPDATE".equals(operation.getOperationType())) {
+                operation.fail("Unsupported booking operation: " + operation.getOperationType());
+                continue;
+            }
+            try {
+                ids.put(operation, operation.requireLong("id"));
+            } catch (RuntimeException e) {
+                operation.fail(e.getMessage());
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        // Same persistence context as BookingService, so its findById calls are served from here
+        Map<Long, Booking> bookings = new HashMap<>();
+        bookingRepository.findAllById(new HashSet<>(ids.values())).forEach(b -> bookings.put(b.getId(), b));
+
+        ids.forEach((operation, id) -> {
+            Booking booking = bookings.get(id);
+            if (booking == null || !operation.canAccess(hotelOf(booking))) {
+                operation.fail("Booking not found with id: " + id);
+                return;
+            }
+            Map<String, Object> serverValues = new HashMap<>();
+            serverValues.put("status", booking.getStatus() != null ? booking.getStatus().name() : null);
+            if (!conflictDetector.check(operation, booking, serverValues)) {
+                return;
+            }
+            String status = operation.getString("status");
+            String rejection = checkTransition(booking.getStatus(), status);
+            if (rejection != null) {
+                operation.fail(rejection);
+                return;
+            }
+            switch (status) {
+                case "CHECKED_IN" -> bookingService.checkIn(id);
+                case "CHECKED_OUT" -> {
+                    UpdateBookingStatusRequest request = new UpdateBookingStatusRequest();
+                    request.setStatus(status);
+                    bookingService.checkOut(id, request);
+                }
+                default -> bookingService.cancelBooking(id);
+            }
+            operation.applied(booking);
+        });
+    }
+
+    private static Long hotelOf(Booking booking) {
+        return booking.getRoom() != null && booking.getRoom().getHotel() != null
+                ? booking.getRoom().getHotel().getId() : null;
+    }
+
+    // Mirrors the checks in BookingServiceImpl
+    private static String checkTransition(BookingStatus current, String target) {
+        if ("CHECKED_IN".equals(target)) {
+            return current == BookingStatus.CONFIRMED ? null : "Only confirmed bookings can be checked in";
+        }
+        if ("CHECKED_OUT".equals(target)) {
+            return current == BookingStatus.CHECKED_IN ? null : "Only checked-in bookings can be checked out";
+        }
+        if ("CANCELLED".equals(target)) {
+            return current == BookingStatus.CHECKED_IN || current == BookingStatus.CHECKED_OUT
+                    ? "Cannot cancel checked-in or checked-out bookings" : null;
+        }
+        return "Invalid status: " + target;
+    }
+}
@@ -0,0 +1,211 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.spring.hotel_management_backend.model.dto.mobile.request.PushUpdateRequest;
+import com.spring.hotel_management_backend.model.entity.BaseEntity;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One pushed operation and its outcome. Handlers read the payload through the typed getters,
+ * which throw a RuntimeException naming the field when a value is missing or malformed.
+ */
+@Getter
+public class PushOperation {
+
+    public enum Status {
+        APPLIED,
+        DUPLICATE,  // applied by an earlier request (or earlier in this one); not applied again
+        CONFLICT,   // not applied, the row changed on the server; see conflictId
+        FAILED
+    }
+
+    private final int index;
+    @Getter(AccessLevel.NONE)
+    private final AuthenticatedUser caller;
+    private final String deviceId;
+    private final PushUpdateRequest.SyncOperation operation;
+
+    private Status status;
+    private Long entityId;
+    private Long conflictId;
+    private String error;
+
+    // The row that was written, to report its version once the batch is flushed
+    @Getter(AccessLevel.NONE)
+    private BaseEntity target;
+
+    // Pushed fields a FIELD_MERGE left at the server's value; the typed getters treat them as absent
+    @Getter(AccessLevel.NONE)
+    private Set<String> keptOnServer = Set.of();
+
+    public PushOperation(int index, AuthenticatedUser caller, String deviceId, PushUpdateRequest.SyncOperation operation) {
+        this.index = index;
+        this.caller = caller;
+        this.deviceId = deviceId;
+        this.operation = operation;
+    }
+
+    public Long getUserId() {
+        return caller.getId();
+    }
+
+    /**
+     * Handlers check every row they load against the pushing user's hotel and answer rows outside
+     * it as not found, so a device cannot probe ids of other hotels.
+     */
+    public boolean canAccess(Long hotelId) {
+        return caller.canAccessHotel(hotelId);
+    }
+
+    public boolean isPending() {
+        return status == null;
+    }
+
+    public void applied(BaseEntity target) {
+        this.status = Status.APPLIED;
+        this.entityId = target.getId();
+        this.target = target;
+    }
+
+    public void duplicate(Long entityId) {
+        this.status = Status.DUPLICATE;
+        this.entityId = entityId;
+    }
+
+    public void conflict(Long entityId, Long conflictId) {
+        this.status = Status.CONFLICT;
+        this.entityId = entityId;
+        this.conflictId = conflictId;
+    }
+
+    public void fail(String error) {
+        this.status = Status.FAILED;
+        this.entityId = null;
+        this.error = error;
+    }
+
+    // Set by a LAST_WRITER_WINS check that let the operation through; the conflict is kept for the record
+    void overrode(Long conflictId) {
+        this.conflictId = conflictId;
+    }
+
+    void keepServerValues(Collection<String> fields) {
+        this.keptOnServer = Set.copyOf(fields);
+    }
+
+    // Forgets the outcome of a rolled-back attempt
+    void reset() {
+        status = null;
+        entityId = null;
+        conflictId = null;
+        error = null;
+        target = null;
+        keptOnServer = Set.of();
+    }
+
+    /**
+     * Version of the written row, read after the batch has been flushed; null unless applied here.
+     */
+    public Long getVersion() {
+        return status == Status.APPLIED && target != null ? target.getVersion() : null;
+    }
+
+    public String getOperationId() {
+        return operation != null ? operation.getOperationId() : null;
+    }
+
+    public String getEntityType() {
+        return operation != null ? operation.getEntityType() : null;
+    }
+
+    public String getOperationType() {
+        return operation != null ? operation.getOperationType() : null;
+    }
+
+    public Long getBaseVersion() {
+        return operation != null ? operation.getBaseVersion() : null;
+    }
+
+    public Map<String, Object> getData() {
+        return operation != null && operation.getData() != null ? operation.getData() : Map.of();
+    }
+
+    // Null when the device did not send the values it started from
+    public Map<String, Object> getBase() {
+        return operation != null ? operation.getBase() : null;
+    }
+
+    /**
+     * When the action happened on the device, falling back to now for clients that omit it.
+     */
+    public LocalDateTime getOccurredAt() {
+        return operation != null && operation.getTimestamp() != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(operation.getTimestamp()), ZoneId.systemDefault())
+                : LocalDateTime.now();
+    }
+
+    public boolean has(String field) {
+        return value(field) != null;
+    }
+
+    public Long getLong(String field) {
+        Object value = value(field);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            throw invalid(field, value);
+        }
+    }
+
+    public Long requireLong(String field) {
+        Long value = getLong(field);
+        if (value == null) {
+            throw new RuntimeException(field + " is required");
+        }
+        return value;
+    }
+
+    public String getString(String field) {
+        Object value = value(field);
+        return value != null ? value.toString() : null;
+    }
+
+    public LocalDate getDate(String field) {
+        Object value = value(field);
+        try {
+            return value != null ? LocalDate.parse(value.toString()) : null;
+        } catch (RuntimeException e) {
+            throw invalid(field, value);
+        }
+    }
+
+    public LocalTime getTime(String field) {
+        Object value = value(field);
+        try {
+            return value != null ? LocalTime.parse(value.toString()) : null;
+        } catch (RuntimeException e) {
+            throw invalid(field, value);
+        }
+    }
+
+    private Object value(String field) {
+        return keptOnServer.contains(field) ? null : getData().get(field);
+    }
+
+    private static RuntimeException invalid(String field, Object value) {
+        return new RuntimeException("Invalid " + field + ": " + value);
+    }
+}
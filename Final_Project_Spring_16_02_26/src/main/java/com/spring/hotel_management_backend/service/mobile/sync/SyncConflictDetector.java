@@ -0,0 +1,192 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.hotel_management_backend.model.entity.BaseEntity;
+import com.spring.hotel_management_backend.model.entity.SyncConflict;
+import com.spring.hotel_management_backend.model.enums.ConflictPolicy;
+import com.spring.hotel_management_backend.repository.SyncConflictRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Compares a pushed UPDATE's baseVersion with the row it targets. A matching (or missing)
+ * baseVersion passes; otherwise the entity type's policy decides, and every conflict is recorded
+ * in the handler's transaction so it disappears with a rolled-back batch.
+ */
+@Component
+@RequiredArgsConstructor
+public class SyncConflictDetector {
+
+    private final SyncConflictRepository conflictRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${sync.conflicts.policy.booking:SERVER_WINS}")
+    private ConflictPolicy bookingPolicy;
+
+    @Value("${sync.conflicts.policy.attendance:LAST_WRITER_WINS}")
+    private ConflictPolicy attendancePolicy;
+
+    @Value("${sync.conflicts.policy.task:FIELD_MERGE}")
+    private ConflictPolicy taskPolicy;
+
+    /**
+     * @param serverValues current values of the fields a device can push, keyed like the push data
+     * @return true if the operation may be applied; if false it has been marked CONFLICT
+     */
+    public boolean check(PushOperation operation, BaseEntity entity, Map<String, Object> serverValues) {
+        Long baseVersion = operation.getBaseVersion();
+        if (baseVersion == null || baseVersion == entity.getVersion()) {
+            return true;
+        }
+
+        Map<String, Object> pushed = new LinkedHashMap<>();
+        operation.getData().forEach((field, value) -> {
+            if (serverValues.containsKey(field)) {
+                pushed.put(field, value);
+            }
+        });
+        if (differing(pushed, serverValues).isEmpty()) {
+            // The server already holds what the device pushed
+            return true;
+        }
+        ConflictPolicy policy = policyFor(operation.getEntityType());
+
+        switch (policy) {
+            case LAST_WRITER_WINS -> {
+                boolean deviceLater = entity.getUpdatedAt() == null
+                        || operation.getOccurredAt().isAfter(entity.getUpdatedAt());
+                SyncConflict conflict = record(operation, entity, policy, pushed, serverValues,
+                        differing(pushed, serverValues), deviceLater ? "CLIENT" : "SERVER");
+                if (deviceLater) {
+                    operation.overrode(conflict.getId());
+                    return true;
+                }
+                operation.conflict(entity.getId(), conflict.getId());
+                return false;
+            }
+            case FIELD_MERGE -> {
+                Map<String, Object> base = operation.getBase();
+                if (base != null) {
+                    // A field clashes only when both sides changed it since the base, to different values;
+                    // one the server alone changed keeps the server's value
+                    List<String> clashing = new ArrayList<>();
+                    List<String> serverOnly = new ArrayList<>();
+                    pushed.forEach((field, value) -> {
+                        Object server = serverValues.get(field);
+                        if (sameValue(server, base.get(field)) || sameValue(server, value)) {
+                            return;
+                        }
+                        if (Objects.equals(Objects.toString(base.get(field), null), Objects.toString(value, null))) {
+                            serverOnly.add(field);
+                        } else {
+                            clashing.add(field);
+                        }
+                    });
+                    if (clashing.isEmpty()) {
+                        operation.keepServerValues(serverOnly);
+                        return true;
+                    }
+                    openConflict(operation, entity, policy, pushed, serverValues, clashing);
+                    return false;
+                }
+                // Without the base values there is nothing to merge against
+                openConflict(operation, entity, policy, pushed, serverValues, differing(pushed, serverValues));
+                return false;
+            }
+            default -> {
+                openConflict(operation, entity, policy, pushed, serverValues, differing(pushed, serverValues));
+                return false;
+            }
+        }
+    }
+
+    public ConflictPolicy policyFor(String entityType) {
+        return switch (entityType) {
+            case "BOOKING" -> bookingPolicy;
+            case "ATTENDANCE" -> attendancePolicy;
+            case "TASK" -> taskPolicy;
+            default -> ConflictPolicy.SERVER_WINS;
+        };
+    }
+
+    private void openConflict(PushOperation operation, BaseEntity entity, ConflictPolicy policy,
+                              Map<String, Object> pushed, Map<String, Object> serverValues, List<String> fields) {
+        SyncConflict conflict = record(operation, entity, policy, pushed, serverValues, fields, null);
+        operation.conflict(entity.getId(), conflict.getId());
+    }
+
+    private SyncConflict record(PushOperation operation, BaseEntity entity, ConflictPolicy policy,
+                                Map<String, Object> pushed, Map<String, Object> serverValues,
+                                List<String> fields, String resolution) {
+        Map<String, Object> server = new LinkedHashMap<>();
+        pushed.keySet().forEach(field -> server.put(field, serverValues.get(field)));
+
+        SyncConflict conflict = new SyncConflict();
+        conflict.setUserId(operation.getUserId());
+        conflict.setDeviceId(operation.getDeviceId());
+        conflict.setOperationId(operation.getOperationId());
+        conflict.setEntityType(operation.getEntityType());
+        conflict.setEntityId(entity.getId());
+        conflict.setBaseVersion(operation.getBaseVersion());
+        conflict.setServerVersion(entity.getVersion());
+        conflict.setPolicy(policy);
+        conflict.setStatus(resolution == null ? "OPEN" : "RESOLVED");
+        conflict.setResolution(resolution);
+        conflict.setConflictingFields(String.join(",", fields));
+        conflict.setClientData(toJson(pushed));
+        conflict.setServerData(toJson(server));
+        conflict.setCreatedAt(LocalDateTime.now());
+        conflict.setResolvedAt(resolution == null ? null : conflict.getCreatedAt());
+        return conflictRepository.save(conflict);
+    }
+
+    private static List<String> differing(Map<String, Object> pushed, Map<String, Object> serverValues) {
+        List<String> fields = new ArrayList<>();
+        pushed.forEach((field, value) -> {
+            if (!sameValue(serverValues.get(field), value)) {
+                fields.add(field);
+            }
+        });
+        return fields;
+    }
+
+    /**
+     * Compares a server value with one from a JSON payload, where times are strings and
+     * numbers may come back as a different type.
+     */
+    static boolean sameValue(Object server, Object pushed) {
+        if (server == null || pushed == null) {
+            return server == pushed;
+        }
+        try {
+            if (server instanceof LocalTime time) {
+                return time.equals(LocalTime.parse(pushed.toString()));
+            }
+            if (server instanceof LocalDate date) {
+                return date.equals(LocalDate.parse(pushed.toString()));
+            }
+            if (server instanceof Number number) {
+                return new BigDecimal(number.toString()).compareTo(new BigDecimal(pushed.toString())) == 0;
+            }
+        } catch (RuntimeException e) {
+            return false;
+        }
+        return server.toString().equals(pushed.toString());
+    }
+
+    private String toJson(Map<String, Object> values) {
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not record sync conflict: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import java.util.List;
+
+/**
+ * Applies pushed operations of one entity type. SyncPushPipeline calls it inside a transaction
+ * with a batch of pending operations in device queue order.
+ */
+public interface SyncPushHandler {
+
+    /**
+     * Value of SyncOperation.entityType this handler accepts, e.g. "ATTENDANCE".
+     */
+    String getEntityType();
+
+    /**
+     * Marks every operation applied or failed. Operations that are invalid on their own should be
+     * failed individually; throwing rolls the whole batch back, after which each operation is
+     * retried alone.
+     */
+    void apply(List<PushOperation> operations);
+}
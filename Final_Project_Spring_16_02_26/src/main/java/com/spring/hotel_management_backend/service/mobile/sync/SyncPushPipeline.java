@@ -0,0 +1,183 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.spring.hotel_management_backend.model.dto.mobile.request.PushUpdateRequest;
+import com.spring.hotel_management_backend.model.entity.SyncOperationReceipt;
+import com.spring.hotel_management_backend.repository.SyncOperationReceiptRepository;
+import com.spring.hotel_management_backend.repository.SyncPushBatchRepository;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a device's offline queue. Operations are grouped by entity type (types in order of
+ * first appearance, operations within a type in queue order) and handed to the type's handler in
+ * batches, one transaction per batch. Each applied operation leaves a receipt in the same
+ * transaction, so a retried push answers DUPLICATE instead of applying twice. If a batch fails as
+ * a whole, its operations are retried one at a time so only the offending one is reported.
+ */
+@Component
+@Slf4j
+public class SyncPushPipeline {
+
+    // Keeps the IN list of the receipt lookup well under driver parameter limits
+    private static final int RECEIPT_LOOKUP_CHUNK = 1000;
+
+    private final Map<String, SyncPushHandler> handlers;
+    private final SyncOperationReceiptRepository receiptRepository;
+    private final SyncPushBatchRepository batchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${sync.push.batch-size:500}")
+    private int batchSize;
+
+    @Value("${sync.push.receipt-retention-days:30}")
+    private int receiptRetentionDays;
+
+    public SyncPushPipeline(List<SyncPushHandler> handlers,
+                            SyncOperationReceiptRepository receiptRepository,
+                            SyncPushBatchRepository batchRepository,
+                            TransactionTemplate transactionTemplate,
+                            EntityManager entityManager) {
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(SyncPushHandler::getEntityType, Function.identity()));
+        this.receiptRepository = receiptRepository;
+        this.batchRepository = batchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @return one result per operation, in request order
+     */
+    public List<PushOperation> process(AuthenticatedUser caller, String deviceId,
+                                       List<PushUpdateRequest.SyncOperation> operations) {
+        Long userId = caller.getId();
+        List<PushOperation> all = new ArrayList<>();
+        Map<String, PushOperation> firstById = new HashMap<>();
+        Map<PushOperation, PushOperation> repeats = new LinkedHashMap<>();
+
+        for (PushUpdateRequest.SyncOperation operation : operations) {
+            PushOperation pushOperation = new PushOperation(all.size(), caller, deviceId, operation);
+            all.add(pushOperation);
+            if (operation == null || operation.getOperationId() == null || operation.getOperationId().isBlank()) {
+                pushOperation.fail("operationId is required");
+            } else if (!handlers.containsKey(operation.getEntityType())) {
+                pushOperation.fail("Unsupported entity type: " + operation.getEntityType());
+            } else if (firstById.containsKey(operation.getOperationId())) {
+                repeats.put(pushOperation, firstById.get(operation.getOperationId()));
+            } else {
+                firstById.put(operation.getOperationId(), pushOperation);
+            }
+        }
+
+        skipAlreadyApplied(userId, firstById);
+
+        Map<String, List<PushOperation>> byType = new LinkedHashMap<>();
+        for (PushOperation operation : firstById.values().stream()
+                .sorted(Comparator.comparingInt(PushOperation::getIndex)).toList()) {
+            if (operation.isPending()) {
+                byType.computeIfAbsent(operation.getEntityType(), type -> new ArrayList<>()).add(operation);
+            }
+        }
+        byType.forEach((type, pending) -> {
+            SyncPushHandler handler = handlers.get(type);
+            for (int from = 0; from < pending.size(); from += batchSize) {
+                applyBatch(userId, handler, pending.subList(from, Math.min(from + batchSize, pending.size())));
+            }
+        });
+
+        // The same operation queued twice is answered like a retry
+        repeats.forEach((repeat, first) -> {
+            if (first.getStatus() == PushOperation.Status.FAILED) {
+                repeat.fail(first.getError());
+            } else if (first.getStatus() == PushOperation.Status.CONFLICT) {
+                repeat.conflict(first.getEntityId(), first.getConflictId());
+            } else {
+                repeat.duplicate(first.getEntityId());
+            }
+        });
+        return all;
+    }
+
+    private void skipAlreadyApplied(Long userId, Map<String, PushOperation> byId) {
+        List<String> operationIds = new ArrayList<>(byId.keySet());
+        for (int from = 0; from < operationIds.size(); from += RECEIPT_LOOKUP_CHUNK) {
+            List<String> chunk = operationIds.subList(from, Math.min(from + RECEIPT_LOOKUP_CHUNK, operationIds.size()));
+            for (SyncOperationReceipt receipt : receiptRepository.findByUserIdAndOperationIdIn(userId, chunk)) {
+                answerFromReceipt(byId.get(receipt.getOperationId()), receipt);
+            }
+        }
+    }
+
+    private void applyBatch(Long userId, SyncPushHandler handler, List<PushOperation> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                handler.apply(batch);
+                // Conflicts get a receipt too, so a retry does not record the same conflict again
+                batchRepository.insertReceipts(batch.stream()
+                        .filter(operation -> operation.getStatus() == PushOperation.Status.APPLIED
+                                || operation.getStatus() == PushOperation.Status.CONFLICT)
+                        .map(operation -> receipt(userId, operation))
+                        .collect(Collectors.toList()));
+                // The request-scoped persistence context would otherwise grow with every batch
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            batch.forEach(PushOperation::reset);
+            if (batch.size() > 1) {
+                log.warn("Push batch of {} {} operations failed, retrying one by one: {}",
+                        batch.size(), handler.getEntityType(), e.getMessage());
+                batch.forEach(operation -> applyBatch(userId, handler, List.of(operation)));
+                return;
+            }
+            PushOperation operation = batch.get(0);
+            if (e instanceof DuplicateKeyException) {
+                // A concurrent retry of the same push recorded it first
+                receiptRepository.findByUserIdAndOperationIdIn(userId, List.of(operation.getOperationId()))
+                        .forEach(receipt -> answerFromReceipt(operation, receipt));
+            }
+            if (operation.isPending()) {
+                operation.fail(e.getMessage());
+            }
+        }
+    }
+
+    private static void answerFromReceipt(PushOperation operation, SyncOperationReceipt receipt) {
+        if (receipt.getConflictId() != null) {
+            operation.conflict(receipt.getEntityId(), receipt.getConflictId());
+        } else {
+            operation.duplicate(receipt.getEntityId());
+        }
+    }
+
+    private static SyncOperationReceipt receipt(Long userId, PushOperation operation) {
+        SyncOperationReceipt receipt = new SyncOperationReceipt();
+        receipt.setUserId(userId);
+        receipt.setOperationId(operation.getOperationId());
+        receipt.setEntityType(operation.getEntityType());
+        receipt.setEntityId(operation.getEntityId());
+        receipt.setConflictId(operation.getStatus() == PushOperation.Status.CONFLICT ? operation.getConflictId() : null);
+        receipt.setProcessedAt(LocalDateTime.now());
+        return receipt;
+    }
+
+    // Devices retry within minutes or days; a receipt older than this is never asked for again
+    @Scheduled(cron = "${sync.push.receipt-purge-cron:0 30 4 * * *}")
+    public void purgeReceipts() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(receiptRetentionDays);
+        Integer purged = transactionTemplate.execute(status -> receiptRepository.deleteOlderThan(cutoff));
+        log.info("Purged {} sync operation receipts older than {} days", purged, receiptRetentionDays);
+    }
+}
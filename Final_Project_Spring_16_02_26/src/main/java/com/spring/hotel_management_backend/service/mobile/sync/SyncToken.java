@@ -0,0 +1,72 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Opaque pull-sync cursor: the hotel scope it was issued for plus one updatedAt watermark per
+ * entity. Clients store it and send it back unchanged; its layout may change without notice,
+ * and anything that does not parse simply means "no token", i.e. a full sync.
+ */
+public final class SyncToken {
+
+    private static final String VERSION = "v1";
+    private static final String ALL_HOTELS = "*";
+
+    private final Long hotelId;
+    private final Map<SyncEntity, LocalDateTime> watermarks = new EnumMap<>(SyncEntity.class);
+
+    public SyncToken(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public boolean isScopedTo(Long hotelId) {
+        return Objects.equals(this.hotelId, hotelId);
+    }
+
+    public LocalDateTime getWatermark(SyncEntity entity) {
+        return watermarks.get(entity);
+    }
+
+    public SyncToken withWatermark(SyncEntity entity, LocalDateTime watermark) {
+        watermarks.put(entity, watermark);
+        return this;
+    }
+
+    public String encode() {
+        StringBuilder raw = new StringBuilder(VERSION).append(';').append(hotelId != null ? hotelId : ALL_HOTELS);
+        // Only used as an encoding of LocalDateTime, so the offset does not matter as long as it is fixed
+        watermarks.forEach((entity, watermark) -> raw.append(';').append(entity.name()).append('=')
+                .append(watermark.toInstant(ZoneOffset.UTC).toEpochMilli()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken parse(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(";");
+            if (parts.length < 2 || !VERSION.equals(parts[0])) {
+                return null;
+            }
+            SyncToken parsed = new SyncToken(ALL_HOTELS.equals(parts[1]) ? null : Long.valueOf(parts[1]));
+            for (int i = 2; i < parts.length; i++) {
+                String[] entry = parts[i].split("=", 2);
+                long millis = Long.parseLong(entry[1]);
+                parsed.withWatermark(SyncEntity.valueOf(entry[0]),
+                        LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC));
+            }
+            return parsed;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+}
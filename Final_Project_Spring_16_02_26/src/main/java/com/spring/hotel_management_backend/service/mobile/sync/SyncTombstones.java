@@ -0,0 +1,52 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.spring.hotel_management_backend.model.entity.SyncTombstone;
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
+import com.spring.hotel_management_backend.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records hard deletes of synced entities. Callers record inside the deleting transaction, so a
+ * rolled-back delete leaves no tombstone. Tombstones older than the retention window are purged;
+ * a client whose watermark is older than that gets a full sync for the entity instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyncTombstones {
+
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${sync.tombstones.retention-days:90}")
+    private int retentionDays;
+
+    public void record(SyncEntity entityType, Long entityId, Long hotelId) {
+        SyncTombstone tombstone = new SyncTombstone();
+        tombstone.setEntityType(entityType);
+        tombstone.setEntityId(entityId);
+        tombstone.setHotelId(hotelId);
+        tombstone.setDeletedAt(LocalDateTime.now());
+        tombstoneRepository.save(tombstone);
+    }
+
+    /**
+     * Watermarks before this instant may have lost tombstones to the purge.
+     */
+    public LocalDateTime getHorizon() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    @Scheduled(cron = "${sync.tombstones.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        Integer purged = transactionTemplate.execute(status -> tombstoneRepository.deleteOlderThan(getHorizon()));
+        log.info("Purged {} sync tombstones older than {} days", purged, retentionDays);
+    }
+}
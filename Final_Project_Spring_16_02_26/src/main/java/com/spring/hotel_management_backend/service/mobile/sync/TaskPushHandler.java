@@ -0,0 +1,90 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.spring.hotel_management_backend.model.entity.HousekeepingTask;
+import com.spring.hotel_management_backend.repository.HousekeepingTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Housekeeping progress from the staff app: UPDATE moves a task to IN_PROGRESS or COMPLETED.
+ * Timestamps come from the device, so a task finished offline keeps its real completion time.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskPushHandler implements SyncPushHandler {
+
+    // Tasks a supervisor has closed can no longer be changed from a device
+    private static final Set<String> CLOSED = Set.of("VERIFIED", "CANCELLED");
+
+    private final HousekeepingTaskRepository taskRepository;
+    private final SyncConflictDetector conflictDetector;
+
+    @Override
+    public String getEntityType() {
+        return "TASK";
+    }
+
+    @Override
+    public void apply(List<PushOperation> operations) {
+        Map<PushOperation, Long> ids = new LinkedHashMap<>();
+        for (PushOperation operation : operations) {
+            if (!"UPDATE".equals(operation.getOperationType())) {
+                operation.fail("Unsupported task operation: " + operation.getOperationType());
+                continue;
+            }
+            try {
+                ids.put(operation, operation.requireLong("id"));
+            } catch (RuntimeException e) {
+                operation.fail(e.getMessage());
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Map<Long, HousekeepingTask> tasks = new HashMap<>();
+        taskRepository.findAllById(new HashSet<>(ids.values())).forEach(t -> tasks.put(t.getId(), t));
+
+        // Flushed at commit; hibernate.jdbc.batch_size groups these updates
+        ids.forEach((operation, id) -> {
+            HousekeepingTask task = tasks.get(id);
+            if (task == null || !operation.canAccess(task.getHotelId())) {
+                operation.fail("Task not found with id: " + id);
+                return;
+            }
+            if (CLOSED.contains(task.getStatus())) {
+                operation.fail("Task is already " + task.getStatus());
+                return;
+            }
+            if (!conflictDetector.check(operation, task, serverValues(task))) {
+                return;
+            }
+            // Read after the check, which may have merged the status back to the server's
+            String status = operation.getString("status");
+            if (status == null && operation.has("completionNotes")) {
+                task.setCompletionNotes(operation.getString("completionNotes"));
+                operation.applied(task);
+            } else if ("IN_PROGRESS".equals(status)) {
+                task.setStatus(status);
+                task.setStartedAt(operation.getOccurredAt());
+                operation.applied(task);
+            } else if ("COMPLETED".equals(status)) {
+                task.setStatus(status);
+                task.setCompletedAt(operation.getOccurredAt());
+                task.setCompletionNotes(operation.getString("completionNotes"));
+                operation.applied(task);
+            } else {
+                operation.fail("Invalid status: " + status);
+            }
+        });
+    }
+
+    private static Map<String, Object> serverValues(HousekeepingTask task) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("status", task.getStatus());
+        values.put("completionNotes", task.getCompletionNotes());
+        return values;
+    }
+}
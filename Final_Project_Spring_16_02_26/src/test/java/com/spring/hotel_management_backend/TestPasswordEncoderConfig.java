@@ -0,0 +1,19 @@
+package com.spring.hotel_management_backend;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * initData on the application class needs an encoder to seed the admin user, and test slices do
+ * not load SecurityConfig. BCrypt as in production, at the lowest strength to keep startup fast.
+ */
+@TestConfiguration
+public class TestPasswordEncoderConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder(4);
+    }
+}
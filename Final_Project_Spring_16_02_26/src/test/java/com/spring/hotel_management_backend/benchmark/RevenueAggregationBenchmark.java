@@ -0,0 +1,80 @@
+package com.spring.hotel_management_backend.benchmark;
+
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import com.spring.hotel_management_backend.service.admin.stats.RevenueAggregation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revenue report aggregation cost as bookings and days grow. Time should scale with
+ * bookings + days rather than bookings x days.
+ *
+ * Run with: mvn test-compile, then
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)
+ *   com.spring.hotel_management_backend.benchmark.RevenueAggregationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RevenueAggregationBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final BookingStatus[] STATUSES = {
+            BookingStatus.CHECKED_OUT, BookingStatus.CHECKED_IN, BookingStatus.CONFIRMED, BookingStatus.CANCELLED
+    };
+    private static final String[] METHODS = {"CASH", "CARD", "ONLINE"};
+    private static final String[] ROOM_TYPES = {"Standard", "Deluxe", "Suite"};
+
+    @Param({"1000", "10000", "100000"})
+    private int bookings;
+
+    @Param({"31", "365"})
+    private int days;
+
+    private LocalDate end;
+    private LocalDate[] checkIns;
+    private LocalDate[] checkOuts;
+    private BookingStatus[] statuses;
+    private double[] amounts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        end = START.plusDays(days - 1);
+        checkIns = new LocalDate[bookings];
+        checkOuts = new LocalDate[bookings];
+        statuses = new BookingStatus[bookings];
+        amounts = new double[bookings];
+        for (int i = 0; i < bookings; i++) {
+            checkIns[i] = START.plusDays(random.nextInt(days));
+            checkOuts[i] = checkIns[i].plusDays(1 + random.nextInt(7));
+            statuses[i] = STATUSES[random.nextInt(STATUSES.length)];
+            amounts[i] = 50 + random.nextInt(500);
+        }
+    }
+
+    @Benchmark
+    public double aggregate() {
+        RevenueAggregation aggregation = new RevenueAggregation(START, end);
+        for (int i = 0; i < bookings; i++) {
+            aggregation.add(checkIns[i], checkOuts[i], statuses[i], amounts[i],
+                    METHODS[i % METHODS.length], ROOM_TYPES[i % ROOM_TYPES.length]);
+        }
+        return aggregation.finish().getTotalRevenue() + aggregation.getMonthlyRevenue()[0];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RevenueAggregationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,59 @@
+package com.spring.hotel_management_backend.benchmark;
+
+import com.spring.hotel_management_backend.service.admin.ids.BusinessIdGenerator;
+import com.spring.hotel_management_backend.service.admin.ids.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Business number throughput, uncontended and with 8 threads sharing one generator, against the
+ * currentTimeMillis + UUID scheme it replaced. The generator's ceiling is 4096 numbers per
+ * millisecond per node; past that the sequence borrows from the next millisecond.
+ *
+ * Run with: mvn test-compile, then
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)
+ *   com.spring.hotel_management_backend.benchmark.SnowflakeIdGeneratorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnowflakeIdGeneratorBenchmark {
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+
+    @Benchmark
+    public String snowflake() {
+        return generator.next(BusinessIdGenerator.BOOKING);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflakeContended() {
+        return generator.next(BusinessIdGenerator.BOOKING);
+    }
+
+    @Benchmark
+    public String timestampUuid() {
+        return "BK" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 4).toUpperCase();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String timestampUuidContended() {
+        return "BK" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 4).toUpperCase();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SnowflakeIdGeneratorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
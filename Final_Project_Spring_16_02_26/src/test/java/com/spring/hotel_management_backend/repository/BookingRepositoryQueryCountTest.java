@@ -0,0 +1,125 @@
+package com.spring.hotel_management_backend.repository;
+
+import com.spring.hotel_management_backend.TestPasswordEncoderConfig;
+import com.spring.hotel_management_backend.model.entity.*;
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Every booking list query must load the booking together with guest, room, hotel and
+ * room type in a single statement, however many bookings, guests and rooms are involved.
+ */
+@DataJpaTest
+@Import(TestPasswordEncoderConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BookingRepositoryQueryCountTest {
+
+    private static final LocalDate BASE = LocalDate.of(2026, 3, 1);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Long hotelId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        entityManager.persist(hotel);
+        hotelId = hotel.getId();
+
+        for (int r = 0; r < 5; r++) {
+            RoomType roomType = new RoomType();
+            roomType.setName("Type " + r);
+            roomType.setHotel(hotel);
+            entityManager.persist(roomType);
+
+            Room room = new Room();
+            room.setHotel(hotel);
+            room.setRoomType(roomType);
+            room.setRoomNumber("10" + r);
+            room.setBasePrice(BigDecimal.valueOf(100));
+            entityManager.persist(room);
+
+            for (int g = 0; g < 4; g++) {
+                Guest guest = new Guest();
+                guest.setFirstName("Guest " + r + "-" + g);
+                guest.setEmail("guest" + r + "-" + g + "@test.com");
+                entityManager.persist(guest);
+
+                Booking booking = new Booking();
+                booking.setBookingNumber("BK" + r + g);
+                booking.setGuest(guest);
+                booking.setRoom(room);
+                booking.setCheckInDate(BASE.plusDays(g * 3L));
+                booking.setCheckOutDate(BASE.plusDays(g * 3L + 2));
+                booking.setStatus(BookingStatus.CONFIRMED);
+                booking.setTotalAmount(200.0);
+                entityManager.persist(booking);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listQueriesRunAsSingleStatement() {
+        assertSingleStatement(() -> bookingRepository.findAll());
+        assertSingleStatement(() -> bookingRepository.findByHotelId(hotelId));
+        assertSingleStatement(() -> bookingRepository.findByStatus(BookingStatus.CONFIRMED));
+        assertSingleStatement(() -> bookingRepository.findByDateRange(BASE, BASE.plusDays(30)));
+        assertSingleStatement(() -> bookingRepository.findTodaysCheckIns(BASE));
+        assertSingleStatement(() -> bookingRepository.findPage(hotelId, BookingStatus.CONFIRMED, null, Limit.of(10)));
+        assertSingleStatement(() -> {
+            try (Stream<Booking> stream = bookingRepository.streamAll(hotelId, null)) {
+                return stream.toList();
+            }
+        });
+    }
+
+    private void assertSingleStatement(Supplier<List<Booking>> query) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<Booking> bookings = query.get();
+        bookings.forEach(this::touchResponseFields);
+
+        assertEquals(1, statistics.getPrepareStatementCount(),
+                "Expected one SQL statement for " + bookings.size() + " bookings");
+    }
+
+    // Same associations BookingServiceImpl.mapToResponse reads
+    private void touchResponseFields(Booking booking) {
+        booking.getGuest().getFirstName();
+        booking.getRoom().getRoomNumber();
+        booking.getRoom().getHotel().getName();
+        booking.getRoom().getRoomType().getName();
+    }
+}
@@ -0,0 +1,255 @@
+package com.spring.hotel_management_backend.repository;
+
+import com.spring.hotel_management_backend.TestPasswordEncoderConfig;
+import com.spring.hotel_management_backend.model.entity.*;
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the dashboard and report aggregate queries against hand-counted fixtures.
+ */
+@DataJpaTest
+@Import(TestPasswordEncoderConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DashboardAggregateQueryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 15);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long hotelId;
+
+    @BeforeEach
+    void setUp() {
+        Hotel hotel = hotel("Main");
+        Hotel other = hotel("Other");
+        hotelId = hotel.getId();
+
+        Room r1 = room(hotel, "101", "OCCUPIED");
+        Room r2 = room(hotel, "102", "AVAILABLE");
+        room(hotel, "103", "MAINTENANCE");
+        Room elsewhere = room(other, "201", "OCCUPIED");
+
+        Guest alice = guest("alice");
+        Guest bob = guest("bob");
+        Guest carol = guest("carol");
+
+        // Checked in today: tonight's 100 counts today/week/month/year, tomorrow's not yet; alice's second stay
+        booking(alice, r1, TODAY, TODAY.plusDays(2), BookingStatus.CHECKED_IN, 200);
+        // Previous week [TODAY-14, TODAY-7): all 3 nights inside the window
+        booking(alice, r2, TODAY.minusDays(10), TODAY.minusDays(7), BookingStatus.CHECKED_OUT, 300);
+        // Straddles the start of the previous week: 2 of its 4 nights and 200 of its revenue fall inside
+        booking(bob, r1, TODAY.minusDays(16), TODAY.minusDays(12), BookingStatus.CHECKED_OUT, 400);
+        // Checks out today, future revenue not counted yet
+        booking(carol, r2, TODAY.minusDays(1), TODAY, BookingStatus.PENDING, 50);
+        booking(carol, r2, TODAY.plusDays(5), TODAY.plusDays(6), BookingStatus.CANCELLED, 70);
+        // Other hotel, ignored when filtering
+        booking(bob, elsewhere, TODAY, TODAY.plusDays(1), BookingStatus.CHECKED_IN, 999);
+
+        Employee present = employee(hotel, true);
+        Employee onLeave = employee(hotel, true);
+        employee(hotel, true);
+        employee(hotel, false);
+
+        attendance(present, TODAY, "PRESENT");
+
+        Leave leave = new Leave();
+        leave.setEmployee(onLeave);
+        leave.setStatus("APPROVED");
+        leave.setStartDate(TODAY.minusDays(1));
+        leave.setEndDate(TODAY.plusDays(1));
+        entityManager.persist(leave);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void bookingStats() {
+        Object[] row = bookingRepository.getDashboardBookingStats(hotelId, TODAY, TODAY.plusDays(1), TODAY.minusDays(7),
+                TODAY.minusDays(14), TODAY.minusMonths(1), TODAY.minusYears(1)).get(0);
+
+        assertEquals(100.0, number(row[0]), 1e-9);   // today
+        assertEquals(100.0, number(row[1]), 1e-9);   // week
+        assertEquals(800.0, number(row[2]), 1e-9);   // month
+        assertEquals(800.0, number(row[3]), 1e-9);   // year
+        assertEquals(500.0, number(row[4]), 1e-9);   // previous week
+        assertEquals(1.0, number(row[5]));     // check-ins today
+        assertEquals(1.0, number(row[6]));     // check-outs today
+        assertEquals(5.0, number(row[7]));     // total
+        assertEquals(1.0, number(row[8]));     // pending
+        assertEquals(1.0, number(row[9]));     // cancelled
+        assertEquals(5.0, number(row[10]));    // room-nights in previous week
+    }
+
+    @Test
+    void guestStats() {
+        Object[] row = bookingRepository.getDashboardGuestStats(hotelId, TODAY).get(0);
+
+        assertEquals(3.0, number(row[0]));
+        assertEquals(0.0, number(row[1]));
+        assertEquals(1.0, number(row[2]));   // carol's second booking is cancelled
+
+        Object[] all = bookingRepository.getDashboardGuestStats(null, TODAY.plusDays(5)).get(0);
+        assertEquals(3.0, number(all[0]));
+    }
+
+    @Test
+    void roomAndStaffStats() {
+        Object[] rooms = roomRepository.getRoomStatusCounts(hotelId).get(0);
+        assertEquals(3.0, number(rooms[0]));
+        assertEquals(1.0, number(rooms[1]));
+        assertEquals(1.0, number(rooms[2]));
+        assertEquals(1.0, number(rooms[3]));
+
+        Object[] staff = employeeRepository.getDashboardStaffStats(hotelId, TODAY).get(0);
+        assertEquals(3.0, number(staff[0]));
+        assertEquals(1.0, number(staff[1]));
+        assertEquals(1.0, number(staff[2]));
+    }
+
+    @Test
+    void guestHistoryAggregates() {
+        Map<String, Object[]> byEmail = new HashMap<>();
+        for (Object[] row : bookingRepository.getGuestHistory(hotelId, TODAY.minusDays(30), TODAY.plusDays(10), null)) {
+            byEmail.put((String) row[3], row);
+        }
+
+        assertEquals(3, byEmail.size());
+        Object[] alice = byEmail.get("alice@test.com");
+        assertEquals(2.0, number(alice[7]));     // visits
+        assertEquals(5.0, number(alice[8]));     // nights
+        assertEquals(300.0, number(alice[9]));   // only the checked-out stay counts as spending
+        assertEquals(TODAY, alice[10]);
+        assertEquals(2.0, number(byEmail.get("carol@test.com")[8]));
+
+        assertEquals(0, bookingRepository.getGuestHistory(hotelId, TODAY.minusDays(30), TODAY, "FR").size());
+        Object[] nationality = bookingRepository.countGuestsByNationality(hotelId, TODAY.minusDays(30), TODAY.plusDays(10), null).get(0);
+        assertEquals("Unknown", nationality[0]);
+        assertEquals(3.0, number(nationality[1]));
+    }
+
+    @Test
+    void attendanceAggregates() {
+        Department frontDesk = new Department();
+        frontDesk.setName("Front Desk");
+        entityManager.persist(frontDesk);
+        Employee clerk = employee(entityManager.find(Hotel.class, hotelId), true);
+        clerk.setDepartment(frontDesk);
+        attendance(clerk, TODAY.minusDays(1), "PRESENT");
+        attendance(clerk, TODAY, "LEAVE");
+        // Outside the range
+        attendance(clerk, TODAY.minusDays(5), "ABSENT");
+        entityManager.flush();
+
+        LocalDate from = TODAY.minusDays(1);
+        List<Object[]> byEmployee = employeeRepository.getAttendanceByEmployee(hotelId, null, null, from, TODAY);
+        // Five employees; the clerk has two statuses, everyone else one row (PRESENT or no records)
+        assertEquals(6, byEmployee.size());
+        assertEquals(5, byEmployee.stream().map(row -> row[0]).distinct().count());
+
+        List<Object[]> department = employeeRepository.getAttendanceByEmployee(hotelId, "front desk", null, from, TODAY);
+        assertEquals(2, department.size());
+        for (Object[] row : department) {
+            assertEquals("Front Desk", row[3]);
+            assertEquals(1.0, number(row[6]));
+        }
+
+        Map<String, Double> today = new HashMap<>();
+        for (Object[] row : attendanceRepository.countByDateAndStatus(hotelId, null, null, from, TODAY)) {
+            if (TODAY.equals(row[0])) {
+                today.put((String) row[1], number(row[2]));
+            }
+        }
+        assertEquals(Map.of("PRESENT", 1.0, "LEAVE", 1.0), today);
+        assertEquals(1, attendanceRepository.countByDateAndStatus(null, null, clerk.getId(), TODAY, TODAY).size());
+    }
+
+    private static double number(Object value) {
+        return ((Number) value).doubleValue();
+    }
+
+    private Hotel hotel(String name) {
+        Hotel hotel = new Hotel();
+        hotel.setName(name);
+        entityManager.persist(hotel);
+        return hotel;
+    }
+
+    private Room room(Hotel hotel, String number, String status) {
+        Room room = new Room();
+        room.setHotel(hotel);
+        room.setRoomNumber(number);
+        room.setStatus(status);
+        room.setBasePrice(BigDecimal.valueOf(100));
+        entityManager.persist(room);
+        return room;
+    }
+
+    private Guest guest(String name) {
+        Guest guest = new Guest();
+        guest.setFirstName(name);
+        guest.setEmail(name + "@test.com");
+        entityManager.persist(guest);
+        return guest;
+    }
+
+    private void booking(Guest guest, Room room, LocalDate checkIn, LocalDate checkOut,
+                         BookingStatus status, double amount) {
+        Booking booking = new Booking();
+        booking.setBookingNumber("BK" + guest.getFirstName() + checkIn);
+        booking.setGuest(guest);
+        booking.setRoom(room);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setStatus(status);
+        booking.setTotalAmount(amount);
+        entityManager.persist(booking);
+    }
+
+    private void attendance(Employee employee, LocalDate date, String status) {
+        Attendance attendance = new Attendance();
+        attendance.setEmployee(employee);
+        attendance.setDate(date);
+        attendance.setStatus(status);
+        entityManager.persist(attendance);
+    }
+
+    private Employee employee(Hotel hotel, boolean active) {
+        Employee employee = new Employee();
+        employee.setHotel(hotel);
+        employee.setFirstName("Staff");
+        employee.setIsActive(active);
+        entityManager.persist(employee);
+        return employee;
+    }
+}
@@ -0,0 +1,219 @@
+package com.spring.hotel_management_backend.repository;
+
+import com.spring.hotel_management_backend.TestPasswordEncoderConfig;
+import com.spring.hotel_management_backend.config.DatabaseConfig;
+import com.spring.hotel_management_backend.model.dto.mobile.request.SyncPullRequest;
+import com.spring.hotel_management_backend.model.dto.mobile.response.GuestSyncRow;
+import com.spring.hotel_management_backend.model.dto.mobile.response.RoomSyncRow;
+import com.spring.hotel_management_backend.model.dto.mobile.response.SyncPullResponse;
+import com.spring.hotel_management_backend.model.entity.*;
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import com.spring.hotel_management_backend.model.enums.RoleType;
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
+import com.spring.hotel_management_backend.service.admin.GuestService;
+import com.spring.hotel_management_backend.service.admin.impl.GuestServiceImpl;
+import com.spring.hotel_management_backend.service.mobile.MobileSyncService;
+import com.spring.hotel_management_backend.service.mobile.impl.MobileSyncServiceImpl;
+import com.spring.hotel_management_backend.service.mobile.sync.SyncPushPipeline;
+import com.spring.hotel_management_backend.service.mobile.sync.SyncTombstones;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the delta queries behind POST /api/mobile/sync/pull, with JPA auditing filling updatedAt.
+ */
+@DataJpaTest
+@Import({DatabaseConfig.class, TestPasswordEncoderConfig.class, GuestServiceImpl.class, SyncTombstones.class, MobileSyncServiceImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MobileSyncQueryTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LONG_AGO = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private SyncTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private GuestService guestService;
+
+    @Autowired
+    private MobileSyncService mobileSyncService;
+
+    // Push is not exercised here
+    @MockitoBean
+    private SyncPushPipeline syncPushPipeline;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Hotel hotel;
+    private Room room101;
+
+    @BeforeEach
+    void setUp() {
+        hotel = hotel("Main");
+        Hotel other = hotel("Other");
+        room101 = room(hotel, "101");
+        room(hotel, "102");
+        room(other, "201");
+
+        Guest regular = guest("regular");
+        guest("stranger");
+        booking(regular, room101, "BK1");
+        entityManager.flush();
+
+        // Everything so far was synced long ago
+        entityManager.createQuery("UPDATE Room r SET r.updatedAt = :old").setParameter("old", LONG_AGO).executeUpdate();
+        entityManager.createQuery("UPDATE Guest g SET g.updatedAt = :old").setParameter("old", LONG_AGO).executeUpdate();
+        entityManager.createQuery("UPDATE Booking b SET b.createdAt = :old").setParameter("old", LONG_AGO).executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    void roomDeltaOnlyReturnsRowsChangedAfterTheWatermark() {
+        LocalDateTime watermark = LocalDateTime.now().minusSeconds(1);
+        assertEquals(2, roomRepository.findForSync(hotel.getId(), true, EPOCH).size());
+        assertEquals(3, roomRepository.findForSync(null, true, EPOCH).size());
+        assertEquals(0, roomRepository.findForSync(hotel.getId(), false, watermark).size());
+
+        Room room = roomRepository.findById(room101.getId()).orElseThrow();
+        room.setStatus("MAINTENANCE");
+        roomRepository.saveAndFlush(room);
+
+        List<RoomSyncRow> changed = roomRepository.findForSync(hotel.getId(), false, watermark);
+        assertEquals(List.of("101"), changed.stream().map(RoomSyncRow::getRoomNumber).collect(Collectors.toList()));
+    }
+
+    @Test
+    void guestsAreScopedToTheHotelAndEnterItThroughNewBookings() {
+        LocalDateTime watermark = LocalDateTime.now().minusSeconds(1);
+        assertEquals(List.of("regular"), names(guestRepository.findForSync(hotel.getId(), true, EPOCH)));
+        assertEquals(2, guestRepository.findForSync(null, true, EPOCH).size());
+        assertEquals(0, guestRepository.findForSync(hotel.getId(), false, watermark).size());
+
+        // The guest row itself is untouched, but the new booking brings them into the hotel
+        Guest stranger = guestRepository.findByEmail("stranger@test.com").orElseThrow();
+        booking(stranger, entityManager.find(Room.class, room101.getId()), "BK2");
+        entityManager.flush();
+
+        assertEquals(List.of("stranger"), names(guestRepository.findForSync(hotel.getId(), false, watermark)));
+    }
+
+    @Test
+    void tombstonesAreFilteredByTypeHotelAndTime() {
+        LocalDateTime watermark = LocalDateTime.now().minusMinutes(1);
+        tombstone(SyncEntity.ROOMS, 11L, hotel.getId(), LocalDateTime.now());
+        tombstone(SyncEntity.ROOMS, 12L, hotel.getId() + 100, LocalDateTime.now());
+        tombstone(SyncEntity.ROOMS, 13L, hotel.getId(), watermark.minusDays(1));
+        tombstone(SyncEntity.ROOM_TYPES, 14L, hotel.getId(), LocalDateTime.now());
+
+        assertEquals(List.of(11L), tombstoneRepository.findDeletedIdsSince(SyncEntity.ROOMS, hotel.getId(), watermark));
+        assertEquals(2, tombstoneRepository.findDeletedIdsSince(SyncEntity.ROOMS, null, watermark).size());
+        assertEquals(1, tombstoneRepository.deleteOlderThan(watermark));
+    }
+
+    @Test
+    void deletedGuestIsReportedByTheNextPull() {
+        User frontDesk = new User();
+        frontDesk.setUsername("frontdesk");
+        frontDesk.setEmail("frontdesk@test.com");
+        frontDesk.setPassword("secret");
+        frontDesk.setRole(RoleType.STAFF);
+        frontDesk.setHotel(hotel);
+        entityManager.persist(frontDesk);
+
+        SyncPullRequest request = new SyncPullRequest();
+        request.setUserId(frontDesk.getId());
+        request.setDeviceId("tablet-1");
+        request.setEntities(List.of("guests"));
+        SyncPullResponse first = mobileSyncService.pull(request);
+        assertTrue(first.getChanges().get("guests").getFullSync());
+
+        // Never stayed at the hotel, but guest tombstones are chain-wide
+        Guest stranger = guestRepository.findByEmail("stranger@test.com").orElseThrow();
+        guestService.deleteGuest(stranger.getId());
+        entityManager.flush();
+
+        request.setSyncToken(first.getSyncToken());
+        SyncPullResponse.EntityChanges guests = mobileSyncService.pull(request).getChanges().get("guests");
+        assertFalse(guests.getFullSync());
+        assertEquals(List.of(stranger.getId()), guests.getDeleted());
+        assertTrue(guestRepository.findById(stranger.getId()).isEmpty());
+    }
+
+    private static List<String> names(List<GuestSyncRow> guests) {
+        return guests.stream().map(GuestSyncRow::getFirstName).collect(Collectors.toList());
+    }
+
+    private Hotel hotel(String name) {
+        Hotel hotel = new Hotel();
+        hotel.setName(name);
+        entityManager.persist(hotel);
+        return hotel;
+    }
+
+    private Room room(Hotel hotel, String number) {
+        Room room = new Room();
+        room.setHotel(hotel);
+        room.setRoomNumber(number);
+        room.setStatus("AVAILABLE");
+        room.setBasePrice(BigDecimal.valueOf(100));
+        entityManager.persist(room);
+        return room;
+    }
+
+    private Guest guest(String name) {
+        Guest guest = new Guest();
+        guest.setFirstName(name);
+        guest.setEmail(name + "@test.com");
+        entityManager.persist(guest);
+        return guest;
+    }
+
+    private void booking(Guest guest, Room room, String number) {
+        Booking booking = new Booking();
+        booking.setBookingNumber(number);
+        booking.setGuest(guest);
+        booking.setRoom(room);
+        booking.setCheckInDate(LocalDate.of(2026, 6, 1));
+        booking.setCheckOutDate(LocalDate.of(2026, 6, 3));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setTotalAmount(200.0);
+        entityManager.persist(booking);
+    }
+
+    private void tombstone(SyncEntity type, Long id, Long hotelId, LocalDateTime deletedAt) {
+        SyncTombstone tombstone = new SyncTombstone();
+        tombstone.setEntityType(type);
+        tombstone.setEntityId(id);
+        tombstone.setHotelId(hotelId);
+        tombstone.setDeletedAt(deletedAt);
+        entityManager.persist(tombstone);
+        entityManager.flush();
+    }
+}
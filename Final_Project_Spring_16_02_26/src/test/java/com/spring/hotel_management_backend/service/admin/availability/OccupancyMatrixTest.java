@@ -0,0 +1,65 @@
+package com.spring.hotel_management_backend.service.admin.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccupancyMatrixTest {
+
+    @Test
+    void marksMatchNaiveGridAcrossWordBoundaries() {
+        int rooms = 7;
+        int days = 200;
+        OccupancyMatrix matrix = new OccupancyMatrix(rooms, days);
+        boolean[][] expected = new boolean[rooms][days];
+
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            int room = random.nextInt(rooms);
+            int from = random.nextInt(days + 20) - 10;
+            int to = from + random.nextInt(80);
+            matrix.mark(room, from, to);
+            for (int d = Math.max(from, 0); d < Math.min(to, days); d++) {
+                expected[room][d] = true;
+            }
+        }
+
+        for (int room = 0; room < rooms; room++) {
+            int nights = 0;
+            byte[] encoded = Base64.getDecoder().decode(matrix.encodeRow(room));
+            assertEquals((days + 7) / 8, encoded.length);
+            for (int d = 0; d < days; d++) {
+                assertEquals(expected[room][d], matrix.isOccupied(room, d), "room " + room + " night " + d);
+                assertEquals(expected[room][d], ((encoded[d >> 3] >> (d & 7)) & 1) == 1);
+                if (expected[room][d]) {
+                    nights++;
+                }
+            }
+            assertEquals(nights, matrix.occupiedNights(room));
+        }
+    }
+
+    @Test
+    void rowsDoNotBleedIntoNeighbours() {
+        OccupancyMatrix matrix = new OccupancyMatrix(3, 64);
+        matrix.mark(1, -5, 500);
+
+        assertEquals(0, matrix.occupiedNights(0));
+        assertEquals(64, matrix.occupiedNights(1));
+        assertEquals(0, matrix.occupiedNights(2));
+        assertArrayEquals(new long[]{-1L}, matrix.row(1));
+    }
+
+    @Test
+    void emptyOrInvertedRangesAreIgnored() {
+        OccupancyMatrix matrix = new OccupancyMatrix(1, 10);
+        matrix.mark(0, 5, 5);
+        matrix.mark(0, 8, 3);
+        matrix.mark(0, 10, 20);
+
+        assertEquals(0, matrix.occupiedNights(0));
+    }
+}
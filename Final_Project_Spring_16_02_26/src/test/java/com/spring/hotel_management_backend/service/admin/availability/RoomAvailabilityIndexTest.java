@@ -0,0 +1,136 @@
+package com.spring.hotel_management_backend.service.admin.availability;
+
+import com.spring.hotel_management_backend.model.entity.Booking;
+import com.spring.hotel_management_backend.model.entity.Room;
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import com.spring.hotel_management_backend.repository.BookingRepository;
+import com.spring.hotel_management_backend.repository.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RoomAvailabilityIndexTest {
+
+    private static final LocalDate D1 = LocalDate.of(2026, 5, 1);
+
+    private BookingRepository bookingRepository;
+    private RoomRepository roomRepository;
+    private RoomAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = mock(BookingRepository.class);
+        roomRepository = mock(RoomRepository.class);
+        index = new RoomAvailabilityIndex(bookingRepository, roomRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+
+        List<Object[]> rooms = new ArrayList<>();
+        rooms.add(new Object[]{1L, 10L});
+        rooms.add(new Object[]{2L, 10L});
+        rooms.add(new Object[]{3L, 20L});
+        when(roomRepository.findRoomHotelIds()).thenReturn(rooms);
+        when(bookingRepository.findActiveBookingIntervals()).thenReturn(List.of());
+        index.rebuild();
+    }
+
+    @Test
+    void staysAreHalfOpen() {
+        index.update(booking(100L, 1L, D1, D1.plusDays(3), BookingStatus.CONFIRMED));
+
+        assertFalse(index.isAvailable(1L, D1, D1.plusDays(1)));
+        assertFalse(index.isAvailable(1L, D1.plusDays(2), D1.plusDays(5)));
+        assertFalse(index.isAvailable(1L, D1.minusDays(2), D1.plusDays(1)));
+        // Check-out day is free for the next guest, and the night before check-in too
+        assertTrue(index.isAvailable(1L, D1.plusDays(3), D1.plusDays(4)));
+        assertTrue(index.isAvailable(1L, D1.minusDays(1), D1));
+        // The booking does not block itself when rescheduled
+        assertTrue(index.isAvailable(1L, D1.plusDays(1), D1.plusDays(2), 100L));
+        // An empty range never overlaps
+        assertTrue(index.isAvailable(1L, D1.plusDays(1), D1.plusDays(1)));
+    }
+
+    @Test
+    void longStayIsFoundFromARangeStartingLater() {
+        index.update(booking(100L, 1L, D1, D1.plusDays(30), BookingStatus.CHECKED_IN));
+        index.update(booking(101L, 1L, D1.plusDays(40), D1.plusDays(41), BookingStatus.CONFIRMED));
+
+        assertFalse(index.isAvailable(1L, D1.plusDays(28), D1.plusDays(29)));
+        assertTrue(index.isAvailable(1L, D1.plusDays(30), D1.plusDays(40)));
+    }
+
+    @Test
+    void updateReflectsStatusAndRoomChanges() {
+        Booking booking = booking(100L, 1L, D1, D1.plusDays(2), BookingStatus.CONFIRMED);
+        index.update(booking);
+        assertEquals(List.of(2L), index.findAvailableRooms(10L, D1, D1.plusDays(1)));
+
+        // Moved to room 2: room 1 is released
+        booking.setRoom(room(2L));
+        index.update(booking);
+        assertTrue(index.isAvailable(1L, D1, D1.plusDays(2)));
+        assertFalse(index.isAvailable(2L, D1, D1.plusDays(2)));
+        assertEquals(List.of(1L), index.findAvailableRooms(10L, D1, D1.plusDays(1)));
+
+        booking.setStatus(BookingStatus.CANCELLED);
+        index.update(booking);
+        assertEquals(List.of(1L, 2L), index.findAvailableRooms(10L, D1, D1.plusDays(1)));
+    }
+
+    @Test
+    void removeAndRoomLifecycle() {
+        index.update(booking(100L, 3L, D1, D1.plusDays(2), BookingStatus.CONFIRMED));
+        index.remove(100L);
+        assertEquals(List.of(3L), index.findAvailableRooms(20L, D1, D1.plusDays(2)));
+
+        index.registerRoom(4L, 20L);
+        index.update(booking(101L, 4L, D1, D1.plusDays(2), BookingStatus.CONFIRMED));
+        assertEquals(List.of(3L), index.findAvailableRooms(20L, D1, D1.plusDays(2)));
+
+        index.removeRoom(4L);
+        assertEquals(List.of(3L), index.findAvailableRooms(20L, D1, D1.plusDays(2)));
+        assertEquals(List.of(), index.findAvailableRooms(99L, D1, D1.plusDays(2)));
+    }
+
+    @Test
+    void cancellationCommittedDuringRebuildIsNotUndoneBySnapshot() {
+        Booking booking = booking(100L, 1L, D1, D1.plusDays(2), BookingStatus.CONFIRMED);
+        List<Object[]> snapshot = new ArrayList<>();
+        snapshot.add(new Object[]{100L, 1L, D1, D1.plusDays(2)});
+        when(bookingRepository.findActiveBookingIntervals()).thenAnswer(invocation -> {
+            // The cancel commits while the snapshot that still holds the booking is being read
+            booking.setStatus(BookingStatus.CANCELLED);
+            index.afterCommit(() -> index.update(booking));
+            assertFalse(index.isReady());
+            return snapshot;
+        });
+
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertTrue(index.isAvailable(1L, D1, D1.plusDays(2)));
+    }
+
+    private static Booking booking(Long id, Long roomId, LocalDate checkIn, LocalDate checkOut, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setRoom(room(roomId));
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setStatus(status);
+        return booking;
+    }
+
+    private static Room room(Long id) {
+        Room room = new Room();
+        room.setId(id);
+        return room;
+    }
+}
@@ -0,0 +1,242 @@
+package com.spring.hotel_management_backend.service.admin.availability;
+
+import com.spring.hotel_management_backend.model.dto.request.admin.CreateBookingRequest;
+import com.spring.hotel_management_backend.model.entity.Booking;
+import com.spring.hotel_management_backend.model.entity.Guest;
+import com.spring.hotel_management_backend.model.entity.Room;
+import com.spring.hotel_management_backend.model.entity.User;
+import com.spring.hotel_management_backend.model.enums.RoleType;
+import com.spring.hotel_management_backend.repository.BookingBatchRepository;
+import com.spring.hotel_management_backend.repository.BookingRepository;
+import com.spring.hotel_management_backend.repository.GuestRepository;
+import com.spring.hotel_management_backend.repository.RoomRepository;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
+import com.spring.hotel_management_backend.service.admin.ids.BusinessIdGenerator;
+import com.spring.hotel_management_backend.service.admin.impl.BookingServiceImpl;
+import com.spring.hotel_management_backend.service.admin.stats.DailyHotelStatsRollup;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs BookingServiceImpl.createBooking on two simulated nodes, each with its own availability
+ * index and in-process locks, against one shared booking table whose room rows are locked the
+ * way SELECT ... FOR UPDATE locks them. Transactions are simulated, so after-commit hooks run.
+ */
+class RoomBookingConcurrencyTest {
+
+    private static final LocalDate BASE = LocalDate.of(2026, 1, 1);
+
+    // The shared database: committed bookings and the room row locks
+    private final List<Booking> bookingTable = Collections.synchronizedList(new ArrayList<>());
+    private final Map<Long, ReentrantLock> roomRowLocks = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    private BookingServiceImpl nodeA;
+    private BookingServiceImpl nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = node();
+        nodeB = node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void staleIndexOnAnotherNodeDoesNotDoubleBook() {
+        assertTrue(book(nodeA, 1L, BASE, BASE.plusDays(3)).isPresent());
+
+        // Node B's index never saw node A's booking, the check under the row lock does
+        assertTrue(nodeB.isRoomAvailable(1L, BASE.plusDays(1), BASE.plusDays(2)));
+        assertTrue(book(nodeB, 1L, BASE.plusDays(1), BASE.plusDays(2)).isEmpty());
+        // Half-open stays: checking in on the other's check-out day is fine
+        assertTrue(book(nodeB, 1L, BASE.plusDays(3), BASE.plusDays(5)).isPresent());
+        assertEquals(2, bookingTable.size());
+    }
+
+    @Test
+    void overlappingBookingsNeverDoubleBookARoom() throws Exception {
+        int rooms = 4;
+        int attempts = 2_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long roomId = random.nextInt(rooms) + 1;
+                LocalDate checkIn = BASE.plusDays(random.nextInt(60));
+                LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(5));
+                book(random.nextBoolean() ? nodeA : nodeB, roomId, checkIn, checkOut);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Map<Long, List<Booking>> byRoom = new ArrayList<>(bookingTable).stream()
+                .collect(Collectors.groupingBy(b -> b.getRoom().getId()));
+        assertEquals(rooms, byRoom.size());
+
+        for (List<Booking> roomBookings : byRoom.values()) {
+            for (int i = 0; i < roomBookings.size(); i++) {
+                for (int j = i + 1; j < roomBookings.size(); j++) {
+                    Booking a = roomBookings.get(i);
+                    Booking b = roomBookings.get(j);
+                    boolean overlap = a.getCheckInDate().isBefore(b.getCheckOutDate())
+                            && b.getCheckInDate().isBefore(a.getCheckOutDate());
+                    assertFalse(overlap, "Double booking: " + a.getId() + " and " + b.getId());
+                }
+            }
+        }
+    }
+
+    @Test
+    void bookingsForDifferentRoomsAllSucceed() throws Exception {
+        int rooms = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (long roomId = 1; roomId <= rooms; roomId++) {
+            long id = roomId;
+            futures.add(executor.submit(() -> book(id % 2 == 0 ? nodeA : nodeB, id, BASE, BASE.plusDays(3)).isPresent()));
+        }
+        for (Future<Boolean> future : futures) {
+            assertTrue(future.get());
+        }
+        executor.shutdown();
+        assertEquals(rooms, bookingTable.size());
+    }
+
+    /**
+     * One createBooking call in a simulated transaction; empty when the service refused the dates.
+     */
+    private Optional<Long> book(BookingServiceImpl node, long roomId, LocalDate checkIn, LocalDate checkOut) {
+        CreateBookingRequest request = new CreateBookingRequest();
+        request.setGuestId(1L);
+        request.setRoomId(roomId);
+        request.setCheckInDate(checkIn);
+        request.setCheckOutDate(checkOut);
+        request.setNumberOfGuests(2);
+
+        authenticate();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            Long bookingId;
+            try {
+                bookingId = node.createBooking(request).getId();
+            } catch (RuntimeException e) {
+                assertEquals("Room is not available for selected dates", e.getMessage());
+                complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+                return Optional.empty();
+            }
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+            return Optional.of(bookingId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), status);
+    }
+
+    private BookingServiceImpl node() {
+        RoomAvailabilityIndex index = new RoomAvailabilityIndex(null, null);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "ready", true);
+
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        when(bookingRepository.findConflictingBookingIds(anyLong(), any(), any())).thenAnswer(invocation -> {
+            long roomId = invocation.getArgument(0);
+            LocalDate from = invocation.getArgument(1);
+            LocalDate to = invocation.getArgument(2);
+            synchronized (bookingTable) {
+                return bookingTable.stream()
+                        .filter(b -> b.getRoom().getId() == roomId
+                                && b.getCheckInDate().isBefore(to) && b.getCheckOutDate().isAfter(from))
+                        .map(Booking::getId)
+                        .collect(Collectors.toList());
+            }
+        });
+        when(bookingRepository.save(any())).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(ids.incrementAndGet());
+            // Visible to other transactions only once the row lock is released at completion
+            bookingTable.add(booking);
+            return booking;
+        });
+
+        GuestRepository guestRepository = mock(GuestRepository.class);
+        Guest guest = new Guest();
+        guest.setId(1L);
+        guest.setFirstName("Ayesha");
+        guest.setLastName("Rahman");
+        when(guestRepository.findById(1L)).thenReturn(Optional.of(guest));
+
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        when(roomRepository.findByIdForUpdate(anyLong())).thenAnswer(invocation -> {
+            long roomId = invocation.getArgument(0);
+            ReentrantLock rowLock = roomRowLocks.computeIfAbsent(roomId, id -> new ReentrantLock());
+            rowLock.lock();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    rowLock.unlock();
+                }
+            });
+            Room room = new Room();
+            room.setId(roomId);
+            room.setRoomNumber(String.valueOf(100 + roomId));
+            room.setBasePrice(BigDecimal.valueOf(4500));
+            room.setStatus("AVAILABLE");
+            return Optional.of(room);
+        });
+
+        BusinessIdGenerator idGenerator = mock(BusinessIdGenerator.class);
+        AtomicLong numbers = new AtomicLong();
+        when(idGenerator.next(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0) + numbers.incrementAndGet());
+
+        return new BookingServiceImpl(bookingRepository, mock(BookingBatchRepository.class), guestRepository,
+                roomRepository, index, new RoomBookingLocks(64, 10_000), mock(EntityManager.class), idGenerator,
+                mock(DailyHotelStatsRollup.class), mock(ApplicationEventPublisher.class));
+    }
+
+    private static void authenticate() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("frontdesk");
+        user.setRole(RoleType.STAFF);
+        AuthenticatedUser principal = new AuthenticatedUser(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
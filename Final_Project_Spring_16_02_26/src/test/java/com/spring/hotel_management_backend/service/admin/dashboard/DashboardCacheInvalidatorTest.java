@@ -0,0 +1,52 @@
+package com.spring.hotel_management_backend.service.admin.dashboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DashboardCacheInvalidatorTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 5, 1);
+
+    private CaffeineCacheManager cacheManager;
+    private DashboardCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager(DashboardCacheInvalidator.SUMMARY_CACHE, DashboardCacheInvalidator.CHARTS_CACHE);
+        invalidator = new DashboardCacheInvalidator(cacheManager);
+    }
+
+    @Test
+    void evictsOnlyTheChangedHotelAndChainWideEntries() {
+        Cache summary = cacheManager.getCache(DashboardCacheInvalidator.SUMMARY_CACHE);
+        summary.put(new DashboardCacheKey("getDashboardSummary", 1L), "hotel 1");
+        summary.put(new DashboardCacheKey("getDashboardSummary", 2L), "hotel 2");
+        summary.put(new DashboardCacheKey("getDashboardSummary", null), "chain");
+
+        invalidator.onDashboardChanged(new DashboardChangedEvent(1L, DashboardChangedEvent.Widget.SUMMARY));
+
+        assertNull(summary.get(new DashboardCacheKey("getDashboardSummary", 1L)));
+        assertNull(summary.get(new DashboardCacheKey("getDashboardSummary", null)));
+        assertNotNull(summary.get(new DashboardCacheKey("getDashboardSummary", 2L)));
+    }
+
+    @Test
+    void chartEventsLeaveTheSummaryAlone() {
+        Cache summary = cacheManager.getCache(DashboardCacheInvalidator.SUMMARY_CACHE);
+        Cache charts = cacheManager.getCache(DashboardCacheInvalidator.CHARTS_CACHE);
+        summary.put(new DashboardCacheKey("getDashboardSummary", 1L), "summary");
+        charts.put(new DashboardCacheKey("getRevenueChart", 1L, "week", DAY, DAY.plusDays(6)), "chart");
+
+        invalidator.onDashboardChanged(new DashboardChangedEvent(1L, DashboardChangedEvent.Widget.CHARTS));
+
+        assertNull(charts.get(new DashboardCacheKey("getRevenueChart", 1L, "week", DAY, DAY.plusDays(6))));
+        assertNotNull(summary.get(new DashboardCacheKey("getDashboardSummary", 1L)));
+    }
+}
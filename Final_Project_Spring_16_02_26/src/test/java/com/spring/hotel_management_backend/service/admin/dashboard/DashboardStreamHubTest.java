@@ -0,0 +1,121 @@
+package com.spring.hotel_management_backend.service.admin.dashboard;
+
+import com.spring.hotel_management_backend.model.dto.response.admin.DashboardDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DashboardStreamHubTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 7, 1);
+
+    // Collects drain tasks without running them, i.e. a client that never reads
+    private final List<Runnable> pending = new ArrayList<>();
+    private DashboardStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new DashboardStreamHub(pending::add);
+        ReflectionTestUtils.setField(hub, "bufferSize", 4);
+        ReflectionTestUtils.setField(hub, "maxConnections", 10);
+        ReflectionTestUtils.setField(hub, "timeoutMs", 0L);
+    }
+
+    @Test
+    void countersFollowRoomAndBookingTransitions() {
+        Map<String, Number> checkIn = DashboardStreamHub.counters(DashboardDelta.builder()
+                .type(DashboardDelta.CHECKED_IN)
+                .checkInDate(TODAY)
+                .checkOutDate(TODAY.plusDays(3))
+                .previousRoomStatus("RESERVED")
+                .roomStatus("OCCUPIED")
+                .amount(300.0)
+                .build(), TODAY);
+        assertEquals(1, checkIn.get("occupiedRooms").intValue());
+        // Only tonight's share of the three nights falls inside the summary windows
+        assertEquals(100.0, checkIn.get("todayRevenue").doubleValue());
+        assertEquals(100.0, checkIn.get("yearRevenue").doubleValue());
+
+        Map<String, Number> cancel = DashboardStreamHub.counters(DashboardDelta.builder()
+                .type(DashboardDelta.BOOKING_CANCELLED)
+                .checkInDate(TODAY)
+                .checkOutDate(TODAY.plusDays(2))
+                .previousRoomStatus("AVAILABLE")
+                .roomStatus("AVAILABLE")
+                .build(), TODAY);
+        assertEquals(Map.of("cancelledBookings", 1, "todayCheckIns", -1), cancel);
+    }
+
+    @Test
+    void slowSubscriberIsResyncedThenDropped() {
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+        assertEquals(2, hub.getConnectionCount());
+
+        // Initial RESYNC plus three deltas fill hotel 1's buffer of four
+        for (int i = 0; i < 3; i++) {
+            hub.onDelta(delta(1L));
+        }
+        assertEquals(2, hub.getConnectionCount());
+
+        // Overflow collapses the backlog into a RESYNC that is still unsent...
+        hub.onDelta(delta(1L));
+        assertEquals(2, hub.getConnectionCount());
+        for (int i = 0; i < 3; i++) {
+            hub.onDelta(delta(1L));
+        }
+
+        // ...so the next overflow disconnects hotel 1 only
+        hub.onDelta(delta(1L));
+        assertEquals(1, hub.getConnectionCount());
+    }
+
+    @Test
+    void chainSubscribersGetTheirOwnSequence() {
+        hub.onDelta(delta(1L));
+        hub.subscribe(null);
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        hub.onDelta(delta(1L));
+        hub.onDelta(delta(2L));
+        hub.onDelta(delta(1L));
+
+        // Each stream starts with a RESYNC at its current sequence and then counts without gaps
+        assertEquals(List.of(1L, 2L, 3L), sequences(1L));
+        assertEquals(List.of(0L, 1L), sequences(2L));
+        assertEquals(List.of(1L, 2L, 3L, 4L), sequences(null));
+        assertEquals(List.of(DashboardDelta.RESYNC, DashboardDelta.ROOM_STATUS_CHANGED), types(2L));
+    }
+
+    private List<Long> sequences(Long hotelId) {
+        return queued(hotelId).stream().map(DashboardDelta::getSequence).toList();
+    }
+
+    private List<String> types(Long hotelId) {
+        return queued(hotelId).stream().map(DashboardDelta::getType).toList();
+    }
+
+    // The drain tasks never run here, so each subscriber's queue still holds everything sent to it
+    @SuppressWarnings("unchecked")
+    private List<DashboardDelta> queued(Long hotelId) {
+        Map<Optional<Long>, Set<Object>> subscribers =
+                (Map<Optional<Long>, Set<Object>>) ReflectionTestUtils.getField(hub, "subscribers");
+        Object subscriber = subscribers.get(Optional.ofNullable(hotelId)).iterator().next();
+        return new ArrayList<>((Collection<DashboardDelta>) ReflectionTestUtils.getField(subscriber, "queue"));
+    }
+
+    private static DashboardDelta delta(Long hotelId) {
+        return DashboardDelta.builder()
+                .type(DashboardDelta.ROOM_STATUS_CHANGED)
+                .hotelId(hotelId)
+                .previousRoomStatus("AVAILABLE")
+                .roomStatus("MAINTENANCE")
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.spring.hotel_management_backend.service.admin.export;
+
+import com.spring.hotel_management_backend.repository.AttendanceRepository;
+import com.spring.hotel_management_backend.repository.PaymentRepository;
+import com.spring.hotel_management_backend.repository.StockTransactionRepository;
+import com.spring.hotel_management_backend.service.admin.impl.ReportExportServiceImpl;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StreamingExportTest {
+
+    private static final int ROWS = 1_000_000;
+    // 1M rows of 13 columns held as objects would need several hundred MB
+    private static final String HEAP_CAP = "-Xmx64m";
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 12, 31);
+
+    @Test
+    void csvQuotesOnlyWhenNeeded() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TabularWriter writer = TabularWriter.of(ExportFormat.CSV, out)) {
+            writer.header("ID", "Reason");
+            writer.row(1L, "plain");
+            writer.row(2L, "damaged, \"returned\"");
+            writer.row(3L, null);
+            writer.finish();
+        }
+        assertEquals("\uFEFFID,Reason\r\n1,plain\r\n2,\"damaged, \"\"returned\"\"\"\r\n3,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void xlsxKeepsTypesAndHeader() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService(5).export(ExportDataset.STOCK_TRANSACTIONS, ExportFormat.XLSX, 1L, START, END, out);
+        assertEquals(5, rows);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("Item Code", sheet.getRow(0).getCell(2).getStringCellValue());
+            assertEquals(3.0, sheet.getRow(3).getCell(0).getNumericCellValue());
+            assertEquals(LocalDateTime.of(2026, 3, 1, 9, 1), sheet.getRow(1).getCell(1).getLocalDateTimeCellValue());
+            assertEquals(5, sheet.getLastRowNum());
+        }
+    }
+
+    @Test
+    void csvExportOfOneMillionRowsFitsInFixedHeap() throws Exception {
+        assertExportFitsInHeap(ExportFormat.CSV);
+    }
+
+    @Test
+    void xlsxExportOfOneMillionRowsFitsInFixedHeap() throws Exception {
+        assertExportFitsInHeap(ExportFormat.XLSX);
+    }
+
+    /**
+     * Runs {@link #main} in a child JVM, since the heap limit of the test JVM itself
+     * is whatever the build happens to use.
+     */
+    private static void assertExportFitsInHeap(ExportFormat format) throws Exception {
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(java.toString(), HEAP_CAP,
+                "-cp", System.getProperty("java.class.path"),
+                StreamingExportTest.class.getName(), format.name(), String.valueOf(ROWS))
+                .redirectErrorStream(true)
+                .redirectOutput(File.createTempFile("export-heap", ".log"))
+                .start();
+
+        assertTrue(process.waitFor(5, TimeUnit.MINUTES), format + " export timed out");
+        assertEquals(0, process.exitValue(), format + " export failed under " + HEAP_CAP);
+    }
+
+    public static void main(String[] args) throws Exception {
+        ExportFormat format = ExportFormat.valueOf(args[0]);
+        int rows = Integer.parseInt(args[1]);
+        CountingOutputStream out = new CountingOutputStream();
+
+        long written = exportService(rows).export(ExportDataset.STOCK_TRANSACTIONS, format, 1L, START, END, out);
+        if (written != rows || out.count == 0) {
+            System.exit(2);
+        }
+        System.exit(0);
+    }
+
+    private static ReportExportServiceImpl exportService(int rows) {
+        StockTransactionRepository stockTransactions = mock(StockTransactionRepository.class);
+        when(stockTransactions.streamForExport(any(), any(), any())).thenAnswer(invocation -> cursor(rows));
+        return new ReportExportServiceImpl(stockTransactions, mock(PaymentRepository.class), mock(AttendanceRepository.class));
+    }
+
+    // Fresh row objects per step, like a JDBC cursor
+    private static Stream<Object[]> cursor(int rows) {
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 9, 0);
+        return LongStream.rangeClosed(1, rows).mapToObj(id -> new Object[]{
+                id, base.plusMinutes(id), "SKU-" + (id % 500), "Item " + (id % 500), "CONSUMPTION",
+                (int) (id % 20), 2.5, 2.5 * (id % 20), 100, 100 - (int) (id % 20),
+                "BK-" + id, null, "store"});
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
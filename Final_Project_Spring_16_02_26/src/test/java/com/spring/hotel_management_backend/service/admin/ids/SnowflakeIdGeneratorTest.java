@@ -0,0 +1,78 @@
+package com.spring.hotel_management_backend.service.admin.ids;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void numbersAreUniqueAndOrderedPerThreadUnderContention() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, System::currentTimeMillis);
+        int threads = 16;
+        int perThread = 50_000;
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                String previous = "";
+                boolean ordered = true;
+                for (int i = 0; i < perThread; i++) {
+                    String id = generator.next(BusinessIdGenerator.BOOKING);
+                    ordered &= id.compareTo(previous) > 0;
+                    seen.add(id);
+                    previous = id;
+                }
+                return ordered;
+            }));
+        }
+        start.countDown();
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(threads * perThread, seen.size());
+    }
+
+    @Test
+    void sequenceOverflowAndClockRollbackStillIncrease() {
+        AtomicLong now = new AtomicLong(SnowflakeIdGenerator.EPOCH + 1_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, now::get);
+
+        long previous = -1;
+        for (int i = 0; i < 10_000; i++) { // more than 4096 in one millisecond
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+        now.addAndGet(-500);
+        assertTrue(generator.nextId() > previous);
+    }
+
+    @Test
+    void startupFailsWithoutAConfiguredNodeId() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new SnowflakeIdGenerator(-1));
+        assertTrue(e.getMessage().startsWith("business-id.node-id is not set"));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+    }
+
+    @Test
+    void formatIsPrefixPlusFixedWidthBase36() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1023, System::currentTimeMillis);
+        String id = generator.next(BusinessIdGenerator.INVOICE);
+
+        assertTrue(id.matches("INV[0-9A-Z]{13}"), id);
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024, System::currentTimeMillis));
+    }
+}
@@ -0,0 +1,148 @@
+package com.spring.hotel_management_backend.service.admin.impl;
+
+import com.spring.hotel_management_backend.model.dto.request.admin.BulkBookingRequest;
+import com.spring.hotel_management_backend.model.dto.request.admin.CreateBookingRequest;
+import com.spring.hotel_management_backend.model.dto.response.admin.BulkBookingResponse;
+import com.spring.hotel_management_backend.model.dto.response.admin.DashboardDelta;
+import com.spring.hotel_management_backend.model.entity.*;
+import com.spring.hotel_management_backend.model.enums.RoleType;
+import com.spring.hotel_management_backend.repository.BookingBatchRepository;
+import com.spring.hotel_management_backend.repository.BookingRepository;
+import com.spring.hotel_management_backend.repository.GuestRepository;
+import com.spring.hotel_management_backend.repository.RoomRepository;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
+import com.spring.hotel_management_backend.service.admin.availability.RoomAvailabilityIndex;
+import com.spring.hotel_management_backend.service.admin.availability.RoomBookingLocks;
+import com.spring.hotel_management_backend.service.admin.ids.BusinessIdGenerator;
+import com.spring.hotel_management_backend.service.admin.stats.DailyHotelStatsRollup;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BookingServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 8, 1);
+
+    private final List<Object> published = new ArrayList<>();
+    private BookingServiceImpl bookingService;
+
+    @BeforeEach
+    void setUp() {
+        Hotel hotel = new Hotel();
+        hotel.setId(5L);
+        Room room = new Room();
+        room.setId(1L);
+        room.setHotel(hotel);
+        room.setRoomNumber("101");
+        room.setStatus("AVAILABLE");
+        room.setBasePrice(BigDecimal.valueOf(100));
+        Guest guest = new Guest();
+        guest.setId(1L);
+
+        GuestRepository guestRepository = mock(GuestRepository.class);
+        when(guestRepository.findAllById(any())).thenReturn(List.of(guest));
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        when(roomRepository.findAllByIdForUpdate(any())).thenReturn(List.of(room));
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        when(bookingRepository.findActiveIntervalsForRooms(any(), any(), any())).thenReturn(List.of());
+
+        AtomicLong ids = new AtomicLong(100);
+        BookingBatchRepository batchRepository = mock(BookingBatchRepository.class);
+        doAnswer(invocation -> {
+            List<Booking> bookings = invocation.getArgument(0);
+            bookings.forEach(b -> b.setId(ids.incrementAndGet()));
+            return null;
+        }).when(batchRepository).insertAll(anyList());
+
+        BusinessIdGenerator idGenerator = mock(BusinessIdGenerator.class);
+        when(idGenerator.next(anyString())).thenAnswer(invocation -> "BK" + ids.get());
+        ApplicationEventPublisher eventPublisher = published::add;
+
+        bookingService = new BookingServiceImpl(bookingRepository, batchRepository, guestRepository, roomRepository,
+                mock(RoomAvailabilityIndex.class), new RoomBookingLocks(64, 1_000), mock(EntityManager.class),
+                idGenerator, mock(DailyHotelStatsRollup.class), eventPublisher);
+        ReflectionTestUtils.setField(bookingService, "maxImportItems", 100);
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("frontdesk");
+        user.setRole(RoleType.STAFF);
+        AuthenticatedUser principal = new AuthenticatedUser(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void importPublishesALiveDeltaForEveryCreatedBooking() {
+        BulkBookingRequest request = new BulkBookingRequest();
+        request.setSource("OTA");
+        request.setBookings(List.of(
+                item(DAY, DAY.plusDays(2)),
+                item(DAY.plusDays(1), DAY.plusDays(3)),   // overlaps the first, rejected
+                item(DAY.plusDays(2), DAY.plusDays(4))));
+
+        BulkBookingResponse response = runInTransaction(request);
+        assertEquals(2, response.getCreated());
+
+        List<DashboardDelta> deltas = published.stream()
+                .filter(DashboardDelta.class::isInstance).map(DashboardDelta.class::cast).toList();
+        assertEquals(2, deltas.size());
+        for (int k = 0; k < deltas.size(); k++) {
+            DashboardDelta delta = deltas.get(k);
+            assertEquals(DashboardDelta.BOOKING_CREATED, delta.getType());
+            assertEquals(5L, delta.getHotelId());
+            assertEquals(response.getResults().get(k * 2).getBookingId(), delta.getBookingId());
+            assertEquals("RESERVED", delta.getRoomStatus());
+        }
+        // Only the first booking moved the room out of AVAILABLE
+        assertEquals("AVAILABLE", deltas.get(0).getPreviousRoomStatus());
+        assertEquals("RESERVED", deltas.get(1).getPreviousRoomStatus());
+    }
+
+    private BulkBookingResponse runInTransaction(BulkBookingRequest request) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            BulkBookingResponse response = bookingService.importBookings(request);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+            return response;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static CreateBookingRequest item(LocalDate checkIn, LocalDate checkOut) {
+        CreateBookingRequest item = new CreateBookingRequest();
+        item.setGuestId(1L);
+        item.setRoomId(1L);
+        item.setCheckInDate(checkIn);
+        item.setCheckOutDate(checkOut);
+        item.setNumberOfGuests(2);
+        return item;
+    }
+}
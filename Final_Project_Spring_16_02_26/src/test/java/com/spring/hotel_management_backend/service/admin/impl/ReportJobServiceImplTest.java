@@ -0,0 +1,107 @@
+package com.spring.hotel_management_backend.service.admin.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.spring.hotel_management_backend.model.dto.request.admin.reports.ReportJobRequest;
+import com.spring.hotel_management_backend.model.dto.response.admin.reports.ReportJobResponse;
+import com.spring.hotel_management_backend.model.dto.response.admin.reports.RevenueReportResponse;
+import com.spring.hotel_management_backend.model.entity.User;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
+import com.spring.hotel_management_backend.service.admin.ReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReportJobServiceImplTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 12, 31);
+
+    // Jobs wait here until the test runs them, like a busy executor
+    private final List<Runnable> queued = new ArrayList<>();
+    private ReportService reportService;
+    private ReportJobServiceImpl jobService;
+
+    @BeforeEach
+    void setUp() {
+        reportService = mock(ReportService.class);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(ReportJobServiceImpl.RESULT_CACHE, Caffeine.newBuilder().maximumSize(10).build());
+        jobService = new ReportJobServiceImpl(reportService, cacheManager, queued::add);
+
+        User user = new User();
+        user.setUsername("manager");
+        AuthenticatedUser principal = new AuthenticatedUser(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void coalescesRunningJobsAndServesRepeatsFromCache() {
+        RevenueReportResponse report = RevenueReportResponse.builder().totalRevenue(1200.0).build();
+        when(reportService.getRevenueReport(1L, START, END)).thenReturn(report);
+
+        ReportJobResponse first = jobService.submit(revenueRequest());
+        ReportJobResponse duplicate = jobService.submit(revenueRequest());
+        assertEquals("QUEUED", first.getStatus());
+        assertEquals(first.getJobId(), duplicate.getJobId());
+        assertEquals(1, queued.size());
+
+        queued.remove(0).run();
+        ReportJobResponse done = jobService.getJob(first.getJobId());
+        assertEquals("COMPLETED", done.getStatus());
+        assertEquals(100, done.getProgress());
+        assertSame(report, done.getResult());
+
+        ReportJobResponse repeat = jobService.submit(revenueRequest());
+        assertEquals("COMPLETED", repeat.getStatus());
+        assertTrue(repeat.getCached());
+        assertTrue(queued.isEmpty());
+        verify(reportService, times(1)).getRevenueReport(1L, START, END);
+    }
+
+    @Test
+    void failedJobsReportTheErrorAndAreNotCached() {
+        when(reportService.getRevenueReport(1L, START, END)).thenThrow(new RuntimeException("boom"));
+
+        ReportJobResponse job = jobService.submit(revenueRequest());
+        queued.remove(0).run();
+
+        ReportJobResponse failed = jobService.getJob(job.getJobId());
+        assertEquals("FAILED", failed.getStatus());
+        assertEquals("boom", failed.getError());
+
+        jobService.submit(revenueRequest());
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void rejectsIncompleteRequests() {
+        ReportJobRequest request = new ReportJobRequest();
+        request.setReportType("yearly_revenue");
+        assertThrows(RuntimeException.class, () -> jobService.submit(request));
+    }
+
+    private static ReportJobRequest revenueRequest() {
+        ReportJobRequest request = new ReportJobRequest();
+        request.setReportType("REVENUE");
+        request.setHotelId(1L);
+        request.setStartDate(START);
+        request.setEndDate(END);
+        return request;
+    }
+}
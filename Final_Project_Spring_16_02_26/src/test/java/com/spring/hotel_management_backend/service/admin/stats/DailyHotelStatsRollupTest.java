@@ -0,0 +1,144 @@
+package com.spring.hotel_management_backend.service.admin.stats;
+
+import com.spring.hotel_management_backend.TestPasswordEncoderConfig;
+import com.spring.hotel_management_backend.model.entity.*;
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Recomputes the rollup over hand-counted bookings and reads it back the way the charts do.
+ */
+@DataJpaTest
+@Import({DailyHotelStatsRollup.class, TestPasswordEncoderConfig.class})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DailyHotelStatsRollupTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @Autowired
+    private DailyHotelStatsRollup rollup;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long hotelId;
+    private Long otherHotelId;
+
+    @BeforeEach
+    void setUp() {
+        Hotel hotel = hotel("Main");
+        Hotel other = hotel("Other");
+        hotelId = hotel.getId();
+        otherHotelId = other.getId();
+
+        Room r1 = room(hotel, "101");
+        Room r2 = room(hotel, "102");
+        Room elsewhere = room(other, "201");
+        Guest guest = guest();
+
+        // Nights 10, 11, 12; 100 revenue on each
+        booking(guest, r1, DAY, DAY.plusDays(3), BookingStatus.CHECKED_OUT, 300);
+        // Nights 11, 12; confirmed only, so no revenue yet
+        booking(guest, r2, DAY.plusDays(1), DAY.plusDays(3), BookingStatus.CONFIRMED, 200);
+        // Cancelled: counted on its check-in date, never occupies a night
+        booking(guest, r2, DAY, DAY.plusDays(1), BookingStatus.CANCELLED, 100);
+        // Started before the window: only the night of the 10th counts, with a third of the amount
+        booking(guest, r2, DAY.minusDays(2), DAY.plusDays(1), BookingStatus.CHECKED_IN, 150);
+        booking(guest, elsewhere, DAY, DAY.plusDays(1), BookingStatus.CHECKED_IN, 999);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void recomputeBuildsPerDayRows() {
+        rollup.recompute(hotelId, DAY, DAY.plusDays(4));
+        Map<LocalDate, DailyHotelStats> stats = rollup.load(hotelId, DAY, DAY.plusDays(4));
+
+        DailyHotelStats first = stats.get(DAY);
+        assertEquals(150.0, first.getRevenue(), 1e-9);
+        assertEquals(2, first.getOccupiedRoomNights());
+        assertEquals(1, first.getCheckIns());
+        assertEquals(0, first.getCheckOuts());
+        assertEquals(1, first.getCancellations());
+
+        DailyHotelStats second = stats.get(DAY.plusDays(1));
+        assertEquals(100.0, second.getRevenue(), 1e-9);
+        assertEquals(2, second.getOccupiedRoomNights());
+        assertEquals(1, second.getCheckIns());
+        assertEquals(1, second.getCheckOuts());
+
+        assertEquals(2, stats.get(DAY.plusDays(2)).getOccupiedRoomNights());
+        assertEquals(100.0, stats.get(DAY.plusDays(2)).getRevenue(), 1e-9);
+        assertEquals(2, stats.get(DAY.plusDays(3)).getCheckOuts());
+        assertEquals(0.0, stats.get(DAY.plusDays(3)).getRevenue());
+        assertEquals(0, stats.get(DAY.plusDays(3)).getOccupiedRoomNights());
+        assertFalse(stats.containsKey(DAY.plusDays(4)));
+        assertEquals(0, DailyHotelStatsRollup.dayOf(stats, DAY.plusDays(4)).getCheckIns());
+    }
+
+    @Test
+    void recomputeReplacesRowsAndNullHotelSumsChain() {
+        rollup.recompute(hotelId, DAY, DAY.plusDays(4));
+        rollup.recompute(hotelId, DAY, DAY.plusDays(4));
+        rollup.recompute(otherHotelId, DAY, DAY.plusDays(4));
+
+        Map<LocalDate, DailyHotelStats> chain = rollup.load(null, DAY, DAY);
+        assertEquals(1149.0, chain.get(DAY).getRevenue(), 1e-9);
+        assertEquals(3, chain.get(DAY).getOccupiedRoomNights());
+        assertEquals(2, chain.get(DAY).getCheckIns());
+    }
+
+    private Hotel hotel(String name) {
+        Hotel hotel = new Hotel();
+        hotel.setName(name);
+        entityManager.persist(hotel);
+        return hotel;
+    }
+
+    private Room room(Hotel hotel, String number) {
+        Room room = new Room();
+        room.setHotel(hotel);
+        room.setRoomNumber(number);
+        room.setStatus("AVAILABLE");
+        room.setBasePrice(BigDecimal.valueOf(100));
+        entityManager.persist(room);
+        return room;
+    }
+
+    private Guest guest() {
+        Guest guest = new Guest();
+        guest.setFirstName("guest");
+        guest.setEmail("guest@test.com");
+        entityManager.persist(guest);
+        return guest;
+    }
+
+    private void booking(Guest guest, Room room, LocalDate checkIn, LocalDate checkOut,
+                         BookingStatus status, double amount) {
+        Booking booking = new Booking();
+        booking.setBookingNumber("BK" + room.getRoomNumber() + checkIn + status);
+        booking.setGuest(guest);
+        booking.setRoom(room);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setStatus(status);
+        booking.setTotalAmount(amount);
+        entityManager.persist(booking);
+    }
+}
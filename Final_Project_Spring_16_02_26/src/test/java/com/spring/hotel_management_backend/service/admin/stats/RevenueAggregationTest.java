@@ -0,0 +1,114 @@
+package com.spring.hotel_management_backend.service.admin.stats;
+
+import com.spring.hotel_management_backend.model.enums.BookingStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RevenueAggregationTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 28);
+    private static final LocalDate END = LocalDate.of(2026, 2, 10);
+
+    @Test
+    void allocatesNightlyRevenueInsideTheRange() {
+        RevenueAggregation aggregation = new RevenueAggregation(START, END);
+        // Two nights before the range, two inside: half the amount counts
+        aggregation.add(START.minusDays(2), START.plusDays(2), BookingStatus.CHECKED_OUT, 400, "CASH", "Suite");
+        // Crosses the month boundary: Jan 31 and Feb 1
+        aggregation.add(LocalDate.of(2026, 1, 31), LocalDate.of(2026, 2, 2), BookingStatus.CHECKED_OUT, 300, "CARD", "Deluxe");
+        // Still in house: earns its night like a checked-out stay
+        aggregation.add(START, START.plusDays(1), BookingStatus.CHECKED_IN, 80, "CARD", "Deluxe");
+        // Present but not yet revenue
+        aggregation.add(START, START.plusDays(1), BookingStatus.CONFIRMED, 999, "CARD", "Deluxe");
+        aggregation.add(START, START.plusDays(1), BookingStatus.CANCELLED, 50, "CARD", "Deluxe");
+        aggregation.finish();
+
+        assertEquals(580.0, aggregation.getTotalRevenue(), 1e-9);
+        assertEquals(5, aggregation.getRoomNightsSold());
+        assertEquals(5, aggregation.getTotalBookings());
+        assertEquals(1, aggregation.getCancelledBookings());
+
+        double[] daily = aggregation.getDailyRevenue();
+        assertEquals(180.0, daily[0], 1e-9);
+        assertEquals(100.0, daily[1], 1e-9);
+        assertEquals(0.0, daily[2], 1e-9);
+        assertEquals(150.0, daily[3], 1e-9);
+        assertEquals(150.0, daily[4], 1e-9);
+        assertEquals(0.0, daily[5], 1e-9);
+        assertEquals(4, aggregation.getDailyBookings()[0]);
+
+        assertArrayEquals(new double[]{430.0, 150.0}, aggregation.getMonthlyRevenue(), 1e-9);
+        assertArrayEquals(new int[]{4, 0}, aggregation.getMonthlyCheckIns());
+        assertArrayEquals(new double[]{580.0, 0.0}, aggregation.getWeeklyRevenue(), 1e-9);
+        assertEquals(200.0, aggregation.getPaymentMethodRevenue().get("CASH"), 1e-9);
+        assertEquals(380.0, aggregation.getRoomTypeRevenue().get("Deluxe"), 1e-9);
+    }
+
+    @Test
+    void matchesPerDayScan() {
+        Random random = new Random(7);
+        RevenueAggregation aggregation = new RevenueAggregation(START, END);
+        int days = aggregation.getDays();
+        double[] expected = new double[days];
+        int[] expectedBookings = new int[days];
+
+        for (int i = 0; i < 300; i++) {
+            LocalDate checkIn = START.plusDays(random.nextInt(days + 10) - 5);
+            int nights = 1 + random.nextInt(6);
+            BookingStatus status = random.nextBoolean() ? BookingStatus.CHECKED_OUT : BookingStatus.CONFIRMED;
+            double amount = 100 + random.nextInt(900);
+            aggregation.add(checkIn, checkIn.plusDays(nights), status, amount, "CASH", "Standard");
+
+            for (int d = 0; d < days; d++) {
+                LocalDate date = START.plusDays(d);
+                if (!date.isBefore(checkIn) && date.isBefore(checkIn.plusDays(nights))) {
+                    expectedBookings[d]++;
+                    if (status == BookingStatus.CHECKED_OUT) {
+                        expected[d] += amount / nights;
+                    }
+                }
+            }
+        }
+
+        assertArrayEquals(expected, aggregation.getDailyRevenue(), 1e-6);
+        assertArrayEquals(expectedBookings, aggregation.getDailyBookings());
+    }
+
+    @Test
+    void mergedHotelPartialsMatchOneAggregation() {
+        Random random = new Random(11);
+        RevenueAggregation whole = new RevenueAggregation(START, END);
+        RevenueAggregation[] hotels = {
+                new RevenueAggregation(START, END), new RevenueAggregation(START, END), new RevenueAggregation(START, END)};
+
+        for (int i = 0; i < 300; i++) {
+            LocalDate checkIn = START.plusDays(random.nextInt(20) - 5);
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(5));
+            BookingStatus status = BookingStatus.values()[random.nextInt(BookingStatus.values().length)];
+            double amount = 100 + random.nextInt(900);
+            String method = random.nextBoolean() ? "CASH" : "CARD";
+            whole.add(checkIn, checkOut, status, amount, method, "Standard");
+            hotels[i % hotels.length].add(checkIn, checkOut, status, amount, method, "Standard");
+        }
+
+        // A finished partial still merges, as in the chain report
+        hotels[0].finish();
+        RevenueAggregation merged = new RevenueAggregation(START, END);
+        for (RevenueAggregation hotel : hotels) {
+            merged.merge(hotel);
+        }
+
+        assertArrayEquals(whole.getDailyRevenue(), merged.getDailyRevenue(), 1e-6);
+        assertArrayEquals(whole.getDailyBookings(), merged.getDailyBookings());
+        assertArrayEquals(whole.getMonthlyCheckIns(), merged.getMonthlyCheckIns());
+        assertEquals(whole.getTotalBookings(), merged.getTotalBookings());
+        assertEquals(whole.getCancelledBookings(), merged.getCancelledBookings());
+        assertEquals(whole.getRoomNightsSold(), merged.getRoomNightsSold());
+        assertEquals(whole.getPaymentMethodRevenue().get("CARD"), merged.getPaymentMethodRevenue().get("CARD"), 1e-6);
+    }
+}
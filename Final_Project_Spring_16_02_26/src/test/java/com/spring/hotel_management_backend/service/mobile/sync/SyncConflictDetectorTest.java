@@ -0,0 +1,152 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.hotel_management_backend.model.dto.mobile.request.PushUpdateRequest;
+import com.spring.hotel_management_backend.model.entity.HousekeepingTask;
+import com.spring.hotel_management_backend.model.entity.SyncConflict;
+import com.spring.hotel_management_backend.model.entity.User;
+import com.spring.hotel_management_backend.model.enums.ConflictPolicy;
+import com.spring.hotel_management_backend.model.enums.RoleType;
+import com.spring.hotel_management_backend.repository.SyncConflictRepository;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SyncConflictDetectorTest {
+
+    private final List<SyncConflict> recorded = new ArrayList<>();
+    private SyncConflictDetector detector;
+    private HousekeepingTask task;
+
+    @BeforeEach
+    void setUp() {
+        SyncConflictRepository repository = mock(SyncConflictRepository.class);
+        when(repository.save(any())).thenAnswer(invocation -> {
+            SyncConflict conflict = invocation.getArgument(0);
+            conflict.setId(100L + recorded.size());
+            recorded.add(conflict);
+            return conflict;
+        });
+        detector = new SyncConflictDetector(repository, new ObjectMapper());
+        setPolicy(ConflictPolicy.SERVER_WINS);
+
+        task = new HousekeepingTask();
+        task.setId(9L);
+        task.setVersion(3);
+        task.setStatus("IN_PROGRESS");
+        task.setCompletionNotes("Towels replaced");
+        task.setUpdatedAt(LocalDateTime.of(2026, 3, 1, 10, 0));
+    }
+
+    @Test
+    void matchingOrMissingBaseVersionPasses() {
+        assertTrue(detector.check(operation(3L, Map.of("status", "COMPLETED"), null, null), task, serverValues()));
+        assertTrue(detector.check(operation(null, Map.of("status", "COMPLETED"), null, null), task, serverValues()));
+        // Stale, but the server already holds the pushed value
+        assertTrue(detector.check(operation(1L, Map.of("status", "IN_PROGRESS"), null, null), task, serverValues()));
+        assertTrue(recorded.isEmpty());
+    }
+
+    @Test
+    void serverWinsRecordsAnOpenConflict() {
+        PushOperation operation = operation(1L, Map.of("status", "COMPLETED"), null, null);
+
+        assertFalse(detector.check(operation, task, serverValues()));
+
+        assertEquals(PushOperation.Status.CONFLICT, operation.getStatus());
+        assertEquals(100L, operation.getConflictId());
+        SyncConflict conflict = recorded.get(0);
+        assertEquals("OPEN", conflict.getStatus());
+        assertEquals(1L, conflict.getBaseVersion());
+        assertEquals(3L, conflict.getServerVersion());
+        assertEquals("status", conflict.getConflictingFields());
+        assertEquals("{\"status\":\"COMPLETED\"}", conflict.getClientData());
+        assertEquals("{\"status\":\"IN_PROGRESS\"}", conflict.getServerData());
+    }
+
+    @Test
+    void lastWriterWinsComparesDeviceTimeWithTheLastServerUpdate() {
+        setPolicy(ConflictPolicy.LAST_WRITER_WINS);
+        PushOperation later = operation(1L, Map.of("status", "COMPLETED"), null, task.getUpdatedAt().plusMinutes(5));
+        PushOperation earlier = operation(1L, Map.of("status", "COMPLETED"), null, task.getUpdatedAt().minusMinutes(5));
+
+        assertTrue(detector.check(later, task, serverValues()));
+        assertFalse(detector.check(earlier, task, serverValues()));
+
+        assertNull(later.getStatus());
+        assertEquals(100L, later.getConflictId());
+        assertEquals(PushOperation.Status.CONFLICT, earlier.getStatus());
+        // Both are decided on the spot and kept only for the record
+        assertEquals(List.of("RESOLVED", "RESOLVED"), recorded.stream().map(SyncConflict::getStatus).toList());
+        assertEquals(List.of("CLIENT", "SERVER"), recorded.stream().map(SyncConflict::getResolution).toList());
+    }
+
+    @Test
+    void fieldMergeKeepsServerOnlyChangesAndFlagsFieldsBothSidesChanged() {
+        setPolicy(ConflictPolicy.FIELD_MERGE);
+        // The device only edited the notes; the server moved the status on since
+        Map<String, Object> base = Map.of("status", "PENDING", "completionNotes", "Towels replaced");
+        PushOperation merged = operation(1L, Map.of("status", "PENDING", "completionNotes", "Minibar refilled"), base, null);
+
+        assertTrue(detector.check(merged, task, serverValues()));
+        assertNull(merged.getString("status"));
+        assertEquals("Minibar refilled", merged.getString("completionNotes"));
+
+        task.setCompletionNotes("Lamp broken");
+        PushOperation clashing = operation(1L, Map.of("status", "PENDING", "completionNotes", "Minibar refilled"), base, null);
+        assertFalse(detector.check(clashing, task, serverValues()));
+        assertEquals("completionNotes", recorded.get(0).getConflictingFields());
+
+        // Nothing to merge against without the base values
+        assertFalse(detector.check(operation(1L, Map.of("completionNotes", "Minibar refilled"), null, null),
+                task, serverValues()));
+        assertEquals(2, recorded.size());
+    }
+
+    @Test
+    void sameValueNormalizesPayloadTypes() {
+        assertTrue(SyncConflictDetector.sameValue(LocalTime.of(9, 30), "09:30"));
+        assertTrue(SyncConflictDetector.sameValue(3L, 3));
+        assertFalse(SyncConflictDetector.sameValue(LocalTime.of(9, 30), "not a time"));
+        assertFalse(SyncConflictDetector.sameValue(null, "x"));
+    }
+
+    private Map<String, Object> serverValues() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("status", task.getStatus());
+        values.put("completionNotes", task.getCompletionNotes());
+        return values;
+    }
+
+    private void setPolicy(ConflictPolicy policy) {
+        ReflectionTestUtils.setField(detector, "taskPolicy", policy);
+    }
+
+    private static PushOperation operation(Long baseVersion, Map<String, Object> data, Map<String, Object> base,
+                                           LocalDateTime occurredAt) {
+        PushUpdateRequest.SyncOperation operation = new PushUpdateRequest.SyncOperation();
+        operation.setOperationId(UUID.randomUUID().toString());
+        operation.setEntityType("TASK");
+        operation.setOperationType("UPDATE");
+        operation.setData(data);
+        operation.setBase(base);
+        operation.setBaseVersion(baseVersion);
+        if (occurredAt != null) {
+            operation.setTimestamp(occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        User user = new User();
+        user.setId(7L);
+        user.setRole(RoleType.STAFF);
+        return new PushOperation(0, new AuthenticatedUser(user), "tablet-1", operation);
+    }
+}
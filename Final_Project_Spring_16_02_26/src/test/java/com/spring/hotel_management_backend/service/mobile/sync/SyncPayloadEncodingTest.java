@@ -0,0 +1,66 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.hotel_management_backend.config.JacksonConfig;
+import com.spring.hotel_management_backend.model.dto.mobile.response.ColumnarTable;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyncPayloadEncodingTest {
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = new JacksonConfig()
+            .cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+
+    @Test
+    void columnsAreTheUnionOfAllRows() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("id", 1L);
+        first.put("name", "Deluxe");
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("id", 2L);
+        second.put("floor", 3);
+
+        ColumnarTable table = ColumnarTable.of(List.of(first, second));
+
+        assertEquals(List.of("id", "name", "floor"), table.getColumns());
+        assertEquals(Arrays.asList(1L, "Deluxe", null), table.getRows().get(0));
+        assertEquals(Arrays.asList(2L, null, 3), table.getRows().get(1));
+    }
+
+    @Test
+    void columnarCborIsAFractionOfRowJson() throws Exception {
+        List<Map<String, Object>> rooms = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Map<String, Object> room = new HashMap<>();
+            room.put("id", (long) i);
+            room.put("roomNumber", String.valueOf(100 + i));
+            room.put("roomTypeId", (long) (i % 5));
+            room.put("roomTypeName", "Type " + (i % 5));
+            room.put("floor", i / 50);
+            room.put("status", "AVAILABLE");
+            room.put("basePrice", BigDecimal.valueOf(4500));
+            room.put("maxOccupancy", 2);
+            rooms.add(room);
+        }
+        ColumnarTable table = ColumnarTable.of(rooms);
+
+        byte[] rowJson = json.writeValueAsBytes(rooms);
+        byte[] columnarJson = json.writeValueAsBytes(table);
+        byte[] columnarCbor = cbor.writeValueAsBytes(table);
+
+        assertTrue(columnarJson.length < rowJson.length / 2, columnarJson.length + " vs " + rowJson.length);
+        assertTrue(columnarCbor.length < columnarJson.length, columnarCbor.length + " vs " + columnarJson.length);
+
+        ColumnarTable decoded = cbor.readValue(columnarCbor, ColumnarTable.class);
+        assertEquals(table.getColumns(), decoded.getColumns());
+        assertEquals(3000, decoded.getRows().size());
+        assertEquals("3099", decoded.getRows().get(2999).get(table.getColumns().indexOf("roomNumber")));
+    }
+}
@@ -0,0 +1,204 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.spring.hotel_management_backend.model.dto.mobile.request.PushUpdateRequest;
+import com.spring.hotel_management_backend.model.entity.Booking;
+import com.spring.hotel_management_backend.model.entity.SyncOperationReceipt;
+import com.spring.hotel_management_backend.model.entity.User;
+import com.spring.hotel_management_backend.model.enums.RoleType;
+import com.spring.hotel_management_backend.repository.SyncOperationReceiptRepository;
+import com.spring.hotel_management_backend.repository.SyncPushBatchRepository;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SyncPushPipelineTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String DEVICE_ID = "tablet-1";
+    private static final AuthenticatedUser CALLER = caller();
+
+    private final RecordingHandler attendance = new RecordingHandler("ATTENDANCE");
+    private final RecordingHandler tasks = new RecordingHandler("TASK");
+    private final List<SyncOperationReceipt> receipts = new ArrayList<>();
+    private SyncOperationReceiptRepository receiptRepository;
+    private SyncPushPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        receiptRepository = mock(SyncOperationReceiptRepository.class);
+        SyncPushBatchRepository batchRepository = mock(SyncPushBatchRepository.class);
+        doAnswer(invocation -> receipts.addAll(invocation.getArgument(0)))
+                .when(batchRepository).insertReceipts(any());
+
+        pipeline = new SyncPushPipeline(List.of(attendance, tasks), receiptRepository, batchRepository,
+                new TransactionTemplate(new NoOpTransactionManager()), mock(EntityManager.class));
+        ReflectionTestUtils.setField(pipeline, "batchSize", 3);
+    }
+
+    @Test
+    void groupsByTypeInQueueOrderAndAnswersRetriesAsDuplicates() {
+        SyncOperationReceipt earlier = new SyncOperationReceipt();
+        earlier.setOperationId("a2");
+        earlier.setEntityId(42L);
+        when(receiptRepository.findByUserIdAndOperationIdIn(eq(USER_ID), anyCollection())).thenReturn(List.of(earlier));
+
+        List<PushOperation> results = pipeline.process(CALLER, DEVICE_ID, List.of(
+                op("a1", "ATTENDANCE"), op("t1", "TASK"), op("a2", "ATTENDANCE"),
+                op("a3", "ATTENDANCE"), op("a1", "ATTENDANCE"), op("x1", "INVOICE"), op(null, "TASK")));
+
+        assertEquals(List.of(List.of("a1", "a3")), attendance.batches);
+        assertEquals(List.of(List.of("t1")), tasks.batches);
+        assertEquals(List.of("APPLIED", "APPLIED", "DUPLICATE", "APPLIED", "DUPLICATE", "FAILED", "FAILED"),
+                results.stream().map(r -> r.getStatus().name()).collect(Collectors.toList()));
+        assertEquals(42L, results.get(2).getEntityId());
+        // The repeat within the request points at the row the first one created
+        assertEquals(results.get(0).getEntityId(), results.get(4).getEntityId());
+        assertEquals("Unsupported entity type: INVOICE", results.get(5).getError());
+        assertEquals(List.of("a1", "a3", "t1"),
+                receipts.stream().map(SyncOperationReceipt::getOperationId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void failedBatchIsRetriedOneByOne() {
+        List<PushOperation> results = pipeline.process(CALLER, DEVICE_ID, List.of(
+                op("a1", "ATTENDANCE"), op("boom", "ATTENDANCE"), op("a3", "ATTENDANCE")));
+
+        assertEquals(List.of(List.of("a1", "boom", "a3"), List.of("a1"), List.of("boom"), List.of("a3")),
+                attendance.batches);
+        assertEquals(PushOperation.Status.APPLIED, results.get(0).getStatus());
+        assertEquals(PushOperation.Status.FAILED, results.get(1).getStatus());
+        assertEquals("constraint violated", results.get(1).getError());
+        assertNull(results.get(1).getEntityId());
+        assertEquals(PushOperation.Status.APPLIED, results.get(2).getStatus());
+        // Receipts of the rolled-back batch are not kept
+        assertEquals(List.of("a1", "a3"),
+                receipts.stream().map(SyncOperationReceipt::getOperationId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void conflictsGetReceiptsAndRetriesAreAnsweredWithTheConflict() {
+        List<PushOperation> first = pipeline.process(CALLER, DEVICE_ID, List.of(
+                op("t1", "TASK"), op("stale", "TASK"), op("stale", "TASK")));
+
+        assertEquals(List.of("APPLIED", "CONFLICT", "CONFLICT"),
+                first.stream().map(r -> r.getStatus().name()).collect(Collectors.toList()));
+        assertEquals(5001L, first.get(1).getConflictId());
+        assertEquals(first.get(1).getConflictId(), first.get(2).getConflictId());
+        SyncOperationReceipt receipt = receipts.get(1);
+        assertEquals("stale", receipt.getOperationId());
+        assertEquals(5001L, receipt.getConflictId());
+
+        when(receiptRepository.findByUserIdAndOperationIdIn(eq(USER_ID), anyCollection())).thenReturn(List.of(receipt));
+        List<PushOperation> retry = pipeline.process(CALLER, DEVICE_ID, List.of(op("stale", "TASK")));
+
+        assertEquals(PushOperation.Status.CONFLICT, retry.get(0).getStatus());
+        assertEquals(5001L, retry.get(0).getConflictId());
+        assertEquals(1, tasks.batches.size());
+    }
+
+    @Test
+    void largeQueueIsAppliedInBatches() {
+        ReflectionTestUtils.setField(pipeline, "batchSize", 500);
+        List<PushUpdateRequest.SyncOperation> queue = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            queue.add(op("op-" + i, i % 2 == 0 ? "ATTENDANCE" : "TASK"));
+        }
+
+        List<PushOperation> results = pipeline.process(CALLER, DEVICE_ID, queue);
+
+        assertEquals(10, attendance.batches.size());
+        assertEquals(10, tasks.batches.size());
+        assertEquals(10_000, results.stream().filter(r -> r.getStatus() == PushOperation.Status.APPLIED).count());
+        assertEquals(10_000, receipts.size());
+        // One receipt lookup per 1000 operation ids
+        verify(receiptRepository, times(10)).findByUserIdAndOperationIdIn(eq(USER_ID), anyCollection());
+    }
+
+    private static AuthenticatedUser caller() {
+        User user = new User();
+        user.setId(USER_ID);
+        user.setUsername("frontdesk");
+        user.setRole(RoleType.STAFF);
+        return new AuthenticatedUser(user);
+    }
+
+    private static PushUpdateRequest.SyncOperation op(String operationId, String entityType) {
+        PushUpdateRequest.SyncOperation operation = new PushUpdateRequest.SyncOperation();
+        operation.setOperationId(operationId);
+        operation.setEntityType(entityType);
+        operation.setOperationType("UPDATE");
+        operation.setData(Map.of("id", 1));
+        return operation;
+    }
+
+    // Applies everything, reports "stale" as a conflict and fails the whole batch when it contains "boom"
+    private static class RecordingHandler implements SyncPushHandler {
+
+        private final String entityType;
+        private final List<List<String>> batches = new ArrayList<>();
+
+        RecordingHandler(String entityType) {
+            this.entityType = entityType;
+        }
+
+        @Override
+        public String getEntityType() {
+            return entityType;
+        }
+
+        @Override
+        public void apply(List<PushOperation> operations) {
+            batches.add(operations.stream().map(PushOperation::getOperationId).collect(Collectors.toList()));
+            operations.forEach(operation -> {
+                if ("stale".equals(operation.getOperationId())) {
+                    operation.conflict(1L, 5000L + operation.getIndex());
+                } else {
+                    Booking row = new Booking();
+                    row.setId(1000L + operation.getIndex());
+                    operation.applied(row);
+                }
+            });
+            if (operations.stream().anyMatch(operation -> "boom".equals(operation.getOperationId()))) {
+                throw new RuntimeException("constraint violated");
+            }
+        }
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
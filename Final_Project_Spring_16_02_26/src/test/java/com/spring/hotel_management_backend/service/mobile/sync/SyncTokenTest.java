@@ -0,0 +1,39 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.spring.hotel_management_backend.model.enums.SyncEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncTokenTest {
+
+    @Test
+    void roundTripsScopeAndWatermarks() {
+        LocalDateTime rooms = LocalDateTime.of(2026, 5, 1, 10, 15, 30, 123_000_000);
+        String encoded = new SyncToken(7L)
+                .withWatermark(SyncEntity.ROOMS, rooms)
+                .withWatermark(SyncEntity.GUESTS, rooms.minusDays(3))
+                .encode();
+
+        SyncToken parsed = SyncToken.parse(encoded);
+        assertNotNull(parsed);
+        assertTrue(parsed.isScopedTo(7L));
+        assertFalse(parsed.isScopedTo(null));
+        assertEquals(rooms, parsed.getWatermark(SyncEntity.ROOMS));
+        assertEquals(rooms.minusDays(3), parsed.getWatermark(SyncEntity.GUESTS));
+        assertNull(parsed.getWatermark(SyncEntity.HOTELS));
+
+        assertTrue(SyncToken.parse(new SyncToken(null).encode()).isScopedTo(null));
+    }
+
+    @Test
+    void unreadableTokensMeanFullSync() {
+        assertNull(SyncToken.parse(null));
+        assertNull(SyncToken.parse(""));
+        assertNull(SyncToken.parse("not base64!"));
+        assertNull(SyncToken.parse("djI7Kg"));        // "v2;*"
+        assertNull(SyncToken.parse("djE7KjtST09NUz14")); // "v1;*;ROOMS=x"
+    }
+}
@@ -0,0 +1,92 @@
+package com.spring.hotel_management_backend.service.mobile.sync;
+
+import com.spring.hotel_management_backend.model.dto.mobile.request.PushUpdateRequest;
+import com.spring.hotel_management_backend.model.entity.Hotel;
+import com.spring.hotel_management_backend.model.entity.HousekeepingTask;
+import com.spring.hotel_management_backend.model.entity.User;
+import com.spring.hotel_management_backend.model.enums.RoleType;
+import com.spring.hotel_management_backend.repository.HousekeepingTaskRepository;
+import com.spring.hotel_management_backend.security.AuthenticatedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TaskPushHandlerTest {
+
+    private HousekeepingTask ownTask;
+    private HousekeepingTask otherHotelTask;
+    private TaskPushHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        ownTask = task(1L, 10L);
+        otherHotelTask = task(2L, 20L);
+        HousekeepingTaskRepository repository = mock(HousekeepingTaskRepository.class);
+        when(repository.findAllById(any())).thenReturn(List.of(ownTask, otherHotelTask));
+        SyncConflictDetector detector = mock(SyncConflictDetector.class);
+        when(detector.check(any(), any(), anyMap())).thenReturn(true);
+        handler = new TaskPushHandler(repository, detector);
+    }
+
+    @Test
+    void staffOnlyReachTasksOfTheirHotel() {
+        AuthenticatedUser staff = caller(RoleType.STAFF, 10L);
+        PushOperation own = operation(staff, 1L);
+        PushOperation foreign = operation(staff, 2L);
+
+        handler.apply(List.of(own, foreign));
+
+        assertEquals(PushOperation.Status.APPLIED, own.getStatus());
+        assertEquals("IN_PROGRESS", ownTask.getStatus());
+        assertEquals(PushOperation.Status.FAILED, foreign.getStatus());
+        assertEquals("Task not found with id: 2", foreign.getError());
+        assertEquals("PENDING", otherHotelTask.getStatus());
+    }
+
+    @Test
+    void chainAdminReachesEveryHotelButUnassignedStaffNone() {
+        PushOperation byAdmin = operation(caller(RoleType.ADMIN, null), 2L);
+        PushOperation byUnassigned = operation(caller(RoleType.STAFF, null), 1L);
+
+        handler.apply(List.of(byAdmin, byUnassigned));
+
+        assertEquals(PushOperation.Status.APPLIED, byAdmin.getStatus());
+        assertEquals(PushOperation.Status.FAILED, byUnassigned.getStatus());
+    }
+
+    private static HousekeepingTask task(Long id, Long hotelId) {
+        HousekeepingTask task = new HousekeepingTask();
+        task.setId(id);
+        task.setHotelId(hotelId);
+        task.setStatus("PENDING");
+        return task;
+    }
+
+    private static AuthenticatedUser caller(RoleType role, Long hotelId) {
+        User user = new User();
+        user.setId(7L);
+        user.setRole(role);
+        if (hotelId != null) {
+            user.setHotel(new Hotel());
+            user.getHotel().setId(hotelId);
+        }
+        return new AuthenticatedUser(user);
+    }
+
+    private static PushOperation operation(AuthenticatedUser caller, Long taskId) {
+        PushUpdateRequest.SyncOperation operation = new PushUpdateRequest.SyncOperation();
+        operation.setOperationId("task-" + taskId);
+        operation.setEntityType("TASK");
+        operation.setOperationType("UPDATE");
+        operation.setData(Map.of("id", taskId, "status", "IN_PROGRESS"));
+        return new PushOperation(0, caller, "tablet-1", operation);
+    }
+}